@@ -1,6 +1,9 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkscheduler;
+import benchmarkquery;
+import benchmarkcache;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +20,10 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addRecordFunctions();
+    addQueryFunctions();
+    addCacheFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,12 +120,16 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadJsonFromCharacterChannel"] = benchmarkio:benchmarkReadJsonFromCharacterChannel;
+    functions["benchmarkReadJsonFromEntityBody"] = benchmarkio:benchmarkReadJsonFromEntityBody;
 }
 
 function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
     functions["benchmarkStringConcat"] = benchmarktypes:benchmarkStringConcat;
+    functions["benchmarkStringConcatLoop"] = benchmarktypes:benchmarkStringConcatLoop;
+    functions["benchmarkStringConcatLoopNonBmp"] = benchmarktypes:benchmarkStringConcatLoopNonBmp;
     functions["benchmarkStringHasPrefix"] = benchmarktypes:benchmarkStringHasPrefix;
     functions["benchmarkStringHasSuffix"] = benchmarktypes:benchmarkStringHasSuffix;
     functions["benchmarkStringIndexOf"] = benchmarktypes:benchmarkStringIndexOf;
@@ -140,3 +151,34 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addSchedulerFunctions() {
+    functions["benchmarkStrandSpawnAndWait"] = benchmarkscheduler:benchmarkStrandSpawnAndWait;
+    functions["benchmarkNestedStrandSpawn"] = benchmarkscheduler:benchmarkNestedStrandSpawn;
+    functions["benchmarkWorkerPingPong"] = benchmarkscheduler:benchmarkWorkerPingPong;
+    functions["benchmarkWorkerStreaming"] = benchmarkscheduler:benchmarkWorkerStreaming;
+    functions["benchmarkWorkerSyncSend"] = benchmarkscheduler:benchmarkWorkerSyncSend;
+}
+
+function addRecordFunctions() {
+    functions["benchmarkClosedRecordFieldAccess"] = benchmarktypes:benchmarkClosedRecordFieldAccess;
+    functions["benchmarkClosedRecordIteration"] = benchmarktypes:benchmarkClosedRecordIteration;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQueryWhereSelect"] = benchmarkquery:benchmarkQueryWhereSelect;
+    functions["benchmarkQueryLetWhereSelect"] = benchmarkquery:benchmarkQueryLetWhereSelect;
+    functions["benchmarkQueryJoin"] = benchmarkquery:benchmarkQueryJoin;
+    functions["benchmarkQueryOrderByLimit"] = benchmarkquery:benchmarkQueryOrderByLimit;
+    functions["benchmarkQueryAction"] = benchmarkquery:benchmarkQueryAction;
+    functions["benchmarkQueryStreamWhereSelect"] = benchmarkquery:benchmarkQueryStreamWhereSelect;
+    functions["benchmarkForeachWhereSelect"] = benchmarkquery:benchmarkForeachWhereSelect;
+}
+
+function addCacheFunctions() {
+    functions["benchmarkCacheGet"] = benchmarkcache:benchmarkCacheGet;
+    functions["benchmarkCacheConcurrentGet"] = benchmarkcache:benchmarkCacheConcurrentGet;
+    functions["benchmarkCachePutWithEviction"] = benchmarkcache:benchmarkCachePutWithEviction;
+    functions["benchmarkCacheHitRateLru"] = benchmarkcache:benchmarkCacheHitRateLru;
+    functions["benchmarkCacheHitRateTinyLfu"] = benchmarkcache:benchmarkCacheHitRateTinyLfu;
+}
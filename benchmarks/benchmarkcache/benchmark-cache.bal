@@ -0,0 +1,111 @@
+import ballerina/cache;
+
+const int CACHE_CAPACITY = 1000;
+const int KEY_COUNT = 1000;
+const int STRAND_COUNT = 16;
+const int GETS_PER_STRAND = 1000;
+const int TRACE_LENGTH = 5000;
+
+string[] keys = createKeys(CACHE_CAPACITY * 20);
+int[] skewedTrace = createSkewedTrace();
+cache:Cache readCache = createFullCache();
+
+// Reads the entries of a full cache from a single strand.
+public function benchmarkCacheGet() {
+    foreach int i in 0 ..< KEY_COUNT {
+        any|cache:Error value = readCache.get(keys[i]);
+    }
+}
+
+// Reads the entries of a full cache from many strands at once, which contend on the cache.
+public function benchmarkCacheConcurrentGet() {
+    future<()>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures[i] = start getEntries(i);
+    }
+    foreach var f in futures {
+        () result = wait f;
+    }
+}
+
+// Puts new entries to a full cache, which evicts the least recently used entries.
+public function benchmarkCachePutWithEviction() {
+    cache:Cache cache = new({capacity: CACHE_CAPACITY, evictionFactor: 0.25});
+    foreach int i in 0 ..< CACHE_CAPACITY * 4 {
+        checkpanic cache.put(keys[i], i);
+    }
+}
+
+// Replays a skewed access trace, where three in every ten requests belong to a scan, with the LRU eviction policy.
+// Every miss loads the value, so that a lower hit rate shows up as a lower throughput.
+public function benchmarkCacheHitRateLru() {
+    cache:LruEvictionPolicy lruEvictionPolicy = new;
+    replaySkewedTrace(new({capacity: CACHE_CAPACITY / 10, evictionPolicy: lruEvictionPolicy,
+                           evictionFactor: 0.01}));
+}
+
+// Replays the same trace as `benchmarkCacheHitRateLru` with the W-TinyLFU eviction policy.
+public function benchmarkCacheHitRateTinyLfu() {
+    cache:TinyLfuEvictionPolicy tinyLfuEvictionPolicy = new;
+    replaySkewedTrace(new({capacity: CACHE_CAPACITY / 10, evictionPolicy: tinyLfuEvictionPolicy}));
+}
+
+function getEntries(int offset) {
+    foreach int i in 0 ..< GETS_PER_STRAND {
+        any|cache:Error value = readCache.get(keys[(i + offset * 61) % KEY_COUNT]);
+    }
+}
+
+function replaySkewedTrace(cache:Cache cache) {
+    foreach int keyIndex in skewedTrace {
+        string key = keys[keyIndex];
+        if (!cache.hasKey(key)) {
+            checkpanic cache.put(key, loadValue(keyIndex));
+        } else {
+            any|cache:Error value = cache.get(key);
+        }
+    }
+}
+
+function loadValue(int keyIndex) returns string {
+    string value = "";
+    foreach int i in 0 ..< 20 {
+        value = value + keyIndex.toString();
+    }
+    return value;
+}
+
+function createFullCache() returns cache:Cache {
+    cache:Cache cache = new({capacity: CACHE_CAPACITY});
+    foreach int i in 0 ..< KEY_COUNT {
+        checkpanic cache.put(keys[i], i);
+    }
+    return cache;
+}
+
+function createKeys(int count) returns string[] {
+    string[] result = [];
+    foreach int i in 0 ..< count {
+        result[i] = "key-" + i.toString();
+    }
+    return result;
+}
+
+// Creates a trace, which requests a few hot keys most of the time and scans through the rest of the keys.
+function createSkewedTrace() returns int[] {
+    int[] trace = [];
+    int scanIndex = CACHE_CAPACITY;
+    int seed = 7;
+    foreach int i in 0 ..< TRACE_LENGTH {
+        if (i % 10 < 3) {
+            trace[i] = scanIndex;
+            scanIndex = scanIndex + 1;
+        } else {
+            seed = (seed * 1103515245 + 12345) % 2147483648;
+            // Squaring a uniform value skews the keys towards the start of the key range.
+            int uniform = seed % 1000;
+            trace[i] = (uniform * uniform) / 1000;
+        }
+    }
+    return trace;
+}
@@ -0,0 +1,18 @@
+import ballerina/io;
+import ballerina/mime;
+
+// Reads the payload through a character channel, which decodes the whole content into characters before parsing it.
+public function benchmarkReadJsonFromCharacterChannel() {
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile("benchmarkio/resources/testJsonLarge.txt");
+    io:ReadableCharacterChannel characterChannel = new io:ReadableCharacterChannel(byteChannel, "UTF-8");
+    json|error result = characterChannel.readJson();
+    var closeResult = characterChannel.close();
+}
+
+// Reads the payload as an entity body, which parses the UTF-8 content straight from its bytes.
+public function benchmarkReadJsonFromEntityBody() {
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile("benchmarkio/resources/testJsonLarge.txt");
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, contentType = "application/json; charset=utf-8");
+    json|error result = entity.getJson();
+}
@@ -0,0 +1,94 @@
+const int ROW_COUNT = 1000;
+
+type Employee record {|
+    int id;
+    string name;
+    int deptId;
+    int salary;
+|};
+
+type Department record {|
+    int id;
+    string name;
+|};
+
+type EmployeeSummary record {|
+    string name;
+    string dept;
+    int bonus;
+|};
+
+Employee[] employees = createEmployees();
+Department[] departments = createDepartments();
+
+public function benchmarkQueryWhereSelect() {
+    int[] ids = from var e in employees
+                where e.salary > 5000
+                select e.id;
+}
+
+public function benchmarkQueryLetWhereSelect() {
+    EmployeeSummary[] summaries = from var e in employees
+                                  let int bonus = e.salary / 10
+                                  where bonus > 500
+                                  select {name: e.name, dept: "", bonus: bonus};
+}
+
+public function benchmarkQueryJoin() {
+    EmployeeSummary[] summaries = from var e in employees
+                                  join var d in departments on e.deptId equals d.id
+                                  select {name: e.name, dept: d.name, bonus: e.salary / 10};
+}
+
+public function benchmarkQueryOrderByLimit() {
+    string[] names = from var e in employees
+                     order by e.salary descending
+                     limit 10
+                     select e.name;
+}
+
+public function benchmarkQueryAction() {
+    int total = 0;
+    error? result = from var e in employees
+                    where e.deptId == 1
+                    do {
+                        total = total + e.salary;
+                    };
+}
+
+// Queries over a stream are run by the `_StreamPipeline`, since the next method of a stream may yield. This is the
+// query of `benchmarkQueryWhereSelect` over the same employees, so the two compare the pipelines.
+public function benchmarkQueryStreamWhereSelect() {
+    int[] ids = from var e in employees.toStream()
+                where e.salary > 5000
+                select e.id;
+}
+
+public function benchmarkForeachWhereSelect() {
+    int[] ids = [];
+    foreach var e in employees {
+        if (e.salary > 5000) {
+            ids.push(e.id);
+        }
+    }
+}
+
+function createEmployees() returns Employee[] {
+    Employee[] result = [];
+    int i = 0;
+    while (i < ROW_COUNT) {
+        result.push({id: i, name: "employee-" + i.toString(), deptId: i % 10, salary: (i * 37) % 10000});
+        i = i + 1;
+    }
+    return result;
+}
+
+function createDepartments() returns Department[] {
+    Department[] result = [];
+    int i = 0;
+    while (i < 10) {
+        result.push({id: i, name: "department-" + i.toString()});
+        i = i + 1;
+    }
+    return result;
+}
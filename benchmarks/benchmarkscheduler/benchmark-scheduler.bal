@@ -0,0 +1,46 @@
+const int STRAND_COUNT = 1000;
+
+public function benchmarkStrandSpawnAndWait() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < STRAND_COUNT) {
+        futures[i] = start increment(i);
+        i = i + 1;
+    }
+    int sum = 0;
+    foreach var f in futures {
+        int result = wait f;
+        sum = sum + result;
+    }
+}
+
+public function benchmarkNestedStrandSpawn() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 32) {
+        futures[i] = start spawnChildren(32);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+function spawnChildren(int count) returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures[i] = start increment(i);
+        i = i + 1;
+    }
+    int sum = 0;
+    foreach var f in futures {
+        int result = wait f;
+        sum = sum + result;
+    }
+    return sum;
+}
+
+function increment(int value) returns int {
+    return value + 1;
+}
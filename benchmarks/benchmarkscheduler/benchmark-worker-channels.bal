@@ -0,0 +1,63 @@
+const int MESSAGE_COUNT = 1000;
+
+public function benchmarkWorkerPingPong() {
+    worker ping {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            i -> pong;
+            int reply = <- pong;
+            i = reply + 1;
+        }
+    }
+
+    worker pong {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int received = <- ping;
+            received -> ping;
+            i = received + 1;
+        }
+    }
+    wait ping;
+}
+
+public function benchmarkWorkerStreaming() {
+    worker producer {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            i -> consumer;
+            i = i + 1;
+        }
+        error? result = flush consumer;
+    }
+
+    worker consumer {
+        int sum = 0;
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int received = <- producer;
+            sum = sum + received;
+            i = i + 1;
+        }
+    }
+    wait consumer;
+}
+
+public function benchmarkWorkerSyncSend() {
+    worker producer {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            error? result = i ->> consumer;
+            i = i + 1;
+        }
+    }
+
+    worker consumer {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int received = <- producer;
+            i = i + 1;
+        }
+    }
+    wait producer;
+}
@@ -0,0 +1,26 @@
+type ClosedPoint record {|
+    int x;
+    int y;
+    float weight;
+    boolean visible;
+|};
+
+public function benchmarkClosedRecordFieldAccess() {
+    ClosedPoint p = {x: 1, y: 2, weight: 0.5, visible: true};
+    int i = 0;
+    while (i < 100) {
+        p.x = p.x + p.y;
+        p.weight = p.weight * 1.5;
+        i = i + 1;
+    }
+}
+
+public function benchmarkClosedRecordIteration() {
+    ClosedPoint p = {x: 1, y: 2, weight: 0.5, visible: true};
+    int count = 0;
+    foreach var [key, value] in p.entries() {
+        count = count + 1;
+    }
+    string[] keys = p.keys();
+    int length = p.length();
+}
@@ -16,6 +16,22 @@ public function benchmarkStringConcat() {
     string s3 = s2 + s2;
 }
 
+public function benchmarkStringConcatLoop() {
+    string line = "";
+    foreach int i in 0 ..< 1000 {
+        line = line + "field-" + i.toString() + ",";
+    }
+    int length = line.length();
+}
+
+public function benchmarkStringConcatLoopNonBmp() {
+    string line = "";
+    foreach int i in 0 ..< 1000 {
+        line = line + "\u{1F600}" + i.toString() + ",";
+    }
+    int length = line.length();
+}
+
 public function benchmarkStringHasPrefix() {
     string name = "randomPerson";
     string prefix = "Mr";
@@ -33,14 +33,22 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    private final BLockStore lockStore;
+
     public BLock() {
+        this(null);
+    }
+
+    public BLock(BLockStore lockStore) {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.lockStore = lockStore;
     }
 
     public synchronized boolean lock(Strand strand) {
         if (isLockFree() || lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
@@ -54,7 +62,8 @@ public class BLock {
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand owner = this.current.removeLast();
+        owner.removeAcquiredLock(this);
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
             strand.scheduler.unblockStrand(strand);
@@ -68,4 +77,8 @@ public class BLock {
     public boolean lockedBySameContext(Strand ctx) {
         return this.current.getLast() == ctx;
     }
+
+    public BLockStore getLockStore() {
+        return lockStore;
+    }
 }
@@ -32,6 +32,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -68,7 +69,8 @@ public class JsonGenerator {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(StandardCharsets.UTF_8.equals(charset) ? new Utf8StreamWriter(out) :
+                     new BufferedWriter(new OutputStreamWriter(out, charset)));
     }
 
     public JsonGenerator(Writer writer) {
@@ -154,18 +156,17 @@ public class JsonGenerator {
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
+            this.writer.write(value);
         }
         this.writer.write("\"");
     }
@@ -308,6 +309,7 @@ public class JsonGenerator {
                 this.writeNumber(((Number) json).intValue());
                 break;
             case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
             case TypeTags.JSON_TAG:
                 this.startObject();
                 for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
@@ -323,4 +325,105 @@ public class JsonGenerator {
                 break;
         }
     }
+
+    /**
+     * Writes characters to an {@link OutputStream} as UTF-8. The characters are encoded straight into a single byte
+     * buffer, which is written out each time it fills up, so that large values reach the output stream in fixed size
+     * chunks while they are being generated.
+     */
+    private static class Utf8StreamWriter extends Writer {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final byte REPLACEMENT_BYTE = '?';
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int count;
+        private char highSurrogate;
+
+        Utf8StreamWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            this.writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                this.writeChar(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                this.writeChar(str.charAt(i));
+            }
+        }
+
+        private void writeChar(char ch) throws IOException {
+            if (this.count > BUFFER_SIZE - 4) {
+                this.flushBuffer();
+            }
+            if (ch < 0x80 && this.highSurrogate == 0) {
+                this.buffer[this.count++] = (byte) ch;
+                return;
+            }
+            if (this.highSurrogate != 0) {
+                char high = this.highSurrogate;
+                this.highSurrogate = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    int codePoint = Character.toCodePoint(high, ch);
+                    this.buffer[this.count++] = (byte) (0xF0 | (codePoint >> 18));
+                    this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    this.buffer[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // A lone high surrogate is replaced the same way as the JDK encoder replaces it.
+                this.buffer[this.count++] = REPLACEMENT_BYTE;
+                this.writeChar(ch);
+                return;
+            }
+            if (ch < 0x800) {
+                this.buffer[this.count++] = (byte) (0xC0 | (ch >> 6));
+                this.buffer[this.count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch)) {
+                this.highSurrogate = ch;
+            } else if (Character.isLowSurrogate(ch)) {
+                this.buffer[this.count++] = REPLACEMENT_BYTE;
+            } else {
+                this.buffer[this.count++] = (byte) (0xE0 | (ch >> 12));
+                this.buffer[this.count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                this.buffer[this.count++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (this.count > 0) {
+                this.out.write(this.buffer, 0, this.count);
+                this.count = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.flushBuffer();
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flushBuffer();
+            if (this.highSurrogate != 0) {
+                this.highSurrogate = 0;
+                this.buffer[this.count++] = REPLACEMENT_BYTE;
+            }
+            this.flush();
+            this.out.close();
+        }
+    }
 }
@@ -20,13 +20,25 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import io.ballerina.runtime.internal.values.DecimalValue;
@@ -40,8 +52,12 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
+import java.util.function.BiFunction;
 
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
@@ -61,6 +77,13 @@ public class JsonParser {
         }
     };
 
+    private static ThreadLocal<TypedStateMachine> tlTypedStateMachine = new ThreadLocal<TypedStateMachine>() {
+        @Override
+        public TypedStateMachine initialValue() {
+            return new TypedStateMachine();
+        }
+    };
+
     /**
      * Parses the contents in the given {@link InputStream} and returns a json.
      *
@@ -83,6 +106,11 @@ public class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
         try {
+            if (isUtf8(charsetName)) {
+                // UTF-8 content is parsed straight from its bytes, without decoding it into characters first.
+                byte[] bytes = in.readAllBytes();
+                return Utf8JsonParser.parse(bytes, bytes.length);
+            }
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
             return changeForBString(jsonObj);
@@ -115,6 +143,15 @@ public class JsonParser {
         return parse(new StringReader(jsonStr), mode);
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // Unsupported charsets are reported by the reader, the same way as before.
+            return false;
+        }
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -142,6 +179,47 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Parses the contents in the given {@link Reader} directly into a value of the given type, without building an
+     * intermediate json value. Records, maps, tables and open arrays are created as the content is read. Any other
+     * object or array in the content is parsed as json, and then converted to the expected type using the given
+     * converter.
+     * <p>
+     * If the content cannot be bound to the target type, an {@link UnsupportedTargetTypeException} is thrown instead
+     * of an error. The caller is expected to parse the content as json and convert it to the target type, which
+     * reports why the content does not belong to the target type.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType the type of the value to be created
+     * @param converter  function which converts a json value to a given type
+     * @return value of the target type
+     * @throws BError for any parsing error
+     * @throws UnsupportedTargetTypeException if the content cannot be bound to the target type
+     */
+    public static Object parse(Reader reader, Type targetType, BiFunction<Object, Type, Object> converter)
+            throws BError {
+        TypedStateMachine sm = tlTypedStateMachine.get();
+        try {
+            sm.setTargetType(targetType, converter);
+            return sm.execute(reader);
+        } finally {
+            sm.reset();
+        }
+    }
+
+    /**
+     * Thrown when the content being parsed directly into a value cannot be bound to the expected type. It does not
+     * describe the reason, which is reported by converting the content parsed as json instead.
+     */
+    public static class UnsupportedTargetTypeException extends RuntimeException {
+
+        private static final long serialVersionUID = -3409254432157457021L;
+
+        UnsupportedTargetTypeException(String msg) {
+            super(msg, null, false, false);
+        }
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -209,9 +287,9 @@ public class JsonParser {
         private Type definedJsonType = PredefinedTypes.TYPE_JSON;
 
 
-        private Object currentJsonNode;
-        private Deque<Object> nodesStack;
-        private Deque<String> fieldNames;
+        Object currentJsonNode;
+        Deque<Object> nodesStack;
+        Deque<String> fieldNames;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
@@ -231,6 +309,8 @@ public class JsonParser {
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
+            this.charBuffIndex = 0;
+            this.hexBuilder.setLength(0);
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
             this.setMode(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -283,11 +363,15 @@ public class JsonParser {
             } catch (IOException e) {
                 throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
             } catch (JsonParserException e) {
-                throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
-                                                                              "column: " + this.column));
+                throw createError(e.getMessage());
             }
         }
 
+        BError createError(String message) {
+            return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + this.line + " " +
+                                                                           "column: " + this.column));
+        }
+
         private void append(char ch) {
             try {
                 this.charBuff[this.charBuffIndex] = ch;
@@ -305,7 +389,7 @@ public class JsonParser {
             this.charBuff = newBuff;
         }
 
-        private State finalizeObject() {
+        State finalizeObject() {
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
@@ -322,7 +406,7 @@ public class JsonParser {
             return ARRAY_ELEMENT_END_STATE;
         }
 
-        private State initNewObject() {
+        State initNewObject() {
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -330,7 +414,7 @@ public class JsonParser {
             return FIRST_FIELD_READY_STATE;
         }
 
-        private State initNewArray() {
+        State initNewArray() {
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -675,8 +759,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        sm.setValueToJsonType(ValueType.FIELD, StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -708,7 +791,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(changeForBString(sm.value()));
+                        sm.setValueToJsonType(ValueType.ARRAY_ELEMENT, changeForBString(sm.value()));
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -820,7 +903,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = changeForBString(sm.value());
+                        sm.setValueToJsonType(ValueType.VALUE, changeForBString(sm.value()));
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -868,50 +951,11 @@ public class JsonParser {
             } else {
                 char ch = str.charAt(0);
                 if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.TRUE);
                 } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.FALSE);
                 } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, null);
                 } else {
                     try {
                         switch (mode) {
@@ -936,7 +980,7 @@ public class JsonParser {
             }
         }
 
-        private void setValueToJsonType(ValueType type, Object value) {
+        void setValueToJsonType(ValueType type, Object value) {
             switch (type) {
                 case ARRAY_ELEMENT:
                     ((ArrayValue) this.currentJsonNode).append(value);
@@ -1260,4 +1304,294 @@ public class JsonParser {
 
     }
 
+    /**
+     * Represents the state machine used for parsing JSON directly into a value of a given type. Objects and arrays
+     * which are expected to be records, maps, tables or arrays are created with their target type and filled in as
+     * the input is read. Any other object or array is parsed as json and handed to the converter once it is read.
+     */
+    private static class TypedStateMachine extends StateMachine {
+
+        private static final String ANON_TYPE_PREFIX = "$anon";
+
+        private Type targetType;
+        private BiFunction<Object, Type, Object> converter;
+
+        // Types of the typed nodes in the nodes stack, and the type of the current node.
+        private Deque<Type> typesStack;
+        private Type currentType;
+
+        // Depth of the object or array which is currently being parsed as json, and the type it is converted to
+        // once it is read. The type is null if the value is kept as json.
+        private int jsonDepth;
+        private Type jsonTargetType;
+
+        void setTargetType(Type targetType, BiFunction<Object, Type, Object> converter) {
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            this.targetType = null;
+            this.converter = null;
+            this.typesStack = new ArrayDeque<>();
+            this.currentType = null;
+            this.jsonDepth = 0;
+            this.jsonTargetType = null;
+        }
+
+        @Override
+        StateMachine.State initNewObject() {
+            if (this.jsonDepth > 0) {
+                this.jsonDepth++;
+                return super.initNewObject();
+            }
+
+            Type type = getExpectedType();
+            switch (type.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    if (!type.isReadOnly() && !type.getName().contains(ANON_TYPE_PREFIX)) {
+                        pushTypedNode(createRecordValue(type), type);
+                        return StateMachine.FIRST_FIELD_READY_STATE;
+                    }
+                    break;
+                case TypeTags.MAP_TAG:
+                    if (!type.isReadOnly()) {
+                        pushTypedNode(ValueCreator.createMapValue(type), type);
+                        return StateMachine.FIRST_FIELD_READY_STATE;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            startJsonValue(type);
+            return super.initNewObject();
+        }
+
+        @Override
+        StateMachine.State initNewArray() {
+            if (this.jsonDepth > 0) {
+                this.jsonDepth++;
+                return super.initNewArray();
+            }
+
+            Type type = getExpectedType();
+            switch (type.getTag()) {
+                case TypeTags.ARRAY_TAG:
+                    if (!type.isReadOnly() && ((ArrayType) type).getState() == ArrayType.ArrayState.OPEN) {
+                        pushTypedNode(ValueCreator.createArrayValue((ArrayType) type), type);
+                        return StateMachine.FIRST_ARRAY_ELEMENT_READY_STATE;
+                    }
+                    break;
+                case TypeTags.TABLE_TAG:
+                    int constraintTag = ((TableType) type).getConstrainedType().getTag();
+                    if (!type.isReadOnly() &&
+                            (constraintTag == TypeTags.RECORD_TYPE_TAG || constraintTag == TypeTags.MAP_TAG)) {
+                        pushTypedNode(ValueCreator.createTableValue((TableType) type), type);
+                        return StateMachine.FIRST_ARRAY_ELEMENT_READY_STATE;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            startJsonValue(type);
+            return super.initNewArray();
+        }
+
+        @Override
+        StateMachine.State finalizeObject() {
+            if (this.jsonDepth > 1) {
+                this.jsonDepth--;
+                return super.finalizeObject();
+            }
+
+            Object node = this.currentJsonNode;
+            if (this.jsonDepth == 1) {
+                this.jsonDepth = 0;
+                if (this.jsonTargetType != null) {
+                    node = applyConverter(node, this.jsonTargetType);
+                }
+            } else if (this.currentType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                checkRequiredFields((RecordType) this.currentType, (BMap<BString, Object>) node);
+            }
+
+            if (this.nodesStack.isEmpty()) {
+                this.currentJsonNode = node;
+                return StateMachine.DOC_END_STATE;
+            }
+            this.currentJsonNode = this.nodesStack.pop();
+            this.currentType = this.typesStack.pop();
+            if (isMappingType(this.currentType)) {
+                ((BMap<BString, Object>) this.currentJsonNode).put(StringUtils.fromString(this.fieldNames.pop()),
+                                                                   node);
+                return StateMachine.FIELD_END_STATE;
+            }
+            addElement(node);
+            return StateMachine.ARRAY_ELEMENT_END_STATE;
+        }
+
+        @Override
+        void setValueToJsonType(StateMachine.ValueType type, Object value) {
+            if (this.jsonDepth > 0) {
+                super.setValueToJsonType(type, value);
+                return;
+            }
+
+            switch (type) {
+                case ARRAY_ELEMENT:
+                    addElement(convert(value, getElementType()));
+                    break;
+                case FIELD:
+                    String fieldName = this.fieldNames.pop();
+                    ((BMap<BString, Object>) this.currentJsonNode).put(StringUtils.fromString(fieldName),
+                                                                       convert(value, getFieldType(fieldName)));
+                    break;
+                default:
+                    this.currentJsonNode = convert(value, this.targetType);
+                    break;
+            }
+        }
+
+        private void pushTypedNode(Object node, Type type) {
+            if (this.currentJsonNode != null) {
+                this.nodesStack.push(this.currentJsonNode);
+                this.typesStack.push(this.currentType);
+            }
+            this.currentJsonNode = node;
+            this.currentType = type;
+        }
+
+        private void startJsonValue(Type type) {
+            if (this.currentJsonNode != null) {
+                this.typesStack.push(this.currentType);
+            }
+            this.currentType = null;
+            this.jsonDepth = 1;
+            this.jsonTargetType = type.getTag() == TypeTags.JSON_TAG ? null : type;
+        }
+
+        private void addElement(Object value) {
+            if (this.currentType.getTag() == TypeTags.TABLE_TAG) {
+                try {
+                    ((BTable<Object, Object>) this.currentJsonNode).add(value);
+                } catch (BError e) {
+                    throw new UnsupportedTargetTypeException(e.getMessage());
+                }
+                return;
+            }
+            ((BArray) this.currentJsonNode).append(value);
+        }
+
+        private Type getExpectedType() {
+            Type type;
+            if (this.currentJsonNode == null) {
+                type = this.targetType;
+            } else if (isMappingType(this.currentType)) {
+                type = getFieldType(this.fieldNames.peek());
+            } else {
+                type = getElementType();
+            }
+            return getNonNilType(type);
+        }
+
+        private Type getFieldType(String fieldName) {
+            if (this.currentType.getTag() == TypeTags.MAP_TAG) {
+                return ((MapType) this.currentType).getConstrainedType();
+            }
+            RecordType recordType = (RecordType) this.currentType;
+            Field field = recordType.getFields().get(fieldName);
+            if (field != null) {
+                return field.getFieldType();
+            }
+            if (recordType.isSealed()) {
+                throw new UnsupportedTargetTypeException("field '" + fieldName +
+                                                                 "' cannot be added to the closed record '" +
+                                                                 recordType + "'");
+            }
+            return recordType.getRestFieldType();
+        }
+
+        private Type getElementType() {
+            if (this.currentType.getTag() == TypeTags.TABLE_TAG) {
+                return ((TableType) this.currentType).getConstrainedType();
+            }
+            return ((ArrayType) this.currentType).getElementType();
+        }
+
+        private void checkRequiredFields(RecordType recordType, BMap<BString, Object> record) {
+            for (Field field : recordType.getFields().values()) {
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                        !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                    throw new UnsupportedTargetTypeException("missing required field '" + field.getFieldName() +
+                                                                     "' in record '" + recordType + "'");
+                }
+            }
+        }
+
+        private Object convert(Object value, Type type) {
+            if (value == null) {
+                if (type.isNilable()) {
+                    return null;
+                }
+            } else {
+                List<Type> convertibleTypes = TypeConverter.getConvertibleTypesFromJson(value, type,
+                                                                                          new ArrayList<>());
+                if (convertibleTypes.size() == 1) {
+                    Type matchingType = convertibleTypes.get(0);
+                    if (TypeChecker.checkIsType(value, matchingType)) {
+                        return value;
+                    }
+                    if (!TypeTags.isXMLTypeTag(matchingType.getTag())) {
+                        try {
+                            return TypeConverter.convertValues(matchingType, value);
+                        } catch (BError e) {
+                            throw new UnsupportedTargetTypeException(e.getMessage());
+                        }
+                    }
+                }
+            }
+            // Leave the values which cannot be converted and strings which are parsed as xml to the converter.
+            return applyConverter(value, type);
+        }
+
+        private Object applyConverter(Object value, Type type) {
+            try {
+                return this.converter.apply(value, type);
+            } catch (BError | BallerinaException e) {
+                throw new UnsupportedTargetTypeException(e.getMessage());
+            }
+        }
+
+        private static Object createRecordValue(Type type) {
+            try {
+                return ValueCreator.createRecordValue(type.getPackage(), type.getName());
+            } catch (BError e) {
+                throw new UnsupportedTargetTypeException(e.getMessage());
+            }
+        }
+
+        private static boolean isMappingType(Type type) {
+            return type.getTag() == TypeTags.RECORD_TYPE_TAG || type.getTag() == TypeTags.MAP_TAG;
+        }
+
+        private static Type getNonNilType(Type type) {
+            if (type.getTag() != TypeTags.UNION_TAG) {
+                return type;
+            }
+            List<Type> memberTypes = ((UnionType) type).getMemberTypes();
+            if (memberTypes.size() != 2) {
+                return type;
+            }
+            if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+                return memberTypes.get(1);
+            }
+            if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+                return memberTypes.get(0);
+            }
+            return type;
+        }
+
+    }
+
 }
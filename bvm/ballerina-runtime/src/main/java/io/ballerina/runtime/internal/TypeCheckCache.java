@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Fixed size cache of the results of checking whether a type is a subtype of another type. A result is kept in the
+ * slot given by the identity hash codes of the two types, and replaces the result of any other pair of types in the
+ * slot. The entries are immutable, so that they can be read and replaced by many threads without locking.
+ *
+ * @since 2.0.0
+ */
+class TypeCheckCache {
+
+    private static final int SIZE = 1 << 12;
+    private static final int MASK = SIZE - 1;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the cached result, or null if the pair of types is not in the cache
+     */
+    Boolean get(Type sourceType, Type targetType) {
+        Entry entry = entries[index(sourceType, targetType)];
+        if (entry == null || entry.sourceType != sourceType || entry.targetType != targetType) {
+            return null;
+        }
+        return entry.result;
+    }
+
+    void put(Type sourceType, Type targetType, boolean result) {
+        entries[index(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    private static int index(Type sourceType, Type targetType) {
+        int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    /**
+     * Result of checking a pair of types.
+     */
+    private static class Entry {
+        final Type sourceType;
+        final Type targetType;
+        final boolean result;
+
+        Entry(Type sourceType, Type targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
@@ -121,6 +121,8 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
+
     public static Object checkCast(Object sourceVal, Type targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -414,7 +416,7 @@ public class TypeChecker {
      */
     public static boolean checkDecimalEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-               lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0;
+               lhsValue.compareValue(rhsValue) == 0;
     }
 
     /**
@@ -546,7 +548,20 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        if (sourceType == targetType) {
+            return true;
+        }
+
+        // Only the results of the outermost checks are cached, as a nested check of a recursive type may assume that
+        // a pair of types, which is still being checked, matches.
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        return result;
     }
 
     @Deprecated
@@ -1752,12 +1767,12 @@ public class TypeChecker {
         }
 
         for (int i = 0; i < source.paramTypes.length; i++) {
-            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i], new ArrayList<>())) {
+            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i])) {
                 return false;
             }
         }
 
-        return checkIsType(source.retType, targetType.retType, new ArrayList<>());
+        return checkIsType(source.retType, targetType.retType);
     }
 
     private static boolean hasIncompatibleIsolatedFlags(FunctionType target, FunctionType source) {
@@ -1988,7 +2003,7 @@ public class TypeChecker {
     private static boolean checkIsLikeType(Object sourceValue, Type targetType, List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion) {
         Type sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -2352,7 +2367,7 @@ public class TypeChecker {
             Type sourceElementType = ((BArrayType) source.getType()).getElementType();
             if (isValueType(sourceElementType)) {
 
-                if (checkIsType(sourceElementType, targetTypeElementType, new ArrayList<>())) {
+                if (checkIsType(sourceElementType, targetTypeElementType)) {
                     return true;
                 }
 
@@ -2418,7 +2433,7 @@ public class TypeChecker {
             ArrayValue source = (ArrayValue) sourceValue;
             Type elementType = ((BArrayType) source.getType()).getElementType();
             if (isValueType(elementType)) {
-                return checkIsType(elementType, targetType, new ArrayList<>());
+                return checkIsType(elementType, targetType);
             }
 
             Object[] arrayValues = source.getValues();
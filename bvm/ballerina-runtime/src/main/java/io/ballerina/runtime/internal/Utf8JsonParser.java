@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Parses UTF-8 encoded JSON content directly from its bytes. Unlike the {@link JsonParser} state machine, the content
+ * is not decoded into characters before it is parsed; only the contents of strings are decoded. The created json
+ * values are the same as the ones created by {@link JsonParser} when non-string values are processed in the
+ * {@code FROM_JSON_STRING} mode.
+ * <p>
+ * Strings and runs of spaces are scanned eight bytes at a time, by reading the bytes as a single {@code long}.
+ *
+ * @since 2.0.0
+ */
+class Utf8JsonParser {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+                                                                                    ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long SPACES = ONES * ' ';
+    private static final long BACKSLASHES = ONES * '\\';
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    // Markers returned instead of a member value, when an object or an array starts or ends.
+    private static final Object START_OF_NODE = new Object();
+    private static final Object END_OF_NODE = new Object();
+
+    private static final String NULL = "null";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    private final byte[] bytes;
+    private final int limit;
+    private int index;
+    private char[] charBuff = new char[256];
+
+    private Utf8JsonParser(byte[] bytes, int limit) {
+        this.bytes = bytes;
+        this.limit = limit;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content and returns a json.
+     *
+     * @param bytes the UTF-8 encoded JSON content
+     * @param length the number of bytes of the content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    static Object parse(byte[] bytes, int length) throws BError {
+        Utf8JsonParser parser = new Utf8JsonParser(bytes, length);
+        try {
+            return parser.parseDocument();
+        } catch (JsonParserException e) {
+            throw parser.createError(e.getMessage());
+        }
+    }
+
+    private Object parseDocument() throws JsonParserException {
+        skipWhitespace();
+        if (this.index == this.limit) {
+            throw new JsonParserException("empty JSON document");
+        }
+
+        Object value;
+        byte b = this.bytes[this.index];
+        if (b == '{' || b == '[') {
+            value = parseStructure();
+        } else if (b == '"' || b == '\'') {
+            this.index++;
+            value = readString(b);
+        } else {
+            value = readNonStringValue(false);
+        }
+
+        skipWhitespace();
+        if (this.index < this.limit) {
+            this.index++;
+            throw new JsonParserException("JSON document has already ended");
+        }
+        return value;
+    }
+
+    private Object parseStructure() throws JsonParserException {
+        // Objects and arrays are tracked with an explicit stack, so that deeply nested documents cannot overflow the
+        // call stack.
+        Deque<Object> nodesStack = new ArrayDeque<>();
+        Deque<String> fieldNames = new ArrayDeque<>();
+        Object currentNode = createNode(this.bytes[this.index++]);
+        boolean firstMember = true;
+
+        while (true) {
+            skipWhitespace();
+            byte b = nextByte();
+            Object value;
+            if (firstMember && isEndOfNode(currentNode, b)) {
+                value = END_OF_NODE;
+            } else if (currentNode instanceof MapValueImpl) {
+                if (b != '"' && b != '\'') {
+                    throw firstMember ? expected("\"", "}") : expected("\"");
+                }
+                fieldNames.push(readString(b).getValue());
+                skipWhitespace();
+                if (nextByte() != ':') {
+                    throwExpected(":");
+                }
+                skipWhitespace();
+                value = readMemberValue(nextByte());
+            } else {
+                value = readMemberValue(b);
+            }
+
+            if (value == START_OF_NODE) {
+                nodesStack.push(currentNode);
+                currentNode = createNode(this.bytes[this.index - 1]);
+                firstMember = true;
+                continue;
+            }
+            if (value != END_OF_NODE) {
+                addMember(currentNode, fieldNames, value);
+                skipWhitespace();
+                b = nextByte();
+            }
+
+            // Close all the objects and arrays which end after this value.
+            while (b != ',') {
+                if (!isEndOfNode(currentNode, b)) {
+                    throw currentNode instanceof MapValueImpl ? expected(",", "}") : expected(",", "]");
+                }
+                if (nodesStack.isEmpty()) {
+                    return currentNode;
+                }
+                Object node = currentNode;
+                currentNode = nodesStack.pop();
+                addMember(currentNode, fieldNames, node);
+                skipWhitespace();
+                b = nextByte();
+            }
+            firstMember = false;
+        }
+    }
+
+    /**
+     * Reads the value of an object field or an array element, which starts with the given byte. Returns
+     * {@code START_OF_NODE} if the value is an object or an array.
+     */
+    private Object readMemberValue(byte b) throws JsonParserException {
+        if (b == '{' || b == '[') {
+            return START_OF_NODE;
+        }
+        if (b == '"' || b == '\'') {
+            return readString(b);
+        }
+        this.index--;
+        return readNonStringValue(true);
+    }
+
+    private Object createNode(byte b) {
+        if (b == '{') {
+            return new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+        }
+        return new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+    }
+
+    private static boolean isEndOfNode(Object node, byte b) {
+        return node instanceof MapValueImpl ? b == '}' : b == ']';
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addMember(Object node, Deque<String> fieldNames, Object value) {
+        if (node instanceof MapValueImpl) {
+            ((MapValueImpl<BString, Object>) node).put(StringUtils.fromString(fieldNames.pop()), value);
+            return;
+        }
+        ((ArrayValue) node).append(value);
+    }
+
+    private byte nextByte() throws JsonParserException {
+        if (this.index == this.limit) {
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+        return this.bytes[this.index++];
+    }
+
+    private void skipWhitespace() {
+        byte[] bytes = this.bytes;
+        int i = this.index;
+        while (i < this.limit) {
+            if (i + Long.BYTES <= this.limit && (long) LONG_VIEW.get(bytes, i) == SPACES) {
+                i += Long.BYTES;
+                continue;
+            }
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            i++;
+        }
+        this.index = i;
+    }
+
+    private BString readString(byte quote) throws JsonParserException {
+        byte[] bytes = this.bytes;
+        int start = this.index;
+        int i = start;
+        long quotes = ONES * quote;
+
+        // Find the first quote, backslash or non-ASCII byte. If it is the closing quote, the string can be created
+        // from the bytes as they are.
+        while (i + Long.BYTES <= this.limit) {
+            long word = (long) LONG_VIEW.get(bytes, i);
+            long matches = findBytes(word, quotes) | findBytes(word, BACKSLASHES) | (word & HIGH_BITS);
+            if (matches != 0) {
+                i += Long.numberOfTrailingZeros(matches) >>> 3;
+                break;
+            }
+            i += Long.BYTES;
+        }
+        while (i < this.limit) {
+            byte b = bytes[i];
+            if (b == quote) {
+                this.index = i + 1;
+                return StringUtils.fromString(new String(bytes, start, i - start, StandardCharsets.ISO_8859_1));
+            }
+            if (b == '\\' || b < 0) {
+                break;
+            }
+            i++;
+        }
+        return readEscapedString(quote, start, i);
+    }
+
+    /**
+     * Returns a word in which the high bit of each byte is set, if the byte is equal to the repeated byte in the
+     * given pattern. Bytes above the first match may be flagged wrongly, hence only the lowest flag is reliable.
+     */
+    private static long findBytes(long word, long pattern) {
+        long x = word ^ pattern;
+        return (x - ONES) & ~x & HIGH_BITS;
+    }
+
+    private BString readEscapedString(byte quote, int start, int end) throws JsonParserException {
+        int length = end - start;
+        ensureCharBuffCapacity(length);
+        for (int j = 0; j < length; j++) {
+            this.charBuff[j] = (char) this.bytes[start + j];
+        }
+        this.index = end;
+
+        while (true) {
+            byte b = nextByte();
+            if (b == quote) {
+                return StringUtils.fromString(new String(this.charBuff, 0, length));
+            }
+            ensureCharBuffCapacity(length + 2);
+            if (b == '\\') {
+                this.charBuff[length++] = readEscapedChar();
+            } else if (b >= 0) {
+                this.charBuff[length++] = (char) b;
+            } else {
+                length = decodeMultiByteChar(b, length);
+            }
+        }
+    }
+
+    private char readEscapedChar() throws JsonParserException {
+        byte b = nextByte();
+        switch (b) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int j = 0; j < 4; j++) {
+                    int digit = Character.digit(nextByte(), 16);
+                    if (digit < 0) {
+                        throwExpected("hexadecimal value of an unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw expected("escaped characters");
+        }
+    }
+
+    /**
+     * Decodes the UTF-8 sequence which starts with the given byte into the char buffer, and returns the new length of
+     * the buffer. Malformed sequences are replaced with the replacement character the same way the UTF-8 decoder of
+     * the JDK replaces them, so that strings are decoded exactly as they are when read through a {@code Reader}.
+     */
+    private int decodeMultiByteChar(byte first, int length) {
+        int b = first & 0xFF;
+        int continuationBytes;
+        int codePoint;
+        if (b >= 0xC2 && b <= 0xDF) {
+            continuationBytes = 1;
+            codePoint = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            continuationBytes = 2;
+            codePoint = b & 0x0F;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            continuationBytes = 3;
+            codePoint = b & 0x07;
+        } else {
+            return appendReplacementChar(length);
+        }
+
+        for (int j = 0; j < continuationBytes; j++) {
+            int next = this.index < this.limit ? this.bytes[this.index] & 0xFF : 0;
+            if ((next & 0xC0) != 0x80) {
+                return appendReplacementChar(length);
+            }
+            if (j == 0 && ((b == 0xE0 && next < 0xA0) || (b == 0xF0 && next < 0x90) ||
+                    (b == 0xF4 && next > 0x8F))) {
+                // Overlong encodings and code points above U+10FFFF are malformed from their second byte.
+                return appendReplacementChar(length);
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+            this.index++;
+        }
+        if (Character.isSurrogate((char) codePoint) && codePoint <= Character.MAX_VALUE) {
+            return appendReplacementChar(length);
+        }
+        return length + Character.toChars(codePoint, this.charBuff, length);
+    }
+
+    private int appendReplacementChar(int length) {
+        this.charBuff[length] = REPLACEMENT_CHAR;
+        return length + 1;
+    }
+
+    private void ensureCharBuffCapacity(int capacity) {
+        if (capacity > this.charBuff.length) {
+            char[] newBuff = new char[Math.max(capacity, this.charBuff.length * 2)];
+            System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuff.length);
+            this.charBuff = newBuff;
+        }
+    }
+
+    /**
+     * Reads a number, boolean or null value. Inside an object or an array the value ends at whitespace or at a
+     * structural character, while a value at the top level ends only at whitespace.
+     */
+    private Object readNonStringValue(boolean isMember) throws JsonParserException {
+        int start = this.index;
+        int i = start;
+        while (i < this.limit) {
+            byte b = this.bytes[i];
+            if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+            if (isMember && (b == ',' || b == '}' || b == ']' || b == '{' || b == '[')) {
+                break;
+            }
+            i++;
+        }
+        if (isMember && i == this.limit) {
+            this.index = i;
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+        this.index = i;
+        return toNonStringValue(new String(this.bytes, start, i - start, StandardCharsets.UTF_8));
+    }
+
+    private static Object toNonStringValue(String str) throws JsonParserException {
+        try {
+            if (str.indexOf('.') >= 0) {
+                if (isNegativeZero(str)) {
+                    return Double.parseDouble(str);
+                }
+                return new DecimalValue(str);
+            }
+            if (TRUE.equals(str)) {
+                return Boolean.TRUE;
+            }
+            if (FALSE.equals(str)) {
+                return Boolean.FALSE;
+            }
+            if (NULL.equals(str)) {
+                return null;
+            }
+            if (isNegativeZero(str)) {
+                return Double.parseDouble(str);
+            }
+            return Long.parseLong(str);
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
+    private static void throwExpected(String... chars) throws JsonParserException {
+        throw expected(chars);
+    }
+
+    private static JsonParserException expected(String... chars) {
+        return new JsonParserException("expected " + String.join(" or ", chars));
+    }
+
+    private BError createError(String message) {
+        // The location is only needed for errors, hence it is computed from the bytes read so far.
+        int line = 1;
+        int column = 0;
+        for (int i = 0; i < this.index && i < this.limit; i++) {
+            byte b = this.bytes[i];
+            if (b == '\n') {
+                line++;
+                column = 0;
+            } else if ((b & 0xC0) != 0x80) {
+                column++;
+            }
+        }
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " +
+                                                                       column));
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = -3416412345376529316L;
+
+        JsonParserException(String msg) {
+            super(msg);
+        }
+
+    }
+}
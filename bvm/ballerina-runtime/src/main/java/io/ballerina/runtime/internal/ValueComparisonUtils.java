@@ -24,8 +24,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -243,25 +241,36 @@ public class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
+    /**
+     * Compare two strings in code point order without decoding them.
+     *
+     * @param str1 The string on the left hand side
+     * @param str2 The string on the right hand side
+     * @return a negative value, zero or a positive value as the first string is less than, equal to or greater than
+     * the second string
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = str1.charAt(i);
+            char c2 = str2.charAt(i);
+            if (c1 != c2) {
+                // UTF-16 code units order the same as code points, except that surrogates have to be placed after
+                // the code units in the range U+E000 to U+FFFF.
+                return Integer.compare(toCodePointOrder(c1), toCodePointOrder(c2));
             }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
+        }
+        return Integer.compare(str1.length(), str2.length());
+    }
 
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
+    private static int toCodePointOrder(char c) {
+        if (c >= 0xE000) {
+            return c - 0x800;
         }
-        if (iterator2.hasNext()) {
-            return -1;
+        if (c >= 0xD800) {
+            return c + 0x2000;
         }
-        return 0;
+        return c;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
@@ -304,7 +313,7 @@ public class ValueComparisonUtils {
             case ZERO:
             case OTHER:
                 return rhsValue.valueKind == DecimalValueKind.NEGATIVE_INFINITY || (isDecimalRealNumber(rhsValue) &&
-                        lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) > 0);
+                        lhsValue.compareValue(rhsValue) > 0);
             default:
                 return false;
         }
@@ -38,7 +38,11 @@ import java.util.Set;
 import java.util.Stack;
 import java.util.WeakHashMap;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -54,23 +58,34 @@ import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
  */
 public class Scheduler {
 
-    private PrintStream err = System.err;
+    private static final PrintStream err = System.err;
     /**
      * Scheduler does not get killed if the immortal value is true. Specific to services.
      */
     private volatile boolean immortal;
     private boolean listenerDeclarationFound;
     /**
-     * Strands that are ready for execution.
+     * Strands that are ready for execution. In executor backed modes this only buffers the groups that get scheduled
+     * before the scheduler is started.
      */
     private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
 
+    /**
+     * Executes strand groups in executor backed modes, i.e. a carrier pool with per-thread deques in
+     * {@link SchedulerMode#WORK_STEALING} mode and a virtual thread per group in
+     * {@link SchedulerMode#VIRTUAL_THREADS} mode.
+     */
+    private ExecutorService groupExecutor;
+    private volatile boolean started;
+
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -79,6 +94,12 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * Default is {@link SchedulerMode#SHARED_QUEUE}.
+     */
+    private final SchedulerMode mode;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private Map<BObject, ItemGroup> objectGroups = Collections.synchronizedMap(new WeakHashMap<>());
@@ -95,15 +116,49 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.mode = resolveMode(getConfiguredMode());
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, getConfiguredMode());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulerMode mode) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.mode = resolveMode(mode);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private static SchedulerMode getConfiguredMode() {
+        if (schedulerModeConf == null) {
+            return SchedulerMode.SHARED_QUEUE;
+        }
+        try {
+            return SchedulerMode.fromConfigValue(schedulerModeConf);
+        } catch (IllegalArgumentException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", " + e.getMessage());
+            return SchedulerMode.SHARED_QUEUE;
+        }
+    }
+
+    private static SchedulerMode resolveMode(SchedulerMode mode) {
+        if (mode == SchedulerMode.VIRTUAL_THREADS && !VirtualThreadUtils.isSupported()) {
+            err.println("ballerina: virtual threads are not supported by the current JVM, " +
+                                "continuing with the '" + SchedulerMode.SHARED_QUEUE.getConfigValue() +
+                                "' scheduler mode");
+            return SchedulerMode.SHARED_QUEUE;
+        }
+        return mode;
+    }
+
+    public SchedulerMode getMode() {
+        return mode;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -158,7 +213,7 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            addToRunnableList(future.strand.strandGroup);
         }
         return future;
     }
@@ -180,7 +235,7 @@ public class Scheduler {
         });
         future.strand.strandGroup = group;
         if (group.scheduled.compareAndSet(false, true)) {
-            runnableList.add(group);
+            addToRunnableList(group);
         }
         return future;
     }
@@ -243,7 +298,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
@@ -269,11 +324,15 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
     public void start() {
+        if (mode != SchedulerMode.SHARED_QUEUE) {
+            startGroupExecutor();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -286,6 +345,80 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Starts the executor of the configured mode and blocks the calling thread until the scheduler gets poisoned.
+     * Unlike the shared queue mode, the calling thread does not execute strands itself.
+     */
+    private void startGroupExecutor() {
+        synchronized (this) {
+            if (this.mainBlockSem == null) {
+                this.mainBlockSem = new Semaphore(0);
+            }
+            this.groupExecutor = createGroupExecutor();
+            this.started = true;
+            ItemGroup group;
+            while ((group = runnableList.poll()) != null) {
+                submitToGroupExecutor(group);
+            }
+        }
+        try {
+            this.mainBlockSem.acquire();
+        } catch (InterruptedException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+    }
+
+    private ExecutorService createGroupExecutor() {
+        if (mode == SchedulerMode.VIRTUAL_THREADS) {
+            // Strand groups do not share carriers, hence a strand blocked in Java interop only parks its own
+            // virtual thread instead of pinning one of the limited platform threads.
+            return VirtualThreadUtils.newVirtualThreadPerTaskExecutor("jbal-strand-exec");
+        }
+        return new ForkJoinPool(numThreads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jbal-strand-exec-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Makes the given group available for execution in the configured scheduler mode.
+     */
+    private void addToRunnableList(ItemGroup group) {
+        if (mode == SchedulerMode.SHARED_QUEUE) {
+            runnableList.add(group);
+            return;
+        }
+        if (!started) {
+            synchronized (this) {
+                if (!started) {
+                    runnableList.add(group);
+                    return;
+                }
+            }
+        }
+        submitToGroupExecutor(group);
+    }
+
+    private void submitToGroupExecutor(ItemGroup group) {
+        // In work stealing mode, when called from a carrier thread the group is pushed to that thread's local deque,
+        // where idle carriers can steal it from. Submissions from other threads go through the pool's shared
+        // submission queues.
+        try {
+            groupExecutor.execute(() -> runGroupSafely(group));
+        } catch (RejectedExecutionException ignored) {
+            // Scheduler is already poisoned. Same as in the shared queue mode, the group is never executed.
+        }
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
     /**
      * Defensive programming to prevent unforeseen errors.
      */
@@ -302,7 +435,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -315,34 +447,42 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of the given group on the current thread until the group runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+            item = group.get();
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
+            } finally {
+                strandHolder.get().strand = null;
+            }
+            postProcess(item, result, panic);
+            if (group.items.empty()) {
+                group.scheduled.set(false);
             }
         }
     }
@@ -494,7 +634,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                addToRunnableList(group);
             }
         }
     }
@@ -519,6 +659,18 @@ public class Scheduler {
     }
 
     public void poison() {
+        if (mode != SchedulerMode.SHARED_QUEUE) {
+            synchronized (this) {
+                if (groupExecutor != null) {
+                    groupExecutor.shutdown();
+                }
+                if (mainBlockSem == null) {
+                    mainBlockSem = new Semaphore(0);
+                }
+                mainBlockSem.release();
+            }
+            return;
+        }
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
         }
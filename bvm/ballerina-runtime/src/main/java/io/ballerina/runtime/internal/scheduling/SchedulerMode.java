@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Locale;
+
+/**
+ * Strategies the {@link Scheduler} can use to hand runnable strand groups to carrier threads.
+ *
+ * @since 2.0.0
+ */
+public enum SchedulerMode {
+
+    /**
+     * All carrier threads take strand groups from a single shared blocking queue.
+     */
+    SHARED_QUEUE("sharedqueue"),
+
+    /**
+     * Each carrier thread owns a local deque and steals from the others when it runs out of work.
+     */
+    WORK_STEALING("workstealing"),
+
+    /**
+     * Each runnable strand group is executed on its own virtual thread. Falls back to {@link #SHARED_QUEUE} when the
+     * JVM does not support virtual threads.
+     */
+    VIRTUAL_THREADS("virtualthreads");
+
+    private final String configValue;
+
+    SchedulerMode(String configValue) {
+        this.configValue = configValue;
+    }
+
+    public String getConfigValue() {
+        return configValue;
+    }
+
+    /**
+     * Resolves the scheduler mode for the given configuration value.
+     *
+     * @param value configuration value, case insensitive
+     * @return matching scheduler mode
+     * @throws IllegalArgumentException if the value does not match any mode
+     */
+    public static SchedulerMode fromConfigValue(String value) {
+        String normalizedValue = value.trim().toLowerCase(Locale.ENGLISH);
+        for (SchedulerMode mode : values()) {
+            if (mode.configValue.equals(normalizedValue)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("unsupported scheduler mode '" + value + "'");
+    }
+}
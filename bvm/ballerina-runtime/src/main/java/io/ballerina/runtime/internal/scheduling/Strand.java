@@ -23,6 +23,8 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -86,6 +88,10 @@ public class Strand {
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
+    /**
+     * Locks currently held by this strand, in the order of acquisition. Created on the first lock acquisition.
+     */
+    private List<BLock> acquiredLocks;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
@@ -361,6 +367,49 @@ public class Strand {
         return dataChannel;
     }
 
+    /**
+     * Records a lock acquired by this strand. Only the strand itself acquires locks for it.
+     *
+     * @param lock the acquired lock
+     */
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>(2);
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    /**
+     * Removes the latest acquisition of the given lock by this strand.
+     *
+     * @param lock the released lock
+     */
+    public void removeAcquiredLock(BLock lock) {
+        // Locks are released in the reverse order of acquisition, so the lock is usually the last one.
+        int index = this.acquiredLocks.lastIndexOf(lock);
+        if (index >= 0) {
+            this.acquiredLocks.remove(index);
+        }
+    }
+
+    /**
+     * Checks whether this strand holds any lock that belongs to the given lock store.
+     *
+     * @param lockStore lock store of a module
+     * @return true if this strand holds a lock of the store
+     */
+    public boolean isInLock(BLockStore lockStore) {
+        if (this.acquiredLocks == null) {
+            return false;
+        }
+        for (BLock lock : this.acquiredLocks) {
+            if (lock.getLockStore() == lockStore) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void setState(State state) {
         this.lock();
         this.state = state;
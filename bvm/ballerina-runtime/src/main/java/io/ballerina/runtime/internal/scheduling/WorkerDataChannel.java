@@ -19,70 +19,56 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel always has a single sending worker and a single receiving worker, hence it is implemented as a lock-free
+ * single producer single consumer channel. Each side publishes its state (messages, errors, panics, waiting strands)
+ * before checking the state of the other side, so that a strand is never parked without the other side noticing it.
+ * Sender side events (messages, send errors and send panics) are counted by {@code senderCounter}, which is always
+ * incremented after the event is published, and the receiver counts the events it has consumed in
+ * {@code receiverCounter}.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private final AtomicReference<WaitingSender> waitingSender = new AtomicReference<>();
+    private final AtomicReference<WaitingSender> flushSender = new AtomicReference<>();
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    private final AtomicInteger senderCounter = new AtomicInteger();
+    private final AtomicInteger receiverCounter = new AtomicInteger();
+    // Only accessed by the sending strand.
     private boolean reschedule;
 
-    private Lock channelLock;
-
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private Queue<WorkerResult> channel = new ConcurrentLinkedQueue<>();
 
     public WorkerDataChannel() {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
     }
+
     public WorkerDataChannel(String channelName) {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
         this.chnlName = channelName;
     }
 
-    public void acquireChannelLock() {
-        this.channelLock.lock();
-    }
-
-    public void releaseChannelLock() {
-        this.channelLock.unlock();
-    }
-
     @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.channel.add(new WorkerResult(data));
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
     }
 
     /**
@@ -93,89 +79,92 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public Object syncSendData(Object data, Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            if (!reschedule) {
-                // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
-                this.waitingSender = new WaitingSender(strand, -1);
-
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+        if (!reschedule) {
+            // this is a new message, not a reschedule. The strand has to be marked as blocked before the message is
+            // published, since the receiver may unblock it as soon as the message is taken.
+            WaitingSender sender = new WaitingSender(strand, -1);
+            strand.setState(BLOCK_AND_YIELD);
+            this.waitingSender.set(sender);
+            this.channel.add(new WorkerResult(data, true));
+            this.senderCounter.incrementAndGet();
+
+            if (!unblockReceiver()) {
+                Throwable panic = this.panic;
+                ErrorValue error = this.error;
+                if ((panic != null || error != null) && this.waitingSender.compareAndSet(sender, null)) {
+                    // receiver has already failed, hence nobody is going to unblock this strand
+                    strand.setState(RUNNABLE);
+                    if (panic != null) {
+                        this.panic = null;
+                        throw panic;
+                    }
+                    return error;
                 }
-
-                reschedule = true;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
             }
 
-            reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
-                Throwable e = this.panic;
-                throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
-                ErrorValue ret = this.error;
-                return ret;
-            }
-
-            // sync send done
+            reschedule = true;
             return null;
-        } finally {
-            releaseChannelLock();
         }
+
+        reschedule = false;
+        if (this.panic != null && this.channel.peek() != null) {
+            Throwable e = this.panic;
+            throw e;
+        } else if (this.error != null && this.channel.peek() != null) {
+            ErrorValue ret = this.error;
+            return ret;
+        }
+
+        // sync send done
+        return null;
     }
 
     @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+        while (true) {
+            WorkerResult result = this.channel.poll();
             if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
+                int received = this.receiverCounter.incrementAndGet();
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
+                    WaitingSender sender = this.waitingSender.getAndSet(null);
+                    if (sender != null) {
+                        Strand waiting = sender.waitingStrand;
+                        waiting.scheduler.unblockStrand(waiting);
+                    }
+                } else {
+                    WaitingSender sender = this.flushSender.get();
+                    if (sender != null && received >= sender.flushCount &&
+                            this.flushSender.compareAndSet(sender, null)) {
+                        notifyFlushed(sender.waitingStrand);
                     }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
                 }
                 return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
+            }
+
+            int received = this.receiverCounter.get();
+            if (this.senderCounter.get() == received + 1) {
+                // the last event from the sender was not a message, i.e. the sender has failed
+                if (this.panic != null) {
+                    this.receiverCounter.incrementAndGet();
+                    throw this.panic;
+                } else if (this.error != null) {
+                    this.receiverCounter.incrementAndGet();
+                    return error;
+                }
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver.set(strand);
+            // Recheck after publishing the receiver. A sender event that got published before the sender could see
+            // this strand as the receiver would otherwise never unblock it.
+            if (this.senderCounter.get() == received || !this.receiver.compareAndSet(strand, null)) {
+                // Either there is nothing to receive yet, or the sender has already taken this strand for
+                // unblocking. In both cases the strand gets rescheduled once there is something to receive.
                 return null;
             }
-        } finally {
-            releaseChannelLock();
+            strand.setState(RUNNABLE);
         }
     }
 
@@ -184,14 +173,9 @@ public class WorkerDataChannel {
      * @param error the BError of the receiving worker
      */
     public void setSendError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
-        releaseChannelLock();
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
     }
 
     /**
@@ -200,24 +184,20 @@ public class WorkerDataChannel {
      * @param error to be set
      */
     public void setReceiveError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
+        this.receiverCounter.incrementAndGet();
+        WaitingSender sender = this.flushSender.getAndSet(null);
+        if (sender != null) {
+            Strand flushStrand = sender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
             if (flushStrand.isBlocked()) {
                 flushStrand.flushDetail.result = error;
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
-            waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
+        } else {
+            unblockSyncSender();
         }
-        releaseChannelLock();
     }
 
     /**
@@ -228,29 +208,35 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public ErrorValue flushChannel(Strand strand) throws Throwable {
-        acquireChannelLock();
-        try {
+        // The flushing strand holds its flush lock during the flush, hence receivers notifying the flush completion
+        // wait until the strand is blocked.
+        if (this.panic != null) {
+            throw this.panic;
+        } else if (this.error != null) {
+            return this.error;
+        }
+        int flushCount = this.senderCounter.get();
+        if (this.receiverCounter.get() >= flushCount) {
+            strand.flushDetail.flushedCount++;
+            return null;
+        }
+        WaitingSender sender = new WaitingSender(strand, flushCount);
+        this.flushSender.set(sender);
+        // Recheck after publishing the flush sender, the receiver may have progressed or failed meanwhile.
+        if ((this.receiverCounter.get() >= flushCount || this.panic != null || this.error != null) &&
+                this.flushSender.compareAndSet(sender, null)) {
             if (this.panic != null) {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
-            return null;
-        } finally {
-            releaseChannelLock();
+            strand.flushDetail.flushedCount++;
         }
+        return null;
     }
 
     public void removeFlushWait() {
-        acquireChannelLock();
-        this.flushSender = null;
-        releaseChannelLock();
+        this.flushSender.set(null);
     }
 
     /**
@@ -259,17 +245,9 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setSendPanic(Throwable panic) {
-        try {
-            acquireChannelLock();
-            this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.panic = panic;
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
     }
 
     /**
@@ -278,24 +256,53 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setReceiverPanic(Throwable panic) {
-        acquireChannelLock();
-        this.panic  = panic;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
+        this.panic = panic;
+        this.receiverCounter.incrementAndGet();
+        WaitingSender sender = this.flushSender.getAndSet(null);
+        if (sender != null) {
+            Strand flushStrand = sender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.panic = panic;
             if (flushStrand.isBlocked()) {
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
+            flushStrand.flushDetail.flushLock.unlock();
+        } else {
+            unblockSyncSender();
+        }
+    }
+
+    /**
+     * Unblocks the receiver if it is waiting on this channel.
+     *
+     * @return true if a waiting receiver was unblocked
+     */
+    private boolean unblockReceiver() {
+        Strand waitingReceiver = this.receiver.getAndSet(null);
+        if (waitingReceiver == null) {
+            return false;
+        }
+        waitingReceiver.scheduler.unblockStrand(waitingReceiver);
+        return true;
+    }
+
+    private void unblockSyncSender() {
+        WaitingSender sender = this.waitingSender.getAndSet(null);
+        if (sender != null) {
+            Strand waiting = sender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
         }
-        releaseChannelLock();
+    }
+
+    private void notifyFlushed(Strand flushStrand) {
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
     }
 
     /**
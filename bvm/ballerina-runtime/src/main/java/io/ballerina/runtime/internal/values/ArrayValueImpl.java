@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BValue;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -62,6 +64,11 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class ArrayValueImpl extends AbstractArrayValue {
 
+    private static final Comparator<Object> DECIMAL_ORDER =
+            (lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, "ascending");
+    private static final Comparator<BString> STRING_ORDER =
+            (lhs, rhs) -> ValueComparisonUtils.codePointCompare(lhs.getValue(), rhs.getValue());
+
     protected ArrayType arrayType;
     protected Type elementType;
 
@@ -219,6 +226,134 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    /**
+     * Sort the members of an int, float, string, boolean, byte or decimal array in place, in the order defined by
+     * lang.array:sort. Members which are equal keep their relative order.
+     *
+     * @param ascending whether the members should be sorted in ascending order
+     * @return false if the array is of some other member type, in which case it is left unchanged
+     */
+    public boolean sortSimpleValues(boolean ascending) {
+        int elementTypeTag = elementType.getTag();
+        if (!TypeTags.isIntegerTypeTag(elementTypeTag) && !TypeTags.isStringTypeTag(elementTypeTag)) {
+            switch (elementTypeTag) {
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                case TypeTags.BYTE_TAG:
+                case TypeTags.DECIMAL_TAG:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        if (size == 0) {
+            return true;
+        }
+        handleImmutableArrayValue();
+
+        switch (elementTypeTag) {
+            case TypeTags.FLOAT_TAG:
+                sortFloatValues(ascending);
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                sortBooleanValues(ascending);
+                break;
+            case TypeTags.BYTE_TAG:
+                sortByteValues(ascending);
+                break;
+            case TypeTags.DECIMAL_TAG:
+                Arrays.sort(refValues, 0, size, ascending ? DECIMAL_ORDER : DECIMAL_ORDER.reversed());
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                Arrays.sort(bStringValues, 0, size, ascending ? STRING_ORDER : STRING_ORDER.reversed());
+                break;
+            default:
+                Arrays.sort(intValues, 0, size);
+                if (!ascending) {
+                    reverse();
+                }
+        }
+        return true;
+    }
+
+    private void sortFloatValues(boolean ascending) {
+        // Arrays.sort orders -0.0 before 0.0, whereas the two are equal when sorting. Remember the order in which
+        // they appear so that it can be restored afterwards.
+        boolean[] zeroSigns = null;
+        int negativeZeros = 0;
+        int zeros = 0;
+        for (int i = 0; i < size; i++) {
+            if (floatValues[i] == 0.0) {
+                zeros++;
+                if (Double.doubleToRawLongBits(floatValues[i]) != 0) {
+                    negativeZeros++;
+                }
+            }
+        }
+        if (negativeZeros > 0 && negativeZeros < zeros) {
+            zeroSigns = new boolean[zeros];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (floatValues[i] == 0.0) {
+                    zeroSigns[j++] = Double.doubleToRawLongBits(floatValues[i]) != 0;
+                }
+            }
+        }
+
+        Arrays.sort(floatValues, 0, size);
+        // NaN is placed last in both directions.
+        int numbers = size;
+        while (numbers > 0 && Double.isNaN(floatValues[numbers - 1])) {
+            numbers--;
+        }
+        if (!ascending) {
+            for (int i = numbers - 1, j = 0; j < numbers / 2; i--, j++) {
+                double temp = floatValues[j];
+                floatValues[j] = floatValues[i];
+                floatValues[i] = temp;
+            }
+        }
+
+        if (zeroSigns != null) {
+            int firstZero = 0;
+            while (floatValues[firstZero] != 0.0) {
+                firstZero++;
+            }
+            for (int i = 0; i < zeros; i++) {
+                floatValues[firstZero + i] = zeroSigns[i] ? -0.0 : 0.0;
+            }
+        }
+    }
+
+    private void sortBooleanValues(boolean ascending) {
+        int falseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!booleanValues[i]) {
+                falseCount++;
+            }
+        }
+        if (ascending) {
+            Arrays.fill(booleanValues, 0, falseCount, false);
+            Arrays.fill(booleanValues, falseCount, size, true);
+        } else {
+            Arrays.fill(booleanValues, 0, size - falseCount, true);
+            Arrays.fill(booleanValues, size - falseCount, size, false);
+        }
+    }
+
+    private void sortByteValues(boolean ascending) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[Byte.toUnsignedInt(byteValues[i])]++;
+        }
+        int index = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int value = ascending ? i : counts.length - 1 - i;
+            Arrays.fill(byteValues, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
     public ArrayValueImpl(ArrayType type, long size) {
         this.arrayType = type;
         this.elementType = type.getElementType();
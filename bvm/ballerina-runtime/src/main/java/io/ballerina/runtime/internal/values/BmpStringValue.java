@@ -51,7 +51,9 @@ package io.ballerina.runtime.internal.values;
 
      @Override
      public BString concat(BString str) {
-         if (str instanceof BmpStringValue) {
+         if (RopeStringValue.isRopeConcat(this, str)) {
+             return new RopeStringValue(this, str);
+         } else if (str instanceof BmpStringValue) {
              return new BmpStringValue(this.value + ((BmpStringValue) str).value);
          } else if (str instanceof NonBmpStringValue) {
              return new NonBmpStringValue(this.value + str.getValue(), ((NonBmpStringValue) str).getSurrogates());
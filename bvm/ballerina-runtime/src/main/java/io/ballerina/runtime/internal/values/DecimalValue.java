@@ -42,6 +42,14 @@ import java.util.Map;
  */
 public class DecimalValue implements SimpleValue, BDecimal {
 
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final long NON_COMPACT = Long.MIN_VALUE;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
     private static final DecimalValue POSITIVE_INF =
             new DecimalValue("9.999999999999999999999999999999999E6144", DecimalValueKind.POSITIVE_INFINITY);
 
@@ -54,10 +62,21 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Decimals which fit in a long are also kept as an unscaled value and a scale, so that arithmetic on them does
+    // not have to go through BigDecimal. The BigDecimal value of such a decimal is only created when it is needed.
     private BigDecimal value;
+    private final long unscaledValue;
+    private final int scale;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        if (value.precision() <= MAX_COMPACT_PRECISION) {
+            this.unscaledValue = value.unscaledValue().longValue();
+            this.scale = value.scale();
+        } else {
+            this.unscaledValue = NON_COMPACT;
+            this.scale = 0;
+        }
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -65,12 +84,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
 
     public DecimalValue(String value) {
         // Check whether the number provided is a hexadecimal value.
-        if (isHexValueString(value)) {
-            this.value = hexToDecimalFloatingPointNumber(value);
-        } else {
-            this.value = new BigDecimal(value, MathContext.DECIMAL128);
-        }
-        if (!this.booleanValue()) {
+        this(isHexValueString(value) ? hexToDecimalFloatingPointNumber(value) :
+                     new BigDecimal(value, MathContext.DECIMAL128));
+    }
+
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
@@ -142,7 +163,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal bigDecimal = this.value;
+        if (bigDecimal == null) {
+            bigDecimal = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = bigDecimal;
+        }
+        return bigDecimal;
     }
 
     /**
@@ -160,6 +186,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
+        BigDecimal value = decimalValue();
         if (!isDecimalWithinIntRange(value)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
@@ -192,7 +219,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        BigDecimal value = decimalValue();
+        int intVal = (int) Math.rint(value.doubleValue());
         if (!isByteLiteral(intVal)) {
             throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
@@ -212,7 +240,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -220,6 +248,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (isCompact()) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +273,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -254,7 +285,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -262,7 +293,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -303,6 +334,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (isCompact() && augend.isCompact()) {
+                        DecimalValue sum = addCompact(augend.unscaledValue, augend.scale);
+                        if (sum != null) {
+                            return sum;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -341,6 +378,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (isCompact() && subtrahend.isCompact()) {
+                        DecimalValue difference = addCompact(-subtrahend.unscaledValue, subtrahend.scale);
+                        if (difference != null) {
+                            return difference;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +427,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (isCompact() && multiplicand.isCompact()) {
+                        DecimalValue product = multiplyCompact(multiplicand.unscaledValue, multiplicand.scale);
+                        if (product != null) {
+                            return product;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -476,6 +525,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (isCompact()) {
+                    return compactValueOf(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -511,6 +563,90 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return remainder((DecimalValue) divisor);
     }
 
+    /**
+     * Compares the numeric value of this decimal with that of another decimal, ignoring their scales.
+     * @param other value to be compared with
+     * @return a negative value, zero or a positive value as this decimal is less than, equal to or greater than
+     * the other decimal
+     */
+    public int compareValue(DecimalValue other) {
+        if (isCompact() && other.isCompact()) {
+            if (this.scale == other.scale) {
+                return Long.compare(this.unscaledValue, other.unscaledValue);
+            }
+            long lhs = this.unscaledValue;
+            long rhs = other.unscaledValue;
+            try {
+                if (this.scale < other.scale) {
+                    lhs = Math.multiplyExact(lhs, powerOfTen(other.scale - this.scale));
+                } else {
+                    rhs = Math.multiplyExact(rhs, powerOfTen(this.scale - other.scale));
+                }
+                return Long.compare(lhs, rhs);
+            } catch (ArithmeticException e) {
+                // Fall back to comparing the BigDecimal values.
+            }
+        }
+        return this.decimalValue().compareTo(other.decimalValue());
+    }
+
+    private boolean isCompact() {
+        return unscaledValue != NON_COMPACT;
+    }
+
+    private DecimalValue addCompact(long augendUnscaledValue, int augendScale) {
+        long lhs = this.unscaledValue;
+        long rhs = augendUnscaledValue;
+        int resultScale = this.scale;
+        try {
+            if (this.scale < augendScale) {
+                lhs = Math.multiplyExact(lhs, powerOfTen(augendScale - this.scale));
+                resultScale = augendScale;
+            } else if (this.scale > augendScale) {
+                rhs = Math.multiplyExact(rhs, powerOfTen(this.scale - augendScale));
+            }
+            return compactValueOf(Math.addExact(lhs, rhs), resultScale);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private DecimalValue multiplyCompact(long multiplicandUnscaledValue, int multiplicandScale) {
+        long resultScale = (long) this.scale + multiplicandScale;
+        if (resultScale != (int) resultScale) {
+            return null;
+        }
+        try {
+            return compactValueOf(Math.multiplyExact(this.unscaledValue, multiplicandUnscaledValue),
+                                  (int) resultScale);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static long powerOfTen(long exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("power of ten out of long range");
+        }
+        return POWERS_OF_TEN[(int) exponent];
+    }
+
+    private static DecimalValue compactValueOf(long unscaledValue, int scale) {
+        if (unscaledValue == NON_COMPACT) {
+            return new DecimalValue(BigDecimal.valueOf(unscaledValue, scale));
+        }
+        return new DecimalValue(unscaledValue, scale);
+    }
+
+    private static DecimalValue integralValueOf(long value) {
+        // The decimal equivalent of an integer has a scale of 1.
+        long bound = POWERS_OF_TEN[MAX_COMPACT_PRECISION - 1];
+        if (value > -bound && value < bound) {
+            return new DecimalValue(value * 10, 1);
+        }
+        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+    }
+
     /**
      * Returns value kind of {@code (-this)}.
      * @return value kind
@@ -532,12 +668,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((compareValue(bDecimal) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -555,7 +691,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     /**
@@ -564,7 +700,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     /**
@@ -582,28 +718,27 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(boolean value) {
-        return new DecimalValue(value ? BigDecimal.ONE.setScale(1, BigDecimal.ROUND_HALF_EVEN) :
-                                        BigDecimal.ZERO.setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return new DecimalValue(value ? 10 : 0, 1);
     }
 
     public static DecimalValue valueOfJ(byte value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     public static DecimalValue valueOfJ(char value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     public static DecimalValue valueOfJ(short value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     public static DecimalValue valueOfJ(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     public static DecimalValue valueOfJ(long value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return integralValueOf(value);
     }
 
     public static DecimalValue valueOfJ(float value) {
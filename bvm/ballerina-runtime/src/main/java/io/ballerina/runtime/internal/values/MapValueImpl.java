@@ -46,8 +46,10 @@ import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -510,16 +512,32 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         });
     }
 
+    @Override
+    public void serialize(OutputStream outputStream) {
+        try {
+            if (this.type.getTag() != TypeTags.MAP_TAG) {
+                outputStream.write(StringUtils.getJsonString(this).getBytes(Charset.defaultCharset()));
+                return;
+            }
+            // Maps are generated straight into the stream, rather than being built up as a string first.
+            JsonGenerator gen = new JsonGenerator(outputStream);
+            gen.serialize(this);
+            gen.flush();
+        } catch (IOException e) {
+            throw new BallerinaException("error occurred while serializing data", e);
+        }
+    }
+
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        StringWriter stringWriter = new StringWriter();
+        JsonGenerator gen = new JsonGenerator(stringWriter);
         try {
             gen.serialize(this);
             gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return stringWriter.toString();
     }
 
     @Override
@@ -70,7 +70,9 @@
 
     @Override
     public BString concat(BString str) {
-        if (str instanceof NonBmpStringValue) {
+        if (RopeStringValue.isRopeConcat(this, str)) {
+            return new RopeStringValue(this, str);
+        } else if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
             System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
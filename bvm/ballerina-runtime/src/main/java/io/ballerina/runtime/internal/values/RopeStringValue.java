@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings which are the result of concatenating two other strings. The characters are copied
+ * into a single flat string only when the value of the string is first needed, so that building a long string by
+ * repeated concatenation takes linear time instead of quadratic time.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations which result in fewer UTF-16 characters than this are copied eagerly.
+     */
+    static final int MIN_ROPE_LENGTH = 256;
+
+    private final int length;
+    private final int charLength;
+    private final boolean bmp;
+    // Both children are cleared once the string is flattened. The flattened value is always written before the
+    // children are cleared, so that a reader which finds no children is guaranteed to see the flattened value.
+    private volatile BString[] children;
+    private volatile BString flattened;
+
+    RopeStringValue(BString left, BString right) {
+        this.length = left.length() + right.length();
+        this.charLength = getCharLength(left) + getCharLength(right);
+        this.bmp = isBmp(left) && isBmp(right);
+        this.children = new BString[]{left, right};
+    }
+
+    static boolean isRopeConcat(BString left, BString right) {
+        return left instanceof RopeStringValue || right instanceof RopeStringValue ||
+                getCharLength(left) + getCharLength(right) >= MIN_ROPE_LENGTH;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    private BString flatten() {
+        BString value = flattened;
+        if (value != null) {
+            return value;
+        }
+
+        // Ropes built by repeated concatenation are as deep as the number of concatenations, hence the tree is
+        // walked with an explicit stack rather than by recursion.
+        StringBuilder sb = new StringBuilder(charLength);
+        Deque<BString> parts = new ArrayDeque<>();
+        parts.push(this);
+        while (!parts.isEmpty()) {
+            BString part = parts.pop();
+            if (!(part instanceof RopeStringValue)) {
+                sb.append(part.getValue());
+                continue;
+            }
+            RopeStringValue rope = (RopeStringValue) part;
+            BString partValue = rope.flattened;
+            BString[] partChildren = rope.children;
+            if (partValue == null && partChildren == null) {
+                partValue = rope.flattened;
+            }
+            if (partValue != null) {
+                sb.append(partValue.getValue());
+                continue;
+            }
+            parts.push(partChildren[1]);
+            parts.push(partChildren[0]);
+        }
+
+        String str = sb.toString();
+        value = bmp ? new BmpStringValue(str) : StringUtils.fromString(str);
+        flattened = value;
+        children = null;
+        return value;
+    }
+
+    private static int getCharLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    private static boolean isBmp(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).bmp;
+        }
+        return str instanceof BmpStringValue;
+    }
+}
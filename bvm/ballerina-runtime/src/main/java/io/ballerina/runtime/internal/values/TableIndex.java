@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index over a single column of a table. A hash index answers equality lookups, while a sorted index
+ * answers both equality and range lookups. The positions of the matching rows are always returned in the iteration
+ * order of the table.
+ * An index over a column which can be updated in place only accepts immutable rows, since such an update is not
+ * visible to the index.
+ *
+ * @param <V> the type of the table rows
+ *
+ * @since 2.0.0
+ */
+class TableIndex<V> {
+
+    private static final Comparator<Object> COLUMN_VALUE_COMPARATOR =
+            (lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, "ascending");
+    private static final Comparator<IndexEntry<?>> POSITION_COMPARATOR =
+            Comparator.comparingLong(entry -> entry.position);
+
+    private final BString columnName;
+    private final Map<Object, List<IndexEntry<V>>> buckets;
+    private final boolean requiresImmutableRows;
+
+    private TableIndex(BString columnName, Map<Object, List<IndexEntry<V>>> buckets, boolean requiresImmutableRows) {
+        this.columnName = columnName;
+        this.buckets = buckets;
+        this.requiresImmutableRows = requiresImmutableRows;
+    }
+
+    static <V> TableIndex<V> createHashIndex(BString columnName, boolean requiresImmutableRows) {
+        return new TableIndex<>(columnName, new HashMap<>(), requiresImmutableRows);
+    }
+
+    static <V> TableIndex<V> createSortedIndex(BString columnName, boolean requiresImmutableRows) {
+        return new TableIndex<>(columnName, new TreeMap<>(COLUMN_VALUE_COMPARATOR), requiresImmutableRows);
+    }
+
+    boolean accepts(V row) {
+        return !requiresImmutableRows || ((RefValue) row).isFrozen();
+    }
+
+    boolean isSorted() {
+        return buckets instanceof NavigableMap;
+    }
+
+    void add(long position, V row) {
+        Object columnValue = getColumnValue(row);
+        buckets.computeIfAbsent(columnValue, key -> new ArrayList<>(1)).add(new IndexEntry<>(position, row));
+    }
+
+    void remove(long position, V row) {
+        Object columnValue = getColumnValue(row);
+        List<IndexEntry<V>> bucket = buckets.get(columnValue);
+        if (bucket == null) {
+            return;
+        }
+        Iterator<IndexEntry<V>> itr = bucket.iterator();
+        while (itr.hasNext()) {
+            if (itr.next().position == position) {
+                itr.remove();
+                break;
+            }
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(columnValue);
+        }
+    }
+
+    long[] lookup(Object columnValue) {
+        List<IndexEntry<V>> bucket = buckets.get(columnValue);
+        if (bucket == null) {
+            return new long[0];
+        }
+        return toPositions(bucket);
+    }
+
+    long[] range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        NavigableMap<Object, List<IndexEntry<V>>> sortedBuckets = (NavigableMap<Object, List<IndexEntry<V>>>) buckets;
+        if (lower != null) {
+            sortedBuckets = sortedBuckets.tailMap(lower, lowerInclusive);
+        }
+        if (upper != null) {
+            sortedBuckets = sortedBuckets.headMap(upper, upperInclusive);
+        }
+        List<IndexEntry<V>> entries = new ArrayList<>();
+        for (List<IndexEntry<V>> bucket : sortedBuckets.values()) {
+            entries.addAll(bucket);
+        }
+        return toPositions(entries);
+    }
+
+    private long[] toPositions(Collection<IndexEntry<V>> entries) {
+        List<IndexEntry<V>> orderedEntries = new ArrayList<>(entries);
+        orderedEntries.sort(POSITION_COMPARATOR);
+        long[] positions = new long[orderedEntries.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = orderedEntries.get(i).position;
+        }
+        return positions;
+    }
+
+    private Object getColumnValue(V row) {
+        return ((MapValue<?, ?>) row).get(columnName);
+    }
+
+    private static class IndexEntry<V> {
+        private final long position;
+        private final V row;
+
+        IndexEntry(long position, V row) {
+            this.position = position;
+            this.row = row;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -88,6 +89,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private boolean nextKeySupported;
 
+    //Secondary indexes on non-key columns, created lazily on first lookup
+    private Map<String, TableIndex<V>> hashIndexes;
+    private Map<String, TableIndex<V>> sortedIndexes;
+
+    //Number of times rows were added or replaced, or the table was cleared, used to detect mutations while
+    //iterating rows looked up from a secondary index
+    private long modificationCount;
+
     private final Map<String, Object> nativeData = new HashMap<>();
 
     public TableValueImpl(TableType type) {
@@ -184,18 +193,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     //Generates the key from the given data
     public V put(V value) {
         handleFrozenTableValue();
+        modificationCount++;
         return valueHolder.putData(value);
     }
 
     @Override
     public V put(K key, V value) {
         handleFrozenTableValue();
+        modificationCount++;
         return valueHolder.putData(key, value);
     }
 
     @Override
     public void add(V data) {
         handleFrozenTableValue();
+        modificationCount++;
         valueHolder.addData(data);
     }
 
@@ -229,6 +241,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         keyToIndexMap.clear();
         indexToKeyMap.clear();
         noOfAddedEntries = 0;
+        modificationCount++;
+        clearColumnIndexes();
     }
 
     @Override
@@ -264,6 +278,192 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return this.valueHolder.getKeyType();
     }
 
+    /**
+     * Returns the number of times rows were added to or replaced in this table, or this table was cleared. Row
+     * positions looked up from a secondary index are only valid as long as this count does not change.
+     *
+     * @return modification count of the table
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the name of the columns which currently have a secondary index.
+     *
+     * @return names of the indexed columns
+     */
+    public synchronized Set<String> getIndexedColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        if (hashIndexes != null) {
+            columns.addAll(hashIndexes.keySet());
+        }
+        if (sortedIndexes != null) {
+            columns.addAll(sortedIndexes.keySet());
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the row at the given iteration position of this table.
+     *
+     * @param position iteration position of the row
+     * @return the row, or null if there is no row at the position
+     */
+    public V getRowAtPosition(long position) {
+        Long hash = indexToKeyMap.get(position);
+        if (hash == null) {
+            return null;
+        }
+        return values.get(hash);
+    }
+
+    /**
+     * Returns the iteration positions of the rows whose value for the given column is equal to the given value, in
+     * table iteration order. The lookup is served from a hash index on the column, which is created on first use
+     * and maintained on every subsequent update of the table.
+     *
+     * @param columnName name of the column
+     * @param value      value to look up
+     * @return positions of the matching rows, or null if the column cannot be indexed
+     */
+    public long[] getRowPositionsByIndex(BString columnName, Object value) {
+        TableIndex<V> index = getColumnIndex(columnName, value, false);
+        if (index == null) {
+            return null;
+        }
+        return index.lookup(value);
+    }
+
+    /**
+     * Returns the iteration positions of the rows whose value for the given column falls within the given range, in
+     * table iteration order. The lookup is served from a sorted index on the column, which is created on first use
+     * and maintained on every subsequent update of the table.
+     *
+     * @param columnName     name of the column
+     * @param lower          lower bound of the range, or null if unbounded
+     * @param lowerInclusive whether the lower bound is part of the range
+     * @param upper          upper bound of the range, or null if unbounded
+     * @param upperInclusive whether the upper bound is part of the range
+     * @return positions of the matching rows, or null if the column cannot be indexed
+     */
+    public long[] getRowPositionsByIndexRange(BString columnName, Object lower, boolean lowerInclusive, Object upper,
+                                       boolean upperInclusive) {
+        TableIndex<V> index = getColumnIndex(columnName, lower != null ? lower : upper, true);
+        if (index == null) {
+            return null;
+        }
+        return index.range(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    private synchronized TableIndex<V> getColumnIndex(BString columnName, Object value, boolean sorted) {
+        Map<String, TableIndex<V>> indexes = sorted ? sortedIndexes : hashIndexes;
+        String column = columnName.getValue();
+        if (indexes != null && indexes.containsKey(column)) {
+            return indexes.get(column);
+        }
+
+        if (!isIndexableColumn(column, value, sorted)) {
+            return null;
+        }
+
+        // A column which can be updated in place is only indexed while every row of the table is immutable.
+        boolean requiresImmutableRows = !isImmutableColumn(column);
+        if (requiresImmutableRows && !hasOnlyImmutableRows()) {
+            return null;
+        }
+
+        TableIndex<V> index = sorted ? TableIndex.createSortedIndex(columnName, requiresImmutableRows) :
+                TableIndex.createHashIndex(columnName, requiresImmutableRows);
+        for (Map.Entry<Long, V> row : values.entrySet()) {
+            index.add(keyToIndexMap.get(row.getKey()), row.getValue());
+        }
+
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            if (sorted) {
+                sortedIndexes = indexes;
+            } else {
+                hashIndexes = indexes;
+            }
+        }
+        indexes.put(column, index);
+        return index;
+    }
+
+    private boolean isIndexableColumn(String column, Object value, boolean sorted) {
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+
+        Field field = ((BRecordType) constraintType).getFields().get(column);
+        if (field == null || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) {
+            return false;
+        }
+
+        switch (field.getFieldType().getTag()) {
+            case TypeTags.INT_TAG:
+                return value instanceof Long;
+            case TypeTags.STRING_TAG:
+                return value instanceof BString;
+            case TypeTags.BOOLEAN_TAG:
+                return !sorted && value instanceof Boolean;
+            default:
+                return false;
+        }
+    }
+
+    // Updates to a row are not visible to the table, so the value of an indexed column must not change while the
+    // row is in the table. Key fields are always readonly.
+    private boolean isImmutableColumn(String column) {
+        Type constraintType = type.getConstrainedType();
+        Field field = ((BRecordType) constraintType).getFields().get(column);
+        return SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY) || constraintType.isReadOnly() ||
+                type.isReadOnly();
+    }
+
+    private boolean hasOnlyImmutableRows() {
+        for (V row : values.values()) {
+            if (!((RefValue) row).isFrozen()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void addToColumnIndexes(Long hash, V data) {
+        if (hashIndexes == null && sortedIndexes == null) {
+            return;
+        }
+        long position = keyToIndexMap.get(hash);
+        if (hashIndexes != null) {
+            hashIndexes.values().removeIf(index -> !index.accepts(data));
+            hashIndexes.values().forEach(index -> index.add(position, data));
+        }
+        if (sortedIndexes != null) {
+            sortedIndexes.values().removeIf(index -> !index.accepts(data));
+            sortedIndexes.values().forEach(index -> index.add(position, data));
+        }
+    }
+
+    private synchronized void removeFromColumnIndexes(Long position, V data) {
+        if (position == null || data == null || (hashIndexes == null && sortedIndexes == null)) {
+            return;
+        }
+        if (hashIndexes != null) {
+            hashIndexes.values().forEach(index -> index.remove(position, data));
+        }
+        if (sortedIndexes != null) {
+            sortedIndexes.values().forEach(index -> index.remove(position, data));
+        }
+    }
+
+    private synchronized void clearColumnIndexes() {
+        hashIndexes = null;
+        sortedIndexes = null;
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -442,9 +642,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation((MapValue) data, type);
             Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
             UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            Long hash = (long) uuid.hashCode();
+            entries.put(hash, entry);
+            updateIndexKeyMappings(hash);
+            V existingData = values.put(hash, data);
+            removeFromColumnIndexes(keyToIndexMap.get(hash), existingData);
+            addToColumnIndexes(hash, data);
+            return existingData;
         }
 
         public V remove(K key) {
@@ -516,7 +720,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             entries.put(hash, entry);
             keys.put(hash, key);
             updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            V existingData = values.put(hash, data);
+            removeFromColumnIndexes(keyToIndexMap.get(hash), existingData);
+            addToColumnIndexes(hash, data);
+            return existingData;
         }
 
         public V putData(V data) {
@@ -537,7 +744,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             if (index != null && index == noOfAddedEntries - 1) {
                 noOfAddedEntries--;
             }
-            return values.remove(hash);
+            V removedData = values.remove(hash);
+            removeFromColumnIndexes(index, removedData);
+            return removedData;
         }
 
         public boolean containsKey(K key) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for generating JSON straight into an output stream.
+ *
+ * @since 2.0.0
+ */
+public class JsonGeneratorTests {
+
+    @Test
+    public void testUtf8StreamSameAsWriter() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            sb.append("{\"id\":").append(i).append(", \"name\":\"caf\\u00E9 \\uD83D\\uDE00 \\u0800 \\\"").append(i)
+                    .append("\\\"\", \"price\":").append(i).append(".25}, ");
+        }
+        sb.append("null]");
+        Object json = JsonUtils.parse(sb.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        StringWriter writer = new StringWriter();
+        JsonUtils.serialize(json, writer);
+
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), writer.toString());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON content directly from its bytes.
+ *
+ * @since 2.0.0
+ */
+public class JsonParserTests {
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\":\"John\", \"age\":30, \"weight\":72.5, \"married\":false, \"spouse\":null}"},
+                {"[1, -2, 3.0, -0, 1.5e3, \"caf\u00E9\", \"\uD83D\uDE00 smile\", true]"},
+                {"  {\"address\" : {\"street\" : \"No 20, \\\"Palm\\\" Grove\", \"zip\" : \"\\u0041\\t01\"}}  "},
+                {"{'single' : 'quoted', \"long string with no escapes in it\" : [[], {}, [{}]]}"},
+                {"\"a plain string\""},
+                {"12345678901"},
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testUtf8BytesParsedSameAsCharacters(String json) {
+        Object fromBytes = JsonUtils.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+        Object fromChars = JsonUtils.parse(new StringReader(json),
+                                           JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(fromBytes.getClass(), fromChars.getClass());
+        Assert.assertEquals(String.valueOf(fromBytes), String.valueOf(fromChars));
+    }
+
+    @Test
+    public void testMalformedUtf8ReplacedInStrings() {
+        byte[] json = {'[', '"', 'a', (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'b', (byte) 0xC3, '"', ']'};
+        Object fromBytes = JsonUtils.parse(new ByteArrayInputStream(json), "UTF-8");
+        Object fromChars = JsonUtils.parse(new StringReader(new String(json, StandardCharsets.UTF_8)),
+                                           JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(String.valueOf(fromBytes), String.valueOf(fromChars));
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*unrecognized token 'tru' at line: 2 column: 9.*")
+    public void testInvalidTokenError() {
+        byte[] json = "{\"a\" : 1,\n\"b\" : tru}".getBytes(StandardCharsets.UTF_8);
+        JsonUtils.parse(new ByteArrayInputStream(json), "UTF-8");
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for the type checks of {@link TypeChecker}, which are cached.
+ */
+public class TypeCheckerTests {
+
+    private static final Type INT_OR_STRING = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                                                                          PredefinedTypes.TYPE_STRING);
+    private static final Type INT_OR_STRING_OR_NIL = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                                                                                 PredefinedTypes.TYPE_STRING,
+                                                                                 PredefinedTypes.TYPE_NULL);
+
+    @Test
+    void testRepeatedTypeChecks() {
+        Type intOrStringArray = TypeCreator.createArrayType(INT_OR_STRING);
+        Type intOrStringOrNilArray = TypeCreator.createArrayType(INT_OR_STRING_OR_NIL);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(INT_OR_STRING, INT_OR_STRING_OR_NIL));
+            Assert.assertFalse(TypeChecker.checkIsType(INT_OR_STRING_OR_NIL, INT_OR_STRING));
+            Assert.assertTrue(TypeChecker.checkIsType(intOrStringArray, PredefinedTypes.TYPE_ANYDATA));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrStringOrNilArray, intOrStringArray));
+        }
+    }
+
+    @Test
+    void testTypeChecksOfMapsWithTheSameConstraint() {
+        // Types which are structurally equal, but are different instances, are checked and cached separately.
+        Type intMap = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type otherIntMap = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type intOrStringMap = TypeCreator.createMapType(INT_OR_STRING);
+        Assert.assertTrue(TypeChecker.checkIsType(intMap, intOrStringMap));
+        Assert.assertTrue(TypeChecker.checkIsType(otherIntMap, intOrStringMap));
+        Assert.assertFalse(TypeChecker.checkIsType(intOrStringMap, otherIntMap));
+        Assert.assertFalse(TypeChecker.checkIsType(intOrStringMap, intMap));
+    }
+
+    @Test
+    void testConcurrentTypeChecks() throws Exception {
+        List<Type> types = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            types.add(TypeCreator.createArrayType(i % 2 == 0 ? INT_OR_STRING : INT_OR_STRING_OR_NIL));
+        }
+        Type target = TypeCreator.createArrayType(INT_OR_STRING);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    Type source = types.get(j % types.size());
+                    if (TypeChecker.checkIsType(source, target) != (j % 2 == 0)) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            Assert.assertTrue(future.get());
+        }
+        executor.shutdown();
+    }
+}
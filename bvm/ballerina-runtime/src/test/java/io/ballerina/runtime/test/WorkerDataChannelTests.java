@@ -0,0 +1,453 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMode;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import io.ballerina.runtime.internal.values.ChannelDetails;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the worker data channel, which are run without generated code. The strands follow the protocol of
+ * the generated code, i.e. a strand, which is yielded after a channel operation, waits until it gets unblocked and then
+ * repeats the operation.
+ */
+public class WorkerDataChannelTests {
+
+    private static final int ITERATIONS = 2000;
+    private static final int MESSAGES = 20;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testAsyncSendReceive() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+        Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertTrue(receiver.isBlocked());
+        Assert.assertEquals(scheduler.unblockCount(receiver), 0);
+
+        channel.sendData(3L, sender);
+        Assert.assertEquals(scheduler.unblockCount(receiver), 1);
+        receiver.setState(State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), 3L);
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+    }
+
+    @Test
+    public void testSyncSendReceive() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+
+        // The sender is blocked until the message is received
+        Assert.assertNull(channel.syncSendData("a", sender));
+        Assert.assertTrue(sender.isBlocked());
+        Assert.assertEquals(channel.tryTakeData(receiver), "a");
+        Assert.assertEquals(scheduler.unblockCount(sender), 1);
+        sender.setState(State.RUNNABLE);
+        Assert.assertNull(channel.syncSendData("a", sender));
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+
+        // The receiver waits for the message, and the sender is blocked again for the next message
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertTrue(receiver.isBlocked());
+        Assert.assertNull(channel.syncSendData("b", sender));
+        Assert.assertTrue(sender.isBlocked());
+        Assert.assertEquals(scheduler.unblockCount(receiver), 1);
+        receiver.setState(State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), "b");
+        Assert.assertEquals(scheduler.unblockCount(sender), 2);
+    }
+
+    @Test
+    public void testSendErrorAfterMessages() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        ErrorValue error = createError("send failed");
+
+        channel.sendData(1L, sender);
+        channel.setSendError(error);
+        // The messages sent before the error are received first
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertSame(channel.tryTakeData(receiver), error);
+        Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+    }
+
+    @Test
+    public void testSendPanicUnblocksReceiver() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        RuntimeException panic = new RuntimeException("sender panicked");
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertTrue(receiver.isBlocked());
+        channel.setSendPanic(panic);
+        Assert.assertEquals(scheduler.unblockCount(receiver), 1);
+        receiver.setState(State.RUNNABLE);
+        try {
+            channel.tryTakeData(receiver);
+            Assert.fail("the panic of the sender is not propagated");
+        } catch (RuntimeException e) {
+            Assert.assertSame(e, panic);
+        }
+    }
+
+    @Test
+    public void testReceiveErrorUnblocksSyncSender() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        ErrorValue error = createError("receive failed");
+
+        Assert.assertNull(channel.syncSendData("a", sender));
+        Assert.assertTrue(sender.isBlocked());
+        channel.setReceiveError(error);
+        Assert.assertEquals(scheduler.unblockCount(sender), 1);
+        sender.setState(State.RUNNABLE);
+        Assert.assertSame(channel.syncSendData("a", sender), error);
+    }
+
+    @Test
+    public void testSyncSendAfterReceiverPanic() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        RuntimeException panic = new RuntimeException("receiver panicked");
+
+        // The receiver has completed with a panic, hence the sender is not blocked
+        channel.setReceiverPanic(panic);
+        try {
+            channel.syncSendData("a", sender);
+            Assert.fail("the panic of the receiver is not propagated");
+        } catch (RuntimeException e) {
+            Assert.assertSame(e, panic);
+        }
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+        Assert.assertEquals(scheduler.unblockCount(sender), 0);
+    }
+
+    @Test
+    public void testFlush() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        initFlush(sender);
+
+        // Nothing to flush
+        Assert.assertNull(channel.flushChannel(sender));
+        Assert.assertEquals(sender.flushDetail.flushedCount, 1);
+
+        // The sender is notified once all the messages sent before the flush are received
+        initFlush(sender);
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        Assert.assertNull(channel.flushChannel(sender));
+        Assert.assertEquals(sender.flushDetail.flushedCount, 0);
+        sender.setState(State.BLOCK_AND_YIELD);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(scheduler.unblockCount(sender), 0);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+        Assert.assertEquals(scheduler.unblockCount(sender), 1);
+        Assert.assertEquals(sender.flushDetail.flushedCount, 1);
+    }
+
+    @Test
+    public void testFlushWithReceiveError() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        ErrorValue error = createError("receive failed");
+        initFlush(sender);
+
+        channel.sendData(1L, sender);
+        Assert.assertNull(channel.flushChannel(sender));
+        sender.setState(State.BLOCK_AND_YIELD);
+        channel.setReceiveError(error);
+        Assert.assertEquals(scheduler.unblockCount(sender), 1);
+        Assert.assertSame(sender.flushDetail.result, error);
+
+        // A later flush fails right away
+        sender.setState(State.RUNNABLE);
+        initFlush(sender);
+        Assert.assertSame(channel.flushChannel(sender), error);
+    }
+
+    @Test
+    public void testRemovedFlushWait() throws Throwable {
+        TestScheduler scheduler = new TestScheduler();
+        Strand sender = scheduler.newStrand();
+        Strand receiver = scheduler.newStrand();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        initFlush(sender);
+
+        channel.sendData(1L, sender);
+        Assert.assertNull(channel.flushChannel(sender));
+        sender.setState(State.BLOCK_AND_YIELD);
+        channel.removeFlushWait();
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(scheduler.unblockCount(sender), 0);
+        Assert.assertEquals(sender.flushDetail.flushedCount, 0);
+    }
+
+    @Test(description = "Test async sends and flushes racing with the receiver")
+    public void testConcurrentFlushAndReceive() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                TestScheduler scheduler = new TestScheduler();
+                Strand sender = scheduler.newStrand();
+                Strand receiver = scheduler.newStrand();
+                WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+                AtomicInteger receivedCount = new AtomicInteger();
+
+                Future<Integer> flushed = executor.submit(() -> {
+                    for (long message = 0; message < MESSAGES; message++) {
+                        channel.sendData(message, sender);
+                    }
+                    flush(scheduler, channel, sender);
+                    return receivedCount.get();
+                });
+                Future<List<Object>> received = executor.submit(() -> {
+                    List<Object> messages = new ArrayList<>();
+                    for (int message = 0; message < MESSAGES; message++) {
+                        messages.add(receive(scheduler, channel, receiver));
+                        receivedCount.incrementAndGet();
+                    }
+                    return messages;
+                });
+
+                Assert.assertEquals(received.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), expectedMessages());
+                // The flush completes only after the last message is taken, which may not be counted yet
+                Assert.assertTrue(flushed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS) >= MESSAGES - 1);
+                Assert.assertEquals(sender.flushDetail.flushedCount, 1);
+                Assert.assertTrue(scheduler.unblockCount(sender) <= 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test sync sends racing with the receiver")
+    public void testConcurrentSyncSendAndReceive() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                TestScheduler scheduler = new TestScheduler();
+                Strand sender = scheduler.newStrand();
+                Strand receiver = scheduler.newStrand();
+                WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+
+                Future<Object> sent = executor.submit(() -> {
+                    for (long message = 0; message < MESSAGES; message++) {
+                        Object result = syncSend(scheduler, channel, sender, message);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
+                    return null;
+                });
+                Future<List<Object>> received = executor.submit(() -> {
+                    List<Object> messages = new ArrayList<>();
+                    for (int message = 0; message < MESSAGES; message++) {
+                        messages.add(receive(scheduler, channel, receiver));
+                    }
+                    return messages;
+                });
+
+                Assert.assertEquals(received.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), expectedMessages());
+                Assert.assertNull(sent.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                Assert.assertEquals(scheduler.unblockCount(sender), MESSAGES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test a sender panic racing with a waiting receiver")
+    public void testConcurrentSendPanicAndReceive() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                TestScheduler scheduler = new TestScheduler();
+                Strand sender = scheduler.newStrand();
+                Strand receiver = scheduler.newStrand();
+                WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+                RuntimeException panic = new RuntimeException("sender panicked");
+
+                executor.submit(() -> {
+                    channel.sendData(1L, sender);
+                    channel.setSendPanic(panic);
+                });
+                Future<Throwable> received = executor.submit(() -> {
+                    Assert.assertEquals(receive(scheduler, channel, receiver), 1L);
+                    try {
+                        receive(scheduler, channel, receiver);
+                    } catch (Throwable t) {
+                        return t;
+                    }
+                    return null;
+                });
+
+                Assert.assertSame(received.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), panic);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Object receive(TestScheduler scheduler, WorkerDataChannel channel, Strand receiver)
+            throws Exception {
+        while (true) {
+            Object result = call(() -> channel.tryTakeData(receiver));
+            if (!receiver.isYielded()) {
+                return result;
+            }
+            scheduler.awaitUnblock(receiver);
+        }
+    }
+
+    private static Object syncSend(TestScheduler scheduler, WorkerDataChannel channel, Strand sender, Object data)
+            throws Exception {
+        Object result = call(() -> channel.syncSendData(data, sender));
+        if (!sender.isYielded()) {
+            return result;
+        }
+        scheduler.awaitUnblock(sender);
+        return call(() -> channel.syncSendData(data, sender));
+    }
+
+    private static void flush(TestScheduler scheduler, WorkerDataChannel channel, Strand sender) throws Exception {
+        // Same as Strand.handleFlush, the flushing strand gets blocked while it holds the flush lock
+        initFlush(sender);
+        sender.flushDetail.flushLock.lock();
+        try {
+            Assert.assertNull(call(() -> channel.flushChannel(sender)));
+            if (sender.flushDetail.flushedCount == 1) {
+                return;
+            }
+            sender.setState(State.BLOCK_AND_YIELD);
+        } finally {
+            sender.flushDetail.flushLock.unlock();
+        }
+        scheduler.awaitUnblock(sender);
+    }
+
+    private static Object call(ChannelOperation operation) throws Exception {
+        try {
+            return operation.call();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static void initFlush(Strand strand) {
+        strand.flushDetail = new Strand.FlushDetail(new ChannelDetails[]{new ChannelDetails("w1->w2", false, true)});
+    }
+
+    private static List<Object> expectedMessages() {
+        List<Object> messages = new ArrayList<>();
+        for (long message = 0; message < MESSAGES; message++) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static ErrorValue createError(String message) {
+        return (ErrorValue) ErrorCreator.createError(StringUtils.fromString(message));
+    }
+
+    /**
+     * An operation on a channel, which may throw the panic of the other side.
+     */
+    private interface ChannelOperation {
+        Object call() throws Throwable;
+    }
+
+    /**
+     * A scheduler, which does not run the strands but lets the test wait until a strand gets unblocked. Same as the
+     * scheduler, a strand that gets unblocked before it is parked is marked as yielded.
+     */
+    private static class TestScheduler extends Scheduler {
+
+        private final Map<Strand, Semaphore> unblocked = new ConcurrentHashMap<>();
+        private final Map<Strand, AtomicInteger> unblockCounts = new ConcurrentHashMap<>();
+
+        TestScheduler() {
+            super(1, false, SchedulerMode.SHARED_QUEUE);
+        }
+
+        Strand newStrand() {
+            Strand strand = new Strand(null, null, this, null, null);
+            unblocked.put(strand, new Semaphore(0));
+            unblockCounts.put(strand, new AtomicInteger());
+            return strand;
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            strand.setState(State.YIELD);
+            unblockCounts.get(strand).incrementAndGet();
+            unblocked.get(strand).release();
+        }
+
+        void awaitUnblock(Strand strand) throws InterruptedException {
+            Assert.assertTrue(unblocked.get(strand).tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                    "the strand is never unblocked");
+            strand.setState(State.RUNNABLE);
+        }
+
+        int unblockCount(Strand strand) {
+            return unblockCounts.get(strand).get();
+        }
+    }
+}
@@ -136,6 +136,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--dump-type-check-stats", hidden = true)
+    private boolean dumpTypeCheckStats;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -178,6 +181,10 @@ public class BuildCommand implements BLauncherCmd {
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
 
+    @CommandLine.Option(names = "--incremental", description = "reuse the modules compiled in the previous build, " +
+            "which have not changed since")
+    private Boolean incrementalBuild;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -283,8 +290,8 @@ public class BuildCommand implements BLauncherCmd {
         }
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                // clean the target directory(projects only)
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)
+                // clean the target directory(projects only), unless the cached modules are reused
+                .addTask(new CleanTargetDirTask(), isSingleFileBuild || project.buildOptions().incrementalBuild())
                 // resolve maven dependencies in Ballerina.toml
                 .addTask(new ResolveMavenDependenciesTask(outStream))
                 // compile the modules
@@ -317,7 +324,9 @@ public class BuildCommand implements BLauncherCmd {
                 .taintCheck(taintCheck)
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
+                .dumpTypeCheckStats(dumpTypeCheckStats)
                 .listConflictedClasses(listConflictedClasses)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
@@ -63,6 +63,10 @@ public class BuildOptions {
         return this.compilationOptions.listConflictedClasses();
     }
 
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
     public String cloud() {
         return this.compilationOptions.getCloud();
     }
@@ -48,6 +48,11 @@ public class BuildOptionsBuilder {
         return this;
     }
 
+    public BuildOptionsBuilder incrementalBuild(Boolean value) {
+        compilationOptionsBuilder.incrementalBuild(value);
+        return this;
+    }
+
     public BuildOptionsBuilder skipTests(Boolean value) {
         compilationOptionsBuilder.skipTests(value);
         return this;
@@ -83,6 +88,11 @@ public class BuildOptionsBuilder {
         return this;
     }
 
+    public BuildOptionsBuilder dumpTypeCheckStats(Boolean value) {
+        compilationOptionsBuilder.dumpTypeCheckStats(value);
+        return this;
+    }
+
     public BuildOptionsBuilder taintCheck(Boolean value) {
         compilationOptionsBuilder.taintCheck(value);
         return this;
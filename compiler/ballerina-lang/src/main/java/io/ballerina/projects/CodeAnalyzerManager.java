@@ -63,6 +63,19 @@ class CodeAnalyzerManager {
         return new CodeAnalyzerManager(compilation, codeAnalyzerContexts);
     }
 
+    boolean hasSyntaxNodeAnalysisTasks() {
+        return !populateSyntaxNodeTaskMap().isEmpty();
+    }
+
+    boolean hasCompilationAnalysisTasks() {
+        for (List<CompilationAnalysisTask> compilationAnalysisTasks : codeAnalyzerTasks.compAnalysisTaskMap.values()) {
+            if (!compilationAnalysisTasks.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     List<Diagnostic> runCodeAnalyzerTasks() {
         List<Diagnostic> reportedDiagnostics = new ArrayList<>();
         runSyntaxNodeAnalysisTasks(reportedDiagnostics);
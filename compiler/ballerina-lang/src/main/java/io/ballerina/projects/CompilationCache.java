@@ -42,4 +42,39 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the cached BIR of the module, if the module had the given fingerprint when it was compiled and its
+     * platform-specific libraries were cached along with the BIR.
+     * <p>
+     * Caches, which do not support incremental builds, do not return anything.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the sources and the dependencies of the module
+     * @return the cached BIR of the module
+     */
+    public Optional<byte[]> getBir(ModuleName moduleName, String fingerprint) {
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the BIR of the module, which is compiled in an incremental build. The BIR is not returned by
+     * {@code getBir(ModuleName, String)} until the fingerprint of the module is cached as well.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the sources and the dependencies of the module
+     * @param birContent  the BIR of the module
+     */
+    public void cacheBir(ModuleName moduleName, String fingerprint, ByteArrayOutputStream birContent) {
+        cacheBir(moduleName, birContent);
+    }
+
+    /**
+     * Caches the fingerprint of the module, once its BIR and platform-specific libraries are cached.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the sources and the dependencies of the module
+     */
+    public void cacheFingerprint(ModuleName moduleName, String fingerprint) {
+    }
 }
@@ -31,22 +31,27 @@ class CompilationOptions {
     private Boolean observabilityIncluded;
     private Boolean dumpBir;
     private String dumpBirFile;
+    private Boolean dumpTypeCheckStats;
     private String cloud;
     private Boolean taintCheck;
     private Boolean listConflictedClasses;
+    private Boolean incrementalBuild;
 
     public CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental,
                               Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile,
-                              String cloud, Boolean taintCheck, Boolean listConflictedClasses) {
+                              Boolean dumpTypeCheckStats, String cloud, Boolean taintCheck,
+                              Boolean listConflictedClasses, Boolean incrementalBuild) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
         this.dumpBirFile = dumpBirFile;
+        this.dumpTypeCheckStats = dumpTypeCheckStats;
         this.cloud = cloud;
         this.taintCheck = taintCheck;
         this.listConflictedClasses = listConflictedClasses;
+        this.incrementalBuild = incrementalBuild;
     }
 
     boolean skipTests() {
@@ -73,6 +78,10 @@ class CompilationOptions {
         return dumpBirFile;
     }
 
+    boolean dumpTypeCheckStats() {
+        return toBooleanDefaultIfNull(dumpTypeCheckStats);
+    }
+
     public String getCloud() {
         return cloud;
     }
@@ -85,6 +94,10 @@ class CompilationOptions {
         return toBooleanDefaultIfNull(listConflictedClasses);
     }
 
+    boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(incrementalBuild);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -104,10 +117,14 @@ class CompilationOptions {
         this.dumpBir = Objects.requireNonNullElseGet(theirOptions.dumpBir, () -> toBooleanDefaultIfNull(this.dumpBir));
         this.cloud = Objects.requireNonNullElse(theirOptions.cloud, toStringDefaultIfNull(this.cloud));
         this.dumpBirFile = theirOptions.dumpBirFile;
+        this.dumpTypeCheckStats = Objects.requireNonNullElseGet(
+                theirOptions.dumpTypeCheckStats, () -> toBooleanDefaultIfNull(this.dumpTypeCheckStats));
         this.taintCheck = Objects.requireNonNullElseGet(theirOptions.taintCheck,
                 () -> toBooleanDefaultIfNull(this.taintCheck));
         this.listConflictedClasses = Objects.requireNonNullElseGet(
                 theirOptions.listConflictedClasses, () -> toBooleanDefaultIfNull(this.listConflictedClasses));
+        this.incrementalBuild = Objects.requireNonNullElseGet(
+                theirOptions.incrementalBuild, () -> toBooleanDefaultIfNull(this.incrementalBuild));
         return this;
     }
 
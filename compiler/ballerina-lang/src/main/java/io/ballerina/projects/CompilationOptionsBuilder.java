@@ -31,9 +31,11 @@ class CompilationOptionsBuilder {
     private Boolean observabilityIncluded;
     private Boolean dumpBir;
     private String dumpBirFile;
+    private Boolean dumpTypeCheckStats;
     private String cloud;
     private Boolean taintCheck;
     private Boolean listConflictedClasses;
+    private Boolean incrementalBuild;
 
     public CompilationOptionsBuilder() {
     }
@@ -73,6 +75,11 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder dumpTypeCheckStats(Boolean value) {
+        dumpTypeCheckStats = value;
+        return this;
+    }
+
     public CompilationOptionsBuilder taintCheck(Boolean value) {
         taintCheck = value;
         return this;
@@ -83,8 +90,13 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                dumpBirFile, cloud, taintCheck, listConflictedClasses);
+                dumpBirFile, dumpTypeCheckStats, cloud, taintCheck, listConflictedClasses, incrementalBuild);
     }
 }
@@ -80,6 +80,10 @@ class DocumentContext {
         return this.name;
     }
 
+    String content() {
+        return this.content;
+    }
+
     void parse() {
         if (syntaxTree != null) {
             return;
@@ -46,7 +46,6 @@ import org.wso2.ballerinalang.util.Lists;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -86,6 +85,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_NAME_SUFFIX = "";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final PrintStream out = System.out;
+    private static final int MAX_PENDING_LIBRARIES = Runtime.getRuntime().availableProcessors();
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -97,6 +97,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final JarResolver jarResolver;
     private final CompilerOptions compilerOptions;
     private final PackageCompilation packageCompilation;
+    private final PendingLibraries pendingLibraries = new PendingLibraries(this, MAX_PENDING_LIBRARIES);
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private List<JarConflict> conflictedJars;
@@ -160,8 +161,19 @@ public class JBallerinaBackend extends CompilerBackend {
             }
         }
 
+        // Cache the libraries, which are still being written, before the fingerprints of their modules. The modules are
+        // not reused when the compiler plugins reported diagnostics, so that the next build reports them too.
+        pendingLibraries.cacheAll();
+        List<Diagnostic> pluginDiagnostics = this.packageContext.getPackageCompilation().pluginDiagnostics();
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            if (moduleContext.compilationState() == ModuleCompilationState.PLATFORM_LIBRARY_GENERATED
+                    && pluginDiagnostics.isEmpty()) {
+                ModuleContext.cacheFingerprintInternal(moduleContext);
+            }
+        }
+
         // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+        diagnostics.addAll(pluginDiagnostics);
         // add ballerina toml diagnostics
         diagnostics.addAll(this.packageContext.manifest().diagnostics().diagnostics());
 
@@ -297,12 +309,9 @@ public class JBallerinaBackend extends CompilerBackend {
         }
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        // Write the jar file in the background, while the code of the next modules is generated
+        pendingLibraries.add(compilationCache, jarFileName, () -> JarWriter.write(compiledJarFile),
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
 
         // skip generation of the test jar if --skip-tests option is set to true
         if (Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS))) {
@@ -315,12 +324,8 @@ public class JBallerinaBackend extends CompilerBackend {
 
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
-        }
+        pendingLibraries.add(compilationCache, testJarFileName, () -> JarWriter.write(compiledTestJarFile),
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
     }
 
     @Override
@@ -36,11 +36,17 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -48,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -74,6 +81,10 @@ class ModuleContext {
     private final List<ModuleDescriptor> moduleDescDependencies;
 
     private Set<ModuleDependency> moduleDependencies;
+    private Set<ModuleContext> dependencyModuleContexts;
+    private String fingerprint;
+    private boolean computingFingerprint;
+    private boolean semanticModelRequired;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
@@ -242,6 +253,18 @@ class ModuleContext {
             return moduleCompState;
         }
 
+        // Reuse the BIR and the platform-specific libraries of the previous build, if the module has not changed
+        if (isIncrementallyBuilt()) {
+            Optional<byte[]> cachedBir = compilationCache.getBir(moduleDescriptor.name(), fingerprint());
+            if (cachedBir.isPresent()) {
+                birBytes = cachedBir.get();
+                moduleCompState = ModuleCompilationState.BIR_LOADED;
+            } else {
+                moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
+            }
+            return moduleCompState;
+        }
+
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
         if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
@@ -261,6 +284,8 @@ class ModuleContext {
 
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
+        this.dependencyModuleContexts = new HashSet<>();
+        this.fingerprint = null;
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
             for (ModuleDescriptor dependencyModDesc : moduleDescDependencies) {
                 // Dependencies loaded from cache should not contain test dependencies
@@ -305,6 +330,7 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.moduleId().packageId(), scope),
                 resolvedModule.moduleId());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -323,12 +349,124 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.packageInstance().packageId(), scope),
                 resolvedModule.moduleId());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule.moduleContext());
     }
 
     void compile(CompilerContext compilerContext) {
         currentCompilationState().compile(this, compilerContext);
     }
 
+    /**
+     * Returns whether the compiled module is cached along with its fingerprint, so that the next build can reuse it
+     * instead of compiling the module again.
+     * <p>
+     * Only the modules of a build project are built incrementally, when the option is enabled. The modules, which
+     * need their semantic model to run tests, to collect observability symbols or to run the code analysis tasks
+     * of compiler plugins and the legacy compiler plugins, are always compiled from sources. So are the modules of cloud builds, because the
+     * compiler plugins, which generate the cloud artifacts, collect their annotations while the modules compile.
+     *
+     * @return true if the module is built incrementally
+     */
+    private boolean isIncrementallyBuilt() {
+        if (project.kind() != ProjectKind.BUILD_PROJECT
+                || !moduleId.packageId().equals(project.currentPackage().packageId())
+                || semanticModelRequired) {
+            return false;
+        }
+
+        CompilationOptions compilationOptions = project.currentPackage().packageContext().compilationOptions();
+        if (!compilationOptions.incrementalBuild() || compilationOptions.observabilityIncluded()
+                || (compilationOptions.getCloud() != null && !compilationOptions.getCloud().isEmpty())) {
+            return false;
+        }
+        return compilationOptions.skipTests() || testSrcDocIds.isEmpty();
+    }
+
+    /**
+     * Makes the module compile from sources, even if the previous build cached it, so that it has a semantic model.
+     */
+    void requireSemanticModel() {
+        this.semanticModelRequired = true;
+    }
+
+    /**
+     * Returns a fingerprint of everything, which the compiled module depends on. This includes the sources of the
+     * module, the Ballerina.toml of the package, the compilation options, and the fingerprints of the modules it
+     * imports. The modules imported from other packages are fingerprinted from the sources of their packages too, so
+     * that a dependency, which changes without a change in its version, is not missed.
+     *
+     * @return the SHA-256 digest of the inputs of the compilation as a hex string
+     */
+    String fingerprint() {
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        if (computingFingerprint) {
+            // Cyclic module imports fail the compilation, and the modules are not cached
+            return moduleDescriptor.moduleCompilationId().toString();
+        }
+
+        computingFingerprint = true;
+        try {
+            fingerprint = computeFingerprint();
+        } finally {
+            computingFingerprint = false;
+        }
+        return fingerprint;
+    }
+
+    private String computeFingerprint() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed
+            throw new ProjectException("Failed to compute the fingerprint of module: " + moduleName(), e);
+        }
+
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.moduleCompilationId().toString());
+        CompilationOptions compilationOptions = project.currentPackage().packageContext().compilationOptions();
+        updateDigest(digest, String.valueOf(compilationOptions.skipTests()));
+        updateDigest(digest, String.valueOf(compilationOptions.experimental()));
+        updateDigest(digest, String.valueOf(compilationOptions.getTaintCheck()));
+        project.currentPackage().packageContext().ballerinaTomlContext().ifPresent(
+                tomlContext -> updateDigest(digest, tomlContext.tomlDocument().textDocument().toString()));
+
+        // Sort the documents and the dependencies, so that the fingerprint does not depend on their iteration order
+        List<DocumentContext> documentContexts = new ArrayList<>(srcDocContextMap.values());
+        if (!compilationOptions.skipTests()) {
+            documentContexts.addAll(testDocContextMap.values());
+        }
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.content());
+        }
+
+        Set<String> dependencyFingerprints = new TreeSet<>();
+        for (ModuleContext dependencyModuleContext : dependencyModuleContexts) {
+            dependencyFingerprints.add(dependencyModuleContext.fingerprint());
+        }
+        for (String dependencyFingerprint : dependencyFingerprints) {
+            updateDigest(digest, dependencyFingerprint);
+        }
+
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix the length, so that the boundaries of the values are part of the digest
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
     void generatePlatformSpecificCode(CompilerContext compilerContext, CompilerBackend compilerBackend) {
         currentCompilationState().generatePlatformSpecificCode(this, compilerContext, compilerBackend);
     }
@@ -407,6 +545,14 @@ class ModuleContext {
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
     }
 
+    static void cacheFingerprintInternal(ModuleContext moduleContext) {
+        // The BIR and the platform-specific libraries of the module can be reused, once they are both cached. A module
+        // with diagnostics, including warnings, is compiled again, so that the next build reports them too.
+        if (moduleContext.isIncrementallyBuilt() && moduleContext.diagnostics().isEmpty()) {
+            moduleContext.compilationCache.cacheFingerprint(moduleContext.moduleName(), moduleContext.fingerprint());
+        }
+    }
+
     private static void cacheBIR(ModuleContext moduleContext) {
         // Skip caching BIR if there are diagnostics
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -419,7 +565,12 @@ class ModuleContext {
             byte[] pkgBirBinaryContent = PackageFileWriter.writePackage(
                     moduleContext.bLangPackage.symbol.birPackageFile);
             birContent.writeBytes(pkgBirBinaryContent);
-            moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+            if (moduleContext.isIncrementallyBuilt()) {
+                moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), moduleContext.fingerprint(),
+                                                        birContent);
+            } else {
+                moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+            }
         } catch (IOException e) {
             // This path may never be executed
             throw new RuntimeException("Failed to convert BIR model to a byte array", e);
@@ -25,10 +25,12 @@ import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
+import java.io.PrintStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -93,13 +95,13 @@ public class PackageCompilation {
     static PackageCompilation from(PackageContext rootPackageContext) {
         PackageCompilation compilation = new PackageCompilation(rootPackageContext);
 
-        // Compile modules in the dependency graph
-        compilation.compileModules();
-
-        // Now the modules are compiled, initialize the compiler plugin manager
+        // Initialize the compiler plugin manager first, so that the modules know whether the plugins analyze them
         CompilerPluginManager compilerPluginManager = CompilerPluginManager.from(compilation);
         compilation.setCompilerPluginManager(compilerPluginManager);
 
+        // Compile modules in the dependency graph
+        compilation.compileModules();
+
         // Run the CodeAnalyzer tasks.
         CodeAnalyzerManager codeAnalyzerManager = compilerPluginManager.getCodeAnalyzerManager();
         // At the moment, we run SyntaxNodeAnalysis and CompilationAnalysis tasks at the same time.
@@ -172,27 +174,59 @@ public class PackageCompilation {
 
     private void compileModulesInternal() {
         List<Diagnostic> diagnostics = new ArrayList<>();
+        // The modules are compiled one at a time, even if they do not depend on each other. The compiler phases are
+        // singletons of the CompilerContext, which keep the state of the module being compiled in their fields.
+
+        // The code analysis tasks of the compiler plugins and the legacy compiler plugins may ask for the semantic
+        // models of the modules, which only the modules compiled from sources have
+        List<CompilerPlugin> legacyPlugins = loadLegacyCompilerPlugins();
+        CodeAnalyzerManager codeAnalyzerManager = compilerPluginManager.getCodeAnalyzerManager();
+        boolean semanticModelsRequired = codeAnalyzerManager.hasSyntaxNodeAnalysisTasks()
+                || codeAnalyzerManager.hasCompilationAnalysisTasks() || !legacyPlugins.isEmpty();
         for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            if (semanticModelsRequired) {
+                moduleContext.requireSemanticModel();
+            }
             moduleContext.compile(compilerContext);
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                 diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
             }
         }
-        runPluginCodeAnalysis(diagnostics);
+        runPluginCodeAnalysis(legacyPlugins, diagnostics);
         addOtherDiagnostics(diagnostics);
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        if (rootPackageContext.compilationOptions().dumpTypeCheckStats()) {
+            dumpTypeCheckStats();
+        }
+    }
+
+    private void dumpTypeCheckStats() {
+        Types types = Types.getInstance(compilerContext);
+        long hits = types.getAssignabilityCacheHits();
+        long checks = hits + types.getAssignabilityCacheMisses();
+        PrintStream console = System.out;
+        console.println(String.format("assignability checks: %d, cache hits: %d (%.1f%%)", checks, hits,
+                                      checks == 0 ? 0.0 : 100.0 * hits / checks));
     }
 
-    private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
+    private List<CompilerPlugin> loadLegacyCompilerPlugins() {
+        List<CompilerPlugin> plugins = new ArrayList<>();
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
             ServiceLoader<CompilerPlugin> processorServiceLoader = ServiceLoader.load(CompilerPlugin.class);
             for (CompilerPlugin plugin : processorServiceLoader) {
-                List<Diagnostic> pluginDiagnostics = plugin.codeAnalyze(rootPackageContext.project());
-                diagnostics.addAll(pluginDiagnostics);
-                this.pluginDiagnostics.addAll(pluginDiagnostics);
+                plugins.add(plugin);
             }
         }
+        return plugins;
+    }
+
+    private void runPluginCodeAnalysis(List<CompilerPlugin> plugins, List<Diagnostic> diagnostics) {
+        for (CompilerPlugin plugin : plugins) {
+            List<Diagnostic> pluginDiagnostics = plugin.codeAnalyze(rootPackageContext.project());
+            diagnostics.addAll(pluginDiagnostics);
+            this.pluginDiagnostics.addAll(pluginDiagnostics);
+        }
     }
 
     private void addOtherDiagnostics(List<Diagnostic> diagnostics) {
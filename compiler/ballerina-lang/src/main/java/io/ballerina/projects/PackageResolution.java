@@ -155,6 +155,7 @@ public class PackageResolution {
     }
 
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
+        parseDocuments();
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
@@ -196,6 +197,26 @@ public class PackageResolution {
         return allModuleLoadRequests;
     }
 
+    /**
+     * Parses the documents of all the modules in parallel, before their imports are collected. The syntax tree of a
+     * document does not depend on any other document.
+     */
+    private void parseDocuments() {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+                documentContexts.add(moduleContext.documentContext(documentId));
+            }
+            if (!compilationOptions.skipTests()) {
+                for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+                    documentContexts.add(moduleContext.documentContext(documentId));
+                }
+            }
+        }
+        documentContexts.parallelStream().forEach(DocumentContext::parse);
+    }
+
     PackageManifest.Dependency getVersionFromPackageManifest(PackageOrg requestedPkgOrg, PackageName requestedPkgName) {
         for (PackageManifest.Dependency dependency : rootPackageContext.manifest().dependencies()) {
             if (dependency.org().equals(requestedPkgOrg) && dependency.name().equals(requestedPkgName)) {
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Platform-specific libraries, which are written in the background while the code of the next modules is generated.
+ * <p>
+ * The libraries are handed to their {@code CompilationCache} on the calling thread, in the order they were added, so
+ * that the caches see single-threaded calls. At most the given number of written libraries are held in memory. If a
+ * library cannot be written, the libraries added after it are discarded.
+ *
+ * @since 2.0.0
+ */
+class PendingLibraries {
+    private final CompilerBackend compilerBackend;
+    private final int maxPendingLibraries;
+    private final Deque<PendingLibrary> pendingLibraries = new ArrayDeque<>();
+
+    PendingLibraries(CompilerBackend compilerBackend, int maxPendingLibraries) {
+        this.compilerBackend = compilerBackend;
+        this.maxPendingLibraries = maxPendingLibraries;
+    }
+
+    /**
+     * Starts writing the library in the background, once the earliest libraries are cached to make room for it.
+     *
+     * @param compilationCache the cache of the library
+     * @param libraryName      the name of the library
+     * @param libraryWriter    writes the content of the library
+     * @param errorMessage     the message of the {@code ProjectException}, if the library cannot be written
+     */
+    void add(CompilationCache compilationCache, String libraryName, LibraryWriter libraryWriter,
+             String errorMessage) {
+        cache(maxPendingLibraries - 1);
+        CompletableFuture<ByteArrayOutputStream> libraryContent = CompletableFuture.supplyAsync(() -> {
+            try {
+                return libraryWriter.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        pendingLibraries.add(new PendingLibrary(compilationCache, libraryName, libraryContent, errorMessage));
+    }
+
+    /**
+     * Waits for all the libraries to be written, and caches them.
+     */
+    void cacheAll() {
+        cache(0);
+    }
+
+    int size() {
+        return pendingLibraries.size();
+    }
+
+    private void cache(int maxPendingLibraries) {
+        while (pendingLibraries.size() > maxPendingLibraries) {
+            PendingLibrary pendingLibrary = pendingLibraries.poll();
+            ByteArrayOutputStream libraryContent;
+            try {
+                libraryContent = pendingLibrary.libraryContent.join();
+            } catch (CompletionException e) {
+                pendingLibraries.clear();
+                Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+                throw new ProjectException(pendingLibrary.errorMessage, cause);
+            }
+            pendingLibrary.compilationCache.cachePlatformSpecificLibrary(compilerBackend, pendingLibrary.libraryName,
+                    libraryContent);
+        }
+    }
+
+    /**
+     * Writes the content of a platform-specific library.
+     */
+    interface LibraryWriter {
+        ByteArrayOutputStream write() throws IOException;
+    }
+
+    /**
+     * A library, which is being written in the background.
+     */
+    private static class PendingLibrary {
+        private final CompilationCache compilationCache;
+        private final String libraryName;
+        private final CompletableFuture<ByteArrayOutputStream> libraryContent;
+        private final String errorMessage;
+
+        PendingLibrary(CompilationCache compilationCache, String libraryName,
+                       CompletableFuture<ByteArrayOutputStream> libraryContent, String errorMessage) {
+            this.compilationCache = compilationCache;
+            this.libraryName = libraryName;
+            this.libraryContent = libraryContent;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
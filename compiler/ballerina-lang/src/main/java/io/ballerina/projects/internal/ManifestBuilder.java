@@ -420,6 +420,8 @@ public class ManifestBuilder {
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.TAINT_CHECK.toString());
         boolean listConflictedClasses =
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.LIST_CONFLICTED_CLASSES.toString());
+        boolean incrementalBuild =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.INCREMENTAL_BUILD.toString());
 
         return buildOptionsBuilder
                 .skipTests(skipTests)
@@ -430,6 +432,7 @@ public class ManifestBuilder {
                 .cloud(cloud)
                 .taintCheck(taintCheck)
                 .listConflictedClasses(listConflictedClasses)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
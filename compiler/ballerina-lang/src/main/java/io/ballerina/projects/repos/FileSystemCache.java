@@ -29,6 +29,7 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -43,6 +44,7 @@ import java.util.Optional;
  * - version
  * - bir
  * - mod1.bir
+ * - mod1.fingerprint
  * - mod2.bir
  * - jar
  * - org-package-name-version.jar
@@ -50,6 +52,8 @@ import java.util.Optional;
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String FINGERPRINT_FILE_EXT = ".fingerprint";
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -88,6 +92,50 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<byte[]> getBir(ModuleName moduleName, String fingerprint) {
+        Path fingerprintFilePath = getFingerprintFilePath(moduleName);
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        if (!Files.exists(fingerprintFilePath) || !Files.exists(birFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            String cachedFingerprint = Files.readString(fingerprintFilePath, StandardCharsets.UTF_8);
+            if (!cachedFingerprint.equals(fingerprint)) {
+                return Optional.empty();
+            }
+            return Optional.of(FileUtils.readFileToByteArray(birFilePath.toFile()));
+        } catch (IOException e) {
+            // The module is compiled again if the cache cannot be read
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, String fingerprint, ByteArrayOutputStream birContent) {
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            // Invalidate the cached fingerprint until the platform-specific libraries of the module are cached too
+            Files.deleteIfExists(getFingerprintFilePath(moduleName));
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void cacheFingerprint(ModuleName moduleName, String fingerprint) {
+        Path fingerprintFilePath = getFingerprintFilePath(moduleName);
+        try {
+            FileUtils.writeStringToFile(fingerprintFilePath.toFile(), fingerprint, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the fingerprint of module: " + moduleName, e);
+        }
+    }
+
     @Override
     public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
         String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
@@ -133,6 +181,10 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    private Path getFingerprintFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + FINGERPRINT_FILE_EXT);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -185,6 +185,7 @@ public class BIRPackageSymbolEnter {
                                          RepoHierarchy packageRepositoryHierarchy,
                                          InputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
+        types.startTypeDefinition();
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
@@ -197,6 +198,8 @@ public class BIRPackageSymbolEnter {
         } catch (Throwable e) {
             throw new BLangCompilerException("failed to load the module '" + packageId.toString() + "' from its BIR" +
                     (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        } finally {
+            types.endTypeDefinition();
         }
     }
 
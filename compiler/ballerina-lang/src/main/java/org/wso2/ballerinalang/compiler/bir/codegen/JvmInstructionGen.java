@@ -41,10 +41,13 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -80,6 +83,7 @@ import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.IFLE;
 import static org.objectweb.asm.Opcodes.IFLT;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
 import static org.objectweb.asm.Opcodes.IF_ICMPGE;
 import static org.objectweb.asm.Opcodes.IF_ICMPGT;
@@ -88,6 +92,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -113,6 +118,7 @@ import static org.objectweb.asm.Opcodes.LSUB;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -122,13 +128,16 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYP
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOLEAN_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_MAPPING_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_XML_QNAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DOUBLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
@@ -139,6 +148,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_UN
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST_INITIAL_EXPRESSION_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_STREAM;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_INITIAL_KEY_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_INITIAL_SPREAD_FIELD_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
@@ -1503,12 +1513,106 @@ public class JvmInstructionGen {
         // load source value
         this.loadVar(typeTestIns.rhsOp.variableDcl);
 
+        if (hasBasicTypeMembers(typeTestIns.type)) {
+            this.generateBasicTypeTest(typeTestIns.type);
+        } else {
+            this.generateCheckIsType(typeTestIns.type);
+        }
+        this.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
+    private void generateCheckIsType(BType targetType) {
         // load targetType
-        jvmTypeGen.loadType(this.mv, typeTestIns.type);
+        jvmTypeGen.loadType(this.mv, targetType);
 
         this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "checkIsType",
                                 String.format("(L%s;L%s;)Z", OBJECT, TYPE), false);
-        this.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
+    /**
+     * Tests the value on the stack against the members of the target type, which are `int`, `float`, `decimal`,
+     * `string`, `boolean` or `()`, by checking the class of the value. Only values, which do not belong to these
+     * members, are checked against the target type at runtime, and only if it has other members.
+     *
+     * @param targetType the target type of the type test
+     */
+    private void generateBasicTypeTest(BType targetType) {
+        Label matchedLabel = new Label();
+        Label endLabel = new Label();
+        boolean hasOtherMembers = false;
+        for (BType memberType : getMemberTypes(targetType)) {
+            switch (memberType.tag) {
+                case TypeTags.INT:
+                    // Values of `byte`, which is a subtype of `int`, are integers.
+                    this.generateInstanceOfCheck(matchedLabel, LONG_VALUE, INT_VALUE, BYTE_VALUE);
+                    break;
+                case TypeTags.FLOAT:
+                    this.generateInstanceOfCheck(matchedLabel, DOUBLE_VALUE);
+                    break;
+                case TypeTags.DECIMAL:
+                    this.generateInstanceOfCheck(matchedLabel, DECIMAL_VALUE);
+                    break;
+                case TypeTags.STRING:
+                    this.generateInstanceOfCheck(matchedLabel, B_STRING_VALUE, STRING_VALUE);
+                    break;
+                case TypeTags.BOOLEAN:
+                    this.generateInstanceOfCheck(matchedLabel, BOOLEAN_VALUE);
+                    break;
+                case TypeTags.NIL:
+                    this.mv.visitInsn(DUP);
+                    this.mv.visitJumpInsn(IFNULL, matchedLabel);
+                    break;
+                default:
+                    hasOtherMembers = true;
+                    break;
+            }
+        }
+
+        if (hasOtherMembers) {
+            this.generateCheckIsType(targetType);
+        } else {
+            // No other value belongs to these types, even when its shape is considered.
+            this.mv.visitInsn(POP);
+            this.mv.visitInsn(ICONST_0);
+        }
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(matchedLabel);
+        this.mv.visitInsn(POP);
+        this.mv.visitInsn(ICONST_1);
+        this.mv.visitLabel(endLabel);
+    }
+
+    private void generateInstanceOfCheck(Label matchedLabel, String... valueClasses) {
+        for (String valueClass : valueClasses) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, valueClass);
+            this.mv.visitJumpInsn(IFNE, matchedLabel);
+        }
+    }
+
+    private static boolean hasBasicTypeMembers(BType type) {
+        for (BType memberType : getMemberTypes(type)) {
+            switch (memberType.tag) {
+                case TypeTags.INT:
+                case TypeTags.FLOAT:
+                case TypeTags.DECIMAL:
+                case TypeTags.STRING:
+                case TypeTags.BOOLEAN:
+                case TypeTags.NIL:
+                    return true;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static Set<BType> getMemberTypes(BType type) {
+        if (type.tag == TypeTags.UNION) {
+            return ((BUnionType) type).getMemberTypes();
+        }
+        return Collections.singleton(type);
     }
 
     void generateIsLikeIns(BIRNonTerminator.IsLike isLike) {
@@ -112,11 +112,13 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_SIMPLE_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_INITIAL_VALUES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_BUILDER;
@@ -684,16 +686,19 @@ class JvmValueGen {
         }
 
         Map<String, BField> fields = recordType.fields;
+        // A closed record can never hold a key other than its own fields, so the backing LinkedHashMap of
+        // MapValueImpl always stays empty. Such records are served entirely from the generated field slots.
+        boolean closed = recordType.sealed;
         this.createRecordFields(cw, fields);
         this.createRecordGetMethod(cw, fields, className, jvmCastGen);
-        this.createRecordSetMethod(cw, fields, className, jvmCastGen);
-        this.createRecordEntrySetMethod(cw, fields, className, jvmCastGen);
+        this.createRecordSetMethod(cw, fields, className, jvmCastGen, closed);
+        this.createRecordEntrySetMethod(cw, fields, className, jvmCastGen, closed);
         this.createRecordContainsKeyMethod(cw, fields, className);
-        this.createRecordGetValuesMethod(cw, fields, className, jvmCastGen);
-        this.createGetSizeMethod(cw, fields, className);
+        this.createRecordGetValuesMethod(cw, fields, className, jvmCastGen, closed);
+        this.createGetSizeMethod(cw, fields, className, closed);
         this.createRecordClearMethod(cw);
         this.createRecordRemoveMethod(cw, fields, className, jvmCastGen);
-        this.createRecordGetKeysMethod(cw, fields, className);
+        this.createRecordGetKeysMethod(cw, fields, className, closed);
         this.createRecordPopulateInitialValuesMethod(cw);
 
         this.createRecordConstructor(cw, TYPEDESC_VALUE);
@@ -906,7 +911,7 @@ class JvmValueGen {
     }
 
     private void createRecordSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
-                                       JvmCastGen jvmCastGen) {
+                                       JvmCastGen jvmCastGen, boolean closed) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "putValue",
                                               String.format("(L%s;L%s;)L%s;", OBJECT, OBJECT, OBJECT), "(TK;TV;)TV;",
@@ -962,7 +967,11 @@ class JvmValueGen {
             i += 1;
         }
 
-        this.createRecordPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
+        if (closed) {
+            this.createClosedRecordPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
+        } else {
+            this.createRecordPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
+        }
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
@@ -979,6 +988,26 @@ class JvmValueGen {
         mv.visitInsn(ARETURN);
     }
 
+    private void createClosedRecordPutDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex,
+                                                  int valueRegIndex) {
+
+        // A closed record has no slot for any other key, and the views of the record only read the field slots.
+        // Hence reject the key, the same way a store to an undeclared field of a closed record is rejected.
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, nameRegIndex);
+        mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+        mv.visitVarInsn(ALOAD, valueRegIndex);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKEVIRTUAL, MAP_VALUE_IMPL, "getType", String.format("()L%s;", TYPE), false);
+        mv.visitTypeInsn(CHECKCAST, RECORD_TYPE_IMPL);
+        mv.visitInsn(ICONST_0);
+        mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleInherentTypeViolatingRecordUpdate",
+                String.format("(L%s;L%s;L%s;L%s;Z)V", MAP_VALUE, B_STRING_VALUE, OBJECT, RECORD_TYPE_IMPL), false);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitInsn(ARETURN);
+    }
+
     private void createRecordGetDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex) {
 
         mv.visitLabel(defaultCaseLabel);
@@ -990,7 +1019,7 @@ class JvmValueGen {
     }
 
     private void createRecordEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
-                                            JvmCastGen jvmCastGen) {
+                                            JvmCastGen jvmCastGen, boolean closed) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "entrySet",
                                           String.format("()L%s;", SET),
@@ -999,9 +1028,7 @@ class JvmValueGen {
         mv.visitCode();
 
         int entrySetVarIndex = 1;
-        mv.visitTypeInsn(NEW, LINKED_HASH_SET);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, JVM_INIT_METHOD, "()V", false);
+        this.createFieldSizedHashSet(mv, fields.size());
         mv.visitVarInsn(ASTORE, entrySetVarIndex);
 
         for (BField optionalField : fields.values()) {
@@ -1040,11 +1067,13 @@ class JvmValueGen {
         }
 
         // Add all from super.enrtySet() to the current entry set.
-        mv.visitVarInsn(ALOAD, entrySetVarIndex);
-        mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
-        mv.visitInsn(POP);
+        if (!closed) {
+            mv.visitVarInsn(ALOAD, entrySetVarIndex);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+            mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
+            mv.visitInsn(POP);
+        }
 
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitInsn(ARETURN);
@@ -1053,6 +1082,15 @@ class JvmValueGen {
 
     }
 
+    private void createFieldSizedHashSet(MethodVisitor mv, int fieldCount) {
+
+        // size the set up front so that adding the record fields never triggers a rehash
+        mv.visitTypeInsn(NEW, LINKED_HASH_SET);
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn(Math.max((int) (fieldCount / 0.75f) + 1, 16));
+        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, JVM_INIT_METHOD, "(I)V", false);
+    }
+
     private void createRecordContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "containsKey", String.format("(L%s;)Z", OBJECT), null, null);
@@ -1109,7 +1147,7 @@ class JvmValueGen {
     }
 
     private void createRecordGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
-                                             JvmCastGen jvmCastGen) {
+                                             JvmCastGen jvmCastGen, boolean closed) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", String.format("()L%s;", COLLECTION),
                                           String.format("()L%s<TV;>;", COLLECTION), null);
@@ -1118,7 +1156,8 @@ class JvmValueGen {
         int valuesVarIndex = 1;
         mv.visitTypeInsn(NEW, ARRAY_LIST);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, JVM_INIT_METHOD, "()V", false);
+        mv.visitLdcInsn(fields.size());
+        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, JVM_INIT_METHOD, "(I)V", false);
         mv.visitVarInsn(ASTORE, valuesVarIndex);
 
         for (BField optionalField : fields.values()) {
@@ -1142,11 +1181,14 @@ class JvmValueGen {
             mv.visitLabel(ifNotPresent);
         }
 
-        mv.visitVarInsn(ALOAD, valuesVarIndex);
-        mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", String.format("()L%s;", COLLECTION), false);
-        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", String.format("(L%s;)Z", COLLECTION), true);
-        mv.visitInsn(POP);
+        if (!closed) {
+            mv.visitVarInsn(ALOAD, valuesVarIndex);
+            mv.visitVarInsn(ALOAD, 0); // this
+            mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", String.format("()L%s;", COLLECTION),
+                               false);
+            mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", String.format("(L%s;)Z", COLLECTION), true);
+            mv.visitInsn(POP);
+        }
 
         mv.visitVarInsn(ALOAD, 1);
         mv.visitInsn(ARETURN);
@@ -1154,14 +1196,19 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                     boolean closed) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
         mv.visitCode();
         int sizeVarIndex = 1;
 
-        mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "size", "()I", false);
+        if (closed) {
+            mv.visitInsn(ICONST_0);
+        } else {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "size", "()I", false);
+        }
         mv.visitVarInsn(ISTORE, sizeVarIndex);
 
         int requiredFieldsCount = 0;
@@ -1289,15 +1336,14 @@ class JvmValueGen {
         }
     }
 
-    private void createRecordGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                           boolean closed) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getKeys", String.format("()[L%s;", OBJECT), "()[TK;", null);
         mv.visitCode();
 
         int keysVarIndex = 1;
-        mv.visitTypeInsn(NEW, LINKED_HASH_SET);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, JVM_INIT_METHOD, "()V", false);
+        this.createFieldSizedHashSet(mv, fields.size());
         mv.visitVarInsn(ASTORE, keysVarIndex);
 
         for (BField optionalField : fields.values()) {
@@ -1321,11 +1367,13 @@ class JvmValueGen {
             mv.visitLabel(ifNotPresent);
         }
 
-        mv.visitVarInsn(ALOAD, keysVarIndex);
-        mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
-        mv.visitInsn(POP);
+        if (!closed) {
+            mv.visitVarInsn(ALOAD, keysVarIndex);
+            mv.visitVarInsn(ALOAD, 0); // this
+            mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+            mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
+            mv.visitInsn(POP);
+        }
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitInsn(DUP);
@@ -42,6 +42,9 @@ public class BIRLockOptimizer extends BIRVisitor {
     private int setId = -1;
 
     public void optimizeNode(BIRNode node) {
+        // The optimizer instance is shared across modules, and locks of different modules never share variables.
+        resetLockSets();
+
         // Collect lock nodes
         node.accept(this);
 
@@ -49,6 +52,13 @@ public class BIRLockOptimizer extends BIRVisitor {
         optimizeLocks();
     }
 
+    private void resetLockSets() {
+        lockList.clear();
+        lockToSetMap.clear();
+        setToLockMap.clear();
+        setId = -1;
+    }
+
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
@@ -17,10 +17,13 @@
 package org.wso2.ballerinalang.compiler.desugar;
 
 import io.ballerina.tools.diagnostics.Location;
+import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -34,8 +37,10 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
@@ -171,6 +176,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -189,17 +195,21 @@ import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
  */
 public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
+    private static final Name QUERY_CREATE_NATIVE_PIPELINE_FUNCTION = new Name("createNativePipeline");
+    private static final Name QUERY_CREATE_INDEXED_TABLE_SOURCE_FUNCTION = new Name("createIndexedTableSource");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_NATIVE_JOIN_FUNCTION = new Name("createNativeJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
+    private static final Name QUERY_ADD_NATIVE_JOIN_FUNCTION = new Name("addNativeJoinFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
     private static final Name QUERY_TO_STRING_FUNCTION = new Name("toString");
@@ -322,8 +332,11 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
-        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+        BLangExpression initCollection = addIndexedTableSource(block, initFromClause, clauses);
+        boolean isNativePipeline = isNativePipelineSupported(clauses);
+        final BLangVariableReference initPipeline = isNativePipeline
+                ? addNativePipeline(block, initFromClause.pos, initCollection, resultType, true)
+                : addPipeline(block, initFromClause.pos, initCollection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -337,12 +350,19 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
-                    BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                    // Frames of the joined pipeline are kept by the join function, hence they cannot be reused.
+                    BLangVariableReference joinPipeline = isNativePipeline
+                            ? addNativePipeline(block, joinClause.pos, joinClause.collection, resultType, false)
+                            : addPipeline(block, joinClause.pos, joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
-                    addStreamFunction(block, initPipeline, joinFunc);
+                    if (isNativePipeline) {
+                        BLangVariableReference joinFunc = addNativeJoinFunction(block, joinClause, joinPipeline);
+                        addJoinFunctionToNativePipeline(block, initPipeline, joinFunc);
+                    } else {
+                        BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
+                        addStreamFunction(block, initPipeline, joinFunc);
+                    }
                     break;
                 case LET_CLAUSE:
                     BLangVariableReference letFunc = addLetFunction(block, (BLangLetClause) clause);
@@ -390,6 +410,292 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
                                        BLangExpression collection, BType resultType) {
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
+                getPipelineArgs(blockStmt, pos, collection, resultType), pos);
+    }
+
+    /**
+     * Desugar fromClause/joinClause to below and return a reference to created _NativeStreamPipeline, which runs
+     * the stream functions in a Java executor.
+     * _NativeStreamPipeline pipeline = createNativePipeline(collection, reuseFrames);
+     *
+     * @param blockStmt   parent block to write to.
+     * @param pos         diagnostic pos of the collection.
+     * @param collection  reference to the collection.
+     * @param resultType  constraint type of the collection.
+     * @param reuseFrames whether the frame of a row can be reused for the next row.
+     * @return variableReference to created _NativeStreamPipeline.
+     */
+    BLangVariableReference addNativePipeline(BLangBlockStmt blockStmt, Location pos, BLangExpression collection,
+                                             BType resultType, boolean reuseFrames) {
+        List<BLangExpression> args = getPipelineArgs(blockStmt, pos, collection, resultType);
+        args.add(ASTBuilderUtil.createLiteral(pos, symTable.booleanType, reuseFrames));
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_NATIVE_PIPELINE_FUNCTION, args, pos);
+    }
+
+    /**
+     * Check whether the given clauses can be run by a _NativeStreamPipeline. Nested from clauses re-evaluate their
+     * collection for each frame, and are only supported by the _StreamPipeline. The _NativeStreamPipeline calls the
+     * clause functions without yielding the strand, hence the collections are iterated and the clauses are evaluated
+     * by the _StreamPipeline unless they cannot yield.
+     *
+     * @param clauses list of query clauses.
+     * @return true if the query can use a _NativeStreamPipeline.
+     */
+    private boolean isNativePipelineSupported(List<BLangNode> clauses) {
+        for (BLangNode clause : clauses) {
+            switch (clause.getKind()) {
+                case FROM:
+                    if (clause != clauses.get(0) || !isNativeIterable((BLangInputClause) clause)) {
+                        return false;
+                    }
+                    break;
+                case JOIN:
+                    BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    if (!isNativeIterable(joinClause) || (joinClause.onClause != null
+                            && (mayYield((BLangExpression) joinClause.onClause.getLeftExpression())
+                            || mayYield((BLangExpression) joinClause.onClause.getRightExpression())))) {
+                        return false;
+                    }
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        if (mayYield(((BLangVariable) letVariable.definitionNode.getVariable()).expr)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (mayYield(((BLangWhereClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case ORDER_BY:
+                    for (OrderKeyNode orderKeyNode : ((BLangOrderByClause) clause).orderByKeyList) {
+                        if (mayYield(((BLangOrderKey) orderKeyNode).expression)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case SELECT:
+                    if (mayYield(((BLangSelectClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case DO:
+                    if (mayYield(((BLangDoClause) clause).body)) {
+                        return false;
+                    }
+                    break;
+                case LIMIT:
+                    if (mayYield(((BLangLimitClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case ON_CONFLICT:
+                    if (mayYield(((BLangOnConflictClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the collection of the given input clause is iterated without calling Ballerina code. Streams and
+     * iterable objects other than integer ranges are iterated by calling their next method, which may yield.
+     *
+     * @param inputClause from or join clause.
+     * @return true if the collection can be iterated by a _NativeStreamPipeline.
+     */
+    private boolean isNativeIterable(BLangInputClause inputClause) {
+        return !mayYield(inputClause.collection) && isNativeIterable(inputClause.collection.type);
+    }
+
+    private boolean isNativeIterable(BType type) {
+        switch (type.tag) {
+            case TypeTags.STREAM:
+                return false;
+            case TypeTags.OBJECT:
+                return type == symTable.intRangeType;
+            case TypeTags.INTERSECTION:
+                return isNativeIterable(((BIntersectionType) type).effectiveType);
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                    if (!isNativeIterable(memberType)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Conservatively check whether evaluating the given expression may yield the strand. Invocations other than
+     * synchronous langlib functions, actions, wait and worker interactions are considered to yield.
+     *
+     * @param expr expression of a query clause.
+     * @return false if the expression never yields.
+     */
+    private boolean mayYield(BLangExpression expr) {
+        if (expr == null) {
+            return false;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case SIMPLE_VARIABLE_REF:
+            case CONSTANT_REF:
+            case TYPEDESC_EXPRESSION:
+                return false;
+            case FIELD_BASED_ACCESS_EXPR:
+                return mayYield(((BLangFieldBasedAccess) expr).expr);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccess = (BLangIndexBasedAccess) expr;
+                return mayYield(indexAccess.expr) || mayYield(indexAccess.indexExpr);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return mayYield(binaryExpr.lhsExpr) || mayYield(binaryExpr.rhsExpr);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return mayYield(elvisExpr.lhsExpr) || mayYield(elvisExpr.rhsExpr);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return mayYield(ternaryExpr.expr) || mayYield(ternaryExpr.thenExpr) || mayYield(ternaryExpr.elseExpr);
+            case UNARY_EXPR:
+                return mayYield(((BLangUnaryExpr) expr).expr);
+            case GROUP_EXPR:
+                return mayYield(((BLangGroupExpr) expr).expression);
+            case TYPE_TEST_EXPR:
+                return mayYield(((BLangTypeTestExpr) expr).expr);
+            case TYPE_CONVERSION_EXPR:
+                return mayYield(((BLangTypeConversionExpr) expr).expr);
+            case CHECK_EXPR:
+            case CHECK_PANIC_EXPR:
+                return mayYield(((BLangCheckedExpr) expr).expr);
+            case TRAP_EXPR:
+                return mayYield(((BLangTrapExpr) expr).expr);
+            case REST_ARGS_EXPR:
+                return mayYield(((BLangRestArgsExpression) expr).expr);
+            case NAMED_ARGS_EXPR:
+                return mayYield(((BLangNamedArgsExpression) expr).expr);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return mayYield(((BLangListConstructorExpr) expr).exprs);
+            case STRING_TEMPLATE_LITERAL:
+                return mayYield(((BLangStringTemplateLiteral) expr).exprs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                        if ((keyValueField.key.computedKey && mayYield(keyValueField.key.expr))
+                                || mayYield(keyValueField.valueExpr)) {
+                            return true;
+                        }
+                    } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP
+                            && mayYield(((BLangRecordSpreadOperatorField) field).expr)) {
+                        return true;
+                    }
+                }
+                return false;
+            case INVOCATION:
+                return mayYield((BLangInvocation) expr);
+            default:
+                return true;
+        }
+    }
+
+    private boolean mayYield(List<BLangExpression> exprs) {
+        for (BLangExpression expr : exprs) {
+            if (mayYield(expr)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayYield(BLangInvocation invocation) {
+        if (invocation.async || invocation.functionPointerInvocation
+                || invocation instanceof BLangInvocation.BLangActionInvocation || invocation.symbol == null) {
+            return true;
+        }
+        PackageID pkgID = invocation.symbol.pkgID;
+        if (!PackageID.isLangLibPackageID(pkgID) || pkgID.equals(PackageID.RUNTIME) || pkgID.equals(PackageID.STREAM)
+                || pkgID.equals(PackageID.QUERY) || pkgID.equals(PackageID.FUTURE)
+                || pkgID.equals(PackageID.TRANSACTION) || pkgID.equals(PackageID.INTERNAL)) {
+            return true;
+        }
+        // Langlib functions which take a function or an object may call it, e.g. array:map and array:filter.
+        List<BLangExpression> args = new ArrayList<>(invocation.argExprs);
+        if (invocation.expr != null) {
+            args.add(invocation.expr);
+        }
+        for (BLangExpression arg : args) {
+            switch (arg.type.tag) {
+                case TypeTags.INVOKABLE:
+                case TypeTags.OBJECT:
+                case TypeTags.STREAM:
+                case TypeTags.FUTURE:
+                    return true;
+                default:
+                    if (mayYield(arg)) {
+                        return true;
+                    }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Conservatively check whether executing the given statement of a do clause may yield the strand.
+     *
+     * @param stmt statement of a do clause.
+     * @return false if the statement never yields.
+     */
+    private boolean mayYield(BLangStatement stmt) {
+        switch (stmt.getKind()) {
+            case BLOCK:
+                for (BLangStatement blockStmt : ((BLangBlockStmt) stmt).stmts) {
+                    if (mayYield(blockStmt)) {
+                        return true;
+                    }
+                }
+                return false;
+            case VARIABLE_DEF:
+                return mayYield(((BLangSimpleVariableDef) stmt).var.expr);
+            case ASSIGNMENT:
+                BLangAssignment assignment = (BLangAssignment) stmt;
+                return mayYield(assignment.varRef) || mayYield(assignment.expr);
+            case COMPOUND_ASSIGNMENT:
+                BLangCompoundAssignment compoundAssignment = (BLangCompoundAssignment) stmt;
+                return mayYield(compoundAssignment.varRef) || mayYield(compoundAssignment.expr);
+            case EXPRESSION_STATEMENT:
+                return mayYield(((BLangExpressionStmt) stmt).expr);
+            case IF:
+                BLangIf ifStmt = (BLangIf) stmt;
+                return mayYield(ifStmt.expr) || mayYield(ifStmt.body)
+                        || (ifStmt.elseStmt != null && mayYield(ifStmt.elseStmt));
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Define the collection variable and return the collection, constraint typedesc and completion typedesc args,
+     * which are common to createPipeline and createNativePipeline.
+     *
+     * @param blockStmt  parent block to write to.
+     * @param pos        diagnostic pos of the collection.
+     * @param collection reference to the collection.
+     * @param resultType constraint type of the collection.
+     * @return args to create the pipeline.
+     */
+    private List<BLangExpression> getPipelineArgs(BLangBlockStmt blockStmt, Location pos,
+                                                  BLangExpression collection, BType resultType) {
         String name = getNewVarName();
         BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
                                                collection.type, this.env.scope.owner, pos, VIRTUAL);
@@ -414,8 +720,169 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangTypedescExpr completionTdExpr = new BLangTypedescExpr();
         completionTdExpr.resolvedType = completionType;
         completionTdExpr.type = completionTdType;
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr), pos);
+        return Lists.of(valueVarRef, constraintTdExpr, completionTdExpr);
+    }
+
+    /**
+     * Desugar the table source of the initial fromClause to below, when the whereClause that immediately follows
+     * compares a field of the row against a value that cannot change during the query. The whereClause is kept as
+     * is and applied to the narrowed rows, so the table itself can be returned if no index can be used at runtime.
+     * table<map<Type>>|_Iterable source = createIndexedTableSource(collection, "field", "==", value);
+     *
+     * @param blockStmt  parent block to write to.
+     * @param fromClause initial fromClause of the query.
+     * @param clauses    list of query clauses.
+     * @return reference to the narrowed source, or the original collection if it cannot be narrowed.
+     */
+    BLangExpression addIndexedTableSource(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                          List<BLangNode> clauses) {
+        BLangExpression collection = fromClause.collection;
+        if (collection.type.tag != TypeTags.TABLE || clauses.size() < 2
+                || clauses.get(1).getKind() != NodeKind.WHERE) {
+            return collection;
+        }
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (variable.getKind() != NodeKind.VARIABLE || variable.symbol == null) {
+            return collection;
+        }
+
+        BSymbol rowSymbol = variable.symbol;
+        BLangBinaryExpr comparison = findIndexableComparison(((BLangWhereClause) clauses.get(1)).expression,
+                rowSymbol);
+        if (comparison == null) {
+            return collection;
+        }
+
+        boolean isFieldOnLhs = isRowFieldAccess(comparison.lhsExpr, rowSymbol);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess)
+                (isFieldOnLhs ? comparison.lhsExpr : comparison.rhsExpr);
+        BLangExpression valueExpr = isFieldOnLhs ? comparison.rhsExpr : comparison.lhsExpr;
+        OperatorKind operator = isFieldOnLhs ? comparison.opKind : getReversedOperator(comparison.opKind);
+
+        Location pos = fromClause.pos;
+        BLangLiteral columnName = ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                StringEscapeUtils.unescapeJava(fieldAccess.field.value));
+        BLangLiteral operatorName = ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator.value());
+        BLangExpression value = desugar.addConversionExprIfRequired(createInvariantValueExpr(valueExpr),
+                symTable.anydataType);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_TABLE_SOURCE_FUNCTION,
+                Lists.of(collection, columnName, operatorName, value), pos);
+    }
+
+    /**
+     * Find a comparison of a field of the row against an invariant value within the given where expression, which
+     * can be answered by an index of the table. Only the top level conjuncts of the expression are considered.
+     *
+     * @param expr      where expression.
+     * @param rowSymbol symbol of the row variable of the fromClause.
+     * @return the comparison, or null if there is none.
+     */
+    private BLangBinaryExpr findIndexableComparison(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            return findIndexableComparison(((BLangGroupExpr) expr).expression, rowSymbol);
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr comparison = findIndexableComparison(binaryExpr.lhsExpr, rowSymbol);
+                return comparison != null ? comparison : findIndexableComparison(binaryExpr.rhsExpr, rowSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                break;
+            default:
+                return null;
+        }
+
+        BLangExpression fieldExpr;
+        BLangExpression valueExpr;
+        if (isRowFieldAccess(binaryExpr.lhsExpr, rowSymbol)) {
+            fieldExpr = binaryExpr.lhsExpr;
+            valueExpr = binaryExpr.rhsExpr;
+        } else if (isRowFieldAccess(binaryExpr.rhsExpr, rowSymbol)) {
+            fieldExpr = binaryExpr.rhsExpr;
+            valueExpr = binaryExpr.lhsExpr;
+        } else {
+            return null;
+        }
+
+        if (!isInvariantValue(valueExpr, rowSymbol) || fieldExpr.type.tag != valueExpr.type.tag) {
+            return null;
+        }
+        switch (fieldExpr.type.tag) {
+            case TypeTags.INT:
+            case TypeTags.STRING:
+                return binaryExpr;
+            case TypeTags.BOOLEAN:
+                return binaryExpr.opKind == OperatorKind.EQUAL ? binaryExpr : null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isRowFieldAccess(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol
+                || rowSymbol.type.tag != TypeTags.RECORD) {
+            return false;
+        }
+        BField field = ((BRecordType) rowSymbol.type).fields.get(fieldAccess.field.value);
+        return field != null && !Symbols.isFlagOn(field.symbol.flags, Flags.OPTIONAL);
+    }
+
+    private boolean isInvariantValue(BLangExpression expr, BSymbol rowSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null || symbol == rowSymbol) {
+                    return false;
+                }
+                return (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT ||
+                        ((symbol.tag & SymTag.VARIABLE) == SymTag.VARIABLE && Symbols.isFlagOn(symbol.flags,
+                                Flags.FINAL));
+            default:
+                return false;
+        }
+    }
+
+    private BLangExpression createInvariantValueExpr(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case CONSTANT_REF:
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.type, ((BLangConstRef) expr).value);
+            case SIMPLE_VARIABLE_REF:
+                return ASTBuilderUtil.createVariableRef(expr.pos, ((BLangSimpleVarRef) expr).symbol);
+            default:
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.type, ((BLangLiteral) expr).value);
+        }
+    }
+
+    private OperatorKind getReversedOperator(OperatorKind operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return operator;
+        }
     }
 
     /**
@@ -519,6 +986,34 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Desugar joinClauses of a _NativeStreamPipeline to below and return a reference to created join _StreamFunction.
+     * The nilFrame is only given for outer joins.
+     * _NativeJoinFunction joinFunc = createNativeJoinFunction(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
+     *
+     * @param blockStmt    parent block to write to.
+     * @param joinClause   to be desugared.
+     * @param joinPipeline previously created _NativeStreamPipeline reference to be joined.
+     * @return variableReference to created _NativeJoinFunction.
+     */
+    BLangVariableReference addNativeJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                                 BLangVariableReference joinPipeline) {
+        BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
+        BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
+        BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr);
+        BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr);
+        BLangExpression nilFrame;
+        if (joinClause.isOuterJoin) {
+            List<BVarSymbol> symbols =
+                    getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable());
+            nilFrame = defineNilFrameForType(symbols, blockStmt, rhsExpr.pos);
+        } else {
+            nilFrame = ASTBuilderUtil.createLiteral(joinClause.pos, symTable.nilType, Names.NIL_VALUE);
+        }
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_NATIVE_JOIN_FUNCTION,
+                Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame), joinClause.pos);
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
@@ -700,6 +1195,22 @@ public class QueryDesugar extends BLangNodeVisitor {
         stmt.expr = addStreamFunctionInvocation;
     }
 
+    /**
+     * Desugar to following invocation.
+     * stream:addNativeJoinFunction(pipeline, joinFunction);
+     *
+     * @param blockStmt   parent block to write to.
+     * @param pipelineRef variableReference to _NativeStreamPipeline.
+     * @param functionRef variableReference to _NativeJoinFunction.
+     */
+    void addJoinFunctionToNativePipeline(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef,
+                                         BLangVariableReference functionRef) {
+        BLangInvocation addJoinFunctionInvocation = createQueryLibInvocation(QUERY_ADD_NATIVE_JOIN_FUNCTION,
+                Lists.of(pipelineRef, functionRef), pipelineRef.pos);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pipelineRef.pos, blockStmt);
+        stmt.expr = addJoinFunctionInvocation;
+    }
+
     /**
      * Desugar to following invocation.
      * stream<any|error, error?> result = xsPipeline.getStream();
@@ -2912,6 +2912,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
                 key.type.flags |= Flags.ISOLATED;
             }
         }
+        types.invalidateAssignabilityCache();
     }
 
     private boolean inferredIsolated(BInvokableSymbol symbol, IsolationInferenceInfo isolationInferenceInfo,
@@ -709,6 +709,7 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
         if (isRecordType && allReadOnlyFields) {
             type.tsymbol.flags |= Flags.READONLY;
             type.flags |= Flags.READONLY;
+            types.invalidateAssignabilityCache();
         }
 
         validateDefaultable(recordTypeNode);
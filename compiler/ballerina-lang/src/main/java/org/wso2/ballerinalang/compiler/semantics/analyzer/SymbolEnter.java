@@ -312,8 +312,13 @@ public class SymbolEnter extends BLangNodeVisitor {
         // imports.
         importedPackages.add(pkgNode.packageID);
 
-        defineConstructs(pkgNode, pkgEnv);
-        pkgNode.getTestablePkgs().forEach(testablePackage -> defineTestablePackage(testablePackage, pkgEnv));
+        types.startTypeDefinition();
+        try {
+            defineConstructs(pkgNode, pkgEnv);
+            pkgNode.getTestablePkgs().forEach(testablePackage -> defineTestablePackage(testablePackage, pkgEnv));
+        } finally {
+            types.endTypeDefinition();
+        }
         pkgNode.completedPhases.add(CompilerPhase.DEFINE);
 
         // After we have visited a package node, we need to remove it from the imports list.
@@ -7968,6 +7968,7 @@ public class TypeChecker extends BLangNodeVisitor {
     private void markTypeAsIsolated(BType actualType) {
         actualType.flags |= Flags.ISOLATED;
         actualType.tsymbol.flags |= Flags.ISOLATED;
+        types.invalidateAssignabilityCache();
     }
 
     private boolean isObjectConstructorExpr(BLangTypeInit cIExpr, BType actualType) {
@@ -8021,6 +8022,7 @@ public class TypeChecker extends BLangNodeVisitor {
 
         ImmutableTypeCloner.markFieldsAsImmutable(classDefForConstructor, env, actualObjectType, types,
                                                   anonymousModelHelper, symTable, names, cIExpr.pos);
+        types.invalidateAssignabilityCache();
 
         semanticAnalyzer.analyzeNode(classDefForConstructor, env);
     }
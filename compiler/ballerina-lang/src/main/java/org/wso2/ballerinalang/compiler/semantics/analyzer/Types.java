@@ -103,6 +103,7 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -152,6 +153,12 @@ public class Types {
     private int recordCount = 0;
     private SymbolEnv env;
 
+    // Results of the assignability checks, which are not made while types are being defined.
+    private final Map<TypePair, Boolean> assignabilityCache = new HashMap<>();
+    private int typeDefinitionDepth = 0;
+    private long assignabilityCacheHits = 0;
+    private long assignabilityCacheMisses = 0;
+
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
         if (types == null) {
@@ -626,7 +633,58 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (typeDefinitionDepth > 0) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+
+        // Only the results of the outermost checks are cached. A nested check of a recursive type may assume that
+        // a pair of types, which is still being checked, is assignable, and its result holds only under it.
+        TypePair pair = new TypePair(source, target);
+        Boolean cachedResult = assignabilityCache.get(pair);
+        if (cachedResult != null) {
+            assignabilityCacheHits++;
+            return cachedResult;
+        }
+
+        assignabilityCacheMisses++;
+        boolean assignable = isAssignable(source, target, new HashSet<>());
+        assignabilityCache.put(pair, assignable);
+        return assignable;
+    }
+
+    /**
+     * Stops caching the results of the assignability checks while types are being defined, as the members of the
+     * types, which are not defined yet, may change the results. Calls to this method must be followed by calls to
+     * {@link #endTypeDefinition()}.
+     */
+    public void startTypeDefinition() {
+        typeDefinitionDepth++;
+        assignabilityCache.clear();
+    }
+
+    /**
+     * Resumes caching the results of the assignability checks once types have been defined.
+     */
+    public void endTypeDefinition() {
+        typeDefinitionDepth--;
+        assignabilityCache.clear();
+    }
+
+    /**
+     * Clears the cached results of the assignability checks. This should be called when a type, which may have been
+     * checked already, is updated in a way that changes the types it is assignable to, e.g. it is marked as
+     * read-only or isolated.
+     */
+    public void invalidateAssignabilityCache() {
+        assignabilityCache.clear();
+    }
+
+    public long getAssignabilityCacheHits() {
+        return assignabilityCacheHits;
+    }
+
+    public long getAssignabilityCacheMisses() {
+        return assignabilityCacheMisses;
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests writing the platform-specific libraries in the background with {@code PendingLibraries}.
+ *
+ * @since 2.0.0
+ */
+public class PendingLibrariesTest {
+
+    @Test(description = "Test caching the libraries in the order they are added, while the later ones finish first")
+    public void testLibrariesAreCachedInOrder() {
+        TestCompilationCache compilationCache = new TestCompilationCache();
+        PendingLibraries pendingLibraries = new PendingLibraries(null, 2);
+        for (int i = 0; i < 5; i++) {
+            pendingLibraries.add(compilationCache, "library-" + i, writeLibrary("library-" + i, (5 - i) * 20L),
+                    "Failed to write library-" + i);
+            Assert.assertTrue(pendingLibraries.size() <= 2, "at most 2 libraries are pending");
+            Assert.assertEquals(compilationCache.libraryNames.size() + pendingLibraries.size(), i + 1);
+        }
+
+        pendingLibraries.cacheAll();
+        List<String> expectedNames = Arrays.asList("library-0", "library-1", "library-2", "library-3", "library-4");
+        Assert.assertEquals(pendingLibraries.size(), 0);
+        Assert.assertEquals(compilationCache.libraryNames, expectedNames);
+        Assert.assertEquals(compilationCache.libraryContents, expectedNames);
+        for (Thread thread : compilationCache.cachingThreads) {
+            Assert.assertSame(thread, Thread.currentThread());
+        }
+    }
+
+    @Test(description = "Test discarding the pending libraries, when a library cannot be written")
+    public void testLibraryWriteFailure() {
+        TestCompilationCache compilationCache = new TestCompilationCache();
+        PendingLibraries pendingLibraries = new PendingLibraries(null, 4);
+        pendingLibraries.add(compilationCache, "library-0", writeLibrary("library-0", 0),
+                "Failed to write library-0");
+        pendingLibraries.add(compilationCache, "library-1", () -> {
+            throw new IOException("no space left on device");
+        }, "Failed to write library-1");
+        pendingLibraries.add(compilationCache, "library-2", writeLibrary("library-2", 0),
+                "Failed to write library-2");
+        pendingLibraries.add(compilationCache, "library-3", writeLibrary("library-3", 0),
+                "Failed to write library-3");
+
+        try {
+            pendingLibraries.cacheAll();
+            Assert.fail("the failure to write library-1 is not reported");
+        } catch (ProjectException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to write library-1");
+            Assert.assertTrue(e.getCause() instanceof IOException);
+            Assert.assertEquals(e.getCause().getMessage(), "no space left on device");
+        }
+
+        // The libraries, which were added after the failed library, are not cached
+        Assert.assertEquals(pendingLibraries.size(), 0);
+        pendingLibraries.cacheAll();
+        Assert.assertEquals(compilationCache.libraryNames, Arrays.asList("library-0"));
+    }
+
+    private static PendingLibraries.LibraryWriter writeLibrary(String content, long delayMillis) {
+        return () -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ByteArrayOutputStream libraryContent = new ByteArrayOutputStream();
+            libraryContent.write(content.getBytes(StandardCharsets.UTF_8));
+            return libraryContent;
+        };
+    }
+
+    /**
+     * An instance of {@code CompilationCache}, which records the cached libraries.
+     */
+    private static class TestCompilationCache extends CompilationCache {
+        private final List<String> libraryNames = new ArrayList<>();
+        private final List<String> libraryContents = new ArrayList<>();
+        private final List<Thread> cachingThreads = new ArrayList<>();
+
+        TestCompilationCache() {
+            super(null);
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            return new byte[0];
+        }
+
+        @Override
+        public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        }
+
+        @Override
+        public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName,
+                                                 ByteArrayOutputStream libraryContent) {
+            libraryNames.add(libraryName);
+            libraryContents.add(libraryContent.toString(StandardCharsets.UTF_8));
+            cachingThreads.add(Thread.currentThread());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -43,6 +44,12 @@ public class Sort {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
 
+        // Arrays of simple basic types are sorted within their own storage when there is no key function.
+        if (function == null && arr instanceof ArrayValueImpl &&
+                ((ArrayValueImpl) arr).sortSimpleValues(direction.toString().equals("ascending"))) {
+            return arr;
+        }
+
         Object[][] sortArr = new Object[arr.size()][2];
         Object[][] sortArrClone = new Object[arr.size()][2];
         if (function != null) {
@@ -19,6 +19,7 @@
 package org.ballerinalang.langlib.decimal;
 
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.internal.values.DecimalValue;
 
 /**
  * Native implementation of lang.decimal:max(decimal, decimal...).
@@ -38,7 +39,7 @@ public class Max {
         int size = ns.length;
         for (int i = 0; i < size; i++) {
             BDecimal current = ns[i];
-            max = current.value().compareTo(max.value()) >= 0 ? current : max;
+            max = ((DecimalValue) current).compareValue((DecimalValue) max) >= 0 ? current : max;
         }
         return max;
     }
@@ -19,6 +19,7 @@
 package org.ballerinalang.langlib.decimal;
 
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.internal.values.DecimalValue;
 
 /**
  * Native implementation of lang.decimal:min(decimal, decimal...).
@@ -38,7 +39,7 @@ public class Min {
         int size = ns.length;
         for (int i = 0; i < size; i++) {
             BDecimal current = ns[i];
-            min = current.value().compareTo(min.value()) <= 0 ? current : min;
+            min = ((DecimalValue) current).compareValue((DecimalValue) min) <= 0 ? current : min;
         }
         return min;
     }
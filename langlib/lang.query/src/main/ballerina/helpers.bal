@@ -24,6 +24,49 @@ function createPipeline(
     return new _StreamPipeline(collection, constraintTd, completionTd);
 }
 
+function createNativePipeline(
+        Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection,
+        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean reuseFrames)
+            returns _NativeStreamPipeline {
+    return new _NativeStreamPipeline(collection, constraintTd, completionTd, reuseFrames);
+}
+
+isolated function nextNativeFrame(_NativeStreamPipeline pipeline) returns _Frame|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.NativeQueryPipeline",
+    name: "next"
+} external;
+
+function createIndexedTableSource(table<map<Type>> tbl, string columnName, string operator, anydata value)
+        returns table<map<Type>>|_Iterable {
+    int modificationCount = getTableModificationCount(tbl);
+    int[]? positions = lookupTableIndex(tbl, columnName, operator, value);
+    if (positions is ()) {
+        return tbl;
+    }
+    return new _IndexedTableRows(tbl, columnName, operator, value, positions, modificationCount);
+}
+
+function lookupTableIndex(table<map<Type>> tbl, string columnName, string operator, anydata value)
+        returns int[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedTableScan",
+    name: "scan"
+} external;
+
+function getTableRow(table<map<Type>> tbl, int position) returns map<Type> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedTableScan",
+    name: "getRow"
+} external;
+
+function getTableModificationCount(table<map<Type>> tbl) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedTableScan",
+    name: "getModificationCount"
+} external;
+
+function checkTableModification(table<map<Type>> tbl, int modificationCount) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedTableScan",
+    name: "checkModification"
+} external;
+
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
         returns _StreamFunction {
     return new _InputFunction(inputFunc);
@@ -40,19 +83,26 @@ function createLetFunction(function(_Frame _frame) returns _Frame|error? letFunc
 }
 
 function createInnerJoinFunction(
-        _StreamPipeline joinedPipeline,
+        _Pipeline joinedPipeline,
         function (_Frame _frame) returns any lhsKeyFunction,
         function (_Frame _frame) returns any rhsKeyFunction) returns _StreamFunction {
     return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction);
 }
 
 function createOuterJoinFunction(
-        _StreamPipeline joinedPipeline,
+        _Pipeline joinedPipeline,
         function (_Frame _frame) returns any lhsKeyFunction,
         function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) returns _StreamFunction {
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
+function createNativeJoinFunction(
+        _Pipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, _Frame? nilFrame) returns _NativeJoinFunction {
+    return new _NativeJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
+}
+
 function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -76,11 +126,16 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
-function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
+function addStreamFunction(@tainted _Pipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
 
-function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, CompletionType> {
+function addNativeJoinFunction(@tainted _NativeStreamPipeline pipeline,
+        @tainted _NativeJoinFunction joinFunction) {
+    pipeline.addJoinFunction(joinFunction);
+}
+
+function getStreamFromPipeline(_Pipeline pipeline) returns stream<Type, CompletionType> {
     return pipeline.getStream();
 }
 
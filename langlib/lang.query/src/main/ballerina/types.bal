@@ -73,6 +73,13 @@ type _Frame record {|
     (any|error|())...;
 |};
 
+# An abstract `_Pipeline` object, which is either a `_StreamPipeline` or a `_NativeStreamPipeline`.
+type _Pipeline object {
+    public isolated function next() returns _Frame|error?;
+    public function addStreamFunction(_StreamFunction streamFunction);
+    public function getStream() returns stream<Type, CompletionType>;
+};
+
 class _StreamPipeline {
     _StreamFunction streamFunction;
     typedesc<Type> constraintTd;
@@ -99,7 +106,7 @@ class _StreamPipeline {
         sf.reset();
     }
 
-    function addStreamFunction(_StreamFunction streamFunction) {
+    public function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
@@ -112,6 +119,45 @@ class _StreamPipeline {
     }
 }
 
+# A pipeline which hands its stream functions over to a Java executor instead of chaining their `process` calls.
+# The executor fuses the row-wise stream functions into a single loop and reuses `reusableFrame` for each row of an
+# array source when `reuseFrames` is set and no stream function retains frames.
+class _NativeStreamPipeline {
+    _InitFunction initFunction;
+    (_StreamFunction|_NativeJoinFunction)[] streamFunctions = [];
+    _Frame reusableFrame = {};
+    boolean reuseFrames;
+    typedesc<Type> constraintTd;
+    typedesc<CompletionType> completionTd;
+
+    function init(
+            Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection,
+            typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean reuseFrames) {
+        self.initFunction = new _InitFunction(collection);
+        self.reuseFrames = reuseFrames;
+        self.constraintTd = constraintTd;
+        self.completionTd = completionTd;
+    }
+
+    public isolated function next() returns _Frame|error? {
+        return nextNativeFrame(self);
+    }
+
+    public function addStreamFunction(_StreamFunction streamFunction) {
+        self.streamFunctions.push(streamFunction);
+    }
+
+    public function addJoinFunction(_NativeJoinFunction joinFunction) {
+        self.streamFunctions.push(joinFunction);
+    }
+
+    public function getStream() returns stream <Type,CompletionType> {
+        IterHelper itrObj = new (self, self.constraintTd);
+        var strm = internal:construct(self.constraintTd, self.completionTd, itrObj);
+        return strm;
+    }
+}
+
 class _InitFunction {
     *_StreamFunction;
     _Iterator? itr;
@@ -329,7 +375,7 @@ class _InnerJoinFunction {
     _Frame|error? lhsFrame;
 
     function init(
-            _StreamPipeline pipelineToJoin,
+            _Pipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction) {
         self.lhsKeyFunction = lhsKeyFunction;
@@ -406,7 +452,7 @@ class _OuterJoinFunction {
     _Frame nilFrame;
 
     function init(
-            _StreamPipeline pipelineToJoin,
+            _Pipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
         self.lhsKeyFunction = lhsKeyFunction;
@@ -485,6 +531,26 @@ class _OuterJoinFunction {
     }
 }
 
+class _NativeJoinFunction {
+    _Pipeline pipelineToJoin;
+    function (_Frame _frame) returns any lhsKeyFunction;
+    function (_Frame _frame) returns any rhsKeyFunction;
+    _Frame? nilFrame;
+
+    # Inner join, or outer join when `nilFrame` is given, of a `_NativeStreamPipeline`.
+    # The join is done by the Java executor of the pipeline, which consumes `pipelineToJoin`
+    # only when the first frame is joined.
+    function init(
+            _Pipeline pipelineToJoin,
+            function (_Frame _frame) returns any lhsKeyFunction,
+            function (_Frame _frame) returns any rhsKeyFunction, _Frame? nilFrame) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunction = lhsKeyFunction;
+        self.rhsKeyFunction = rhsKeyFunction;
+        self.nilFrame = nilFrame;
+    }
+}
+
 class _FilterFunction {
     *_StreamFunction;
 
@@ -709,17 +775,80 @@ class _FrameMultiMap {
 
 }
 
+# Rows of a table source, narrowed by a secondary index of the table. The rows are read from the table while they
+# are iterated. As with iterating the table itself, iterating the rows panics if a row is added to the table, a row
+# which is yet to be iterated is removed, or the table is cleared, after the rows were looked up. Replacing a row
+# also panics, since the replaced row may no longer match the lookup.
+class _IndexedTableRows {
+    *_Iterable;
+    table<map<Type>> tbl;
+    string columnName;
+    string operator;
+    anydata value;
+    int[] positions;
+    int modificationCount;
+
+    function init(table<map<Type>> tbl, string columnName, string operator, anydata value, int[] positions,
+            int modificationCount) {
+        self.tbl = tbl;
+        self.columnName = columnName;
+        self.operator = operator;
+        self.value = value;
+        self.positions = positions;
+        self.modificationCount = modificationCount;
+    }
+
+    public function iterator() returns object {
+        public function next() returns record {|Type value;|}?;
+    } {
+        int modificationCount = getTableModificationCount(self.tbl);
+        if (modificationCount != self.modificationCount) {
+            // the table was mutated since the rows were looked up, e.g. before the pipeline was reset
+            int[]? positions = lookupTableIndex(self.tbl, self.columnName, self.operator, self.value);
+            if (positions is ()) {
+                return lang_table:iterator(self.tbl);
+            }
+            self.positions = positions;
+            self.modificationCount = modificationCount;
+        }
+        return new _IndexedTableRowIterator(self.tbl, self.positions, modificationCount);
+    }
+}
+
+class _IndexedTableRowIterator {
+    table<map<Type>> tbl;
+    int[] positions;
+    int modificationCount;
+    int index = 0;
+
+    function init(table<map<Type>> tbl, int[] positions, int modificationCount) {
+        self.tbl = tbl;
+        self.positions = positions;
+        self.modificationCount = modificationCount;
+    }
+
+    public function next() returns record {|Type value;|}? {
+        checkTableModification(self.tbl, self.modificationCount);
+        if (self.index < self.positions.length()) {
+            map<Type> row = getTableRow(self.tbl, self.positions[self.index]);
+            self.index += 1;
+            return {value: row};
+        }
+        return ();
+    }
+}
+
 class IterHelper {
-    public _StreamPipeline pipeline;
+    public _Pipeline pipeline;
     public typedesc<Type> outputType;
 
-    function init(_StreamPipeline pipeline, typedesc<Type> outputType) {
+    function init(_Pipeline pipeline, typedesc<Type> outputType) {
       self.pipeline = pipeline;
       self.outputType = outputType;
     }
 
     public isolated function next() returns record {|Type value;|}|error? {
-        _StreamPipeline p = self.pipeline;
+        _Pipeline p = self.pipeline;
         _Frame|error? f = p.next();
         if (f is _Frame) {
             Type v = <Type>f["$value$"];
@@ -1,3 +1,4 @@
 module io.ballerina.lang.query {
+    requires io.ballerina.runtime;
     exports org.ballerinalang.langlib.query;
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.ITERATOR_MUTABILITY_ERROR;
+
+/**
+ * Implementation of the table index lookups of lang.query:createIndexedTableSource(table, string, string, anydata).
+ * <p>
+ * Narrows the rows of a table source to those matching a single column comparison of a where clause, using a
+ * secondary index of the table. The iteration positions of the matching rows are returned, or nil if the column
+ * cannot be indexed, so that the query falls back to iterating all rows. The where clause is still applied to the
+ * narrowed rows.
+ * <p>
+ * The rows are read from the table while the query iterates them. As with iterating the table itself, adding a row,
+ * removing a row which is yet to be iterated or clearing the table panics. Replacing a row also panics, since the
+ * replaced row may no longer match the lookup.
+ *
+ * @since 2.0.0
+ */
+public class IndexedTableScan {
+
+    private static final String EQUAL = "==";
+    private static final String LESS_THAN = "<";
+    private static final String LESS_THAN_OR_EQUAL = "<=";
+    private static final String GREATER_THAN = ">";
+    private static final String GREATER_THAN_OR_EQUAL = ">=";
+
+    private static final BString MUTATED_TABLE_ERROR_DETAIL = StringUtils.fromString("Table was mutated after the " +
+                                                                                              "iterator was created");
+
+    public static Object scan(BTable tbl, BString columnName, BString operator, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return null;
+        }
+
+        TableValueImpl<?, ?> table = (TableValueImpl<?, ?>) tbl;
+        long[] positions;
+        switch (operator.getValue()) {
+            case EQUAL:
+                positions = table.getRowPositionsByIndex(columnName, value);
+                break;
+            case LESS_THAN:
+                positions = table.getRowPositionsByIndexRange(columnName, null, false, value, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                positions = table.getRowPositionsByIndexRange(columnName, null, false, value, true);
+                break;
+            case GREATER_THAN:
+                positions = table.getRowPositionsByIndexRange(columnName, value, false, null, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                positions = table.getRowPositionsByIndexRange(columnName, value, true, null, false);
+                break;
+            default:
+                positions = null;
+        }
+
+        if (positions == null) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(positions);
+    }
+
+    public static Object getRow(BTable tbl, long position) {
+        Object row = ((TableValueImpl<?, ?>) tbl).getRowAtPosition(position);
+        if (row == null) {
+            // the row was removed before it was iterated
+            throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+        }
+        return row;
+    }
+
+    public static long getModificationCount(BTable tbl) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return 0;
+        }
+        return ((TableValueImpl<?, ?>) tbl).getModificationCount();
+    }
+
+    public static void checkModification(BTable tbl, long modificationCount) {
+        if (getModificationCount(tbl) != modificationCount) {
+            throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+        }
+    }
+}
@@ -0,0 +1,577 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BStreamingJson;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Frames of the joined pipeline of a join clause, grouped by the string value of their join keys.
+ * <p>
+ * Frames are held in memory until their estimated size exceeds the configured number of bytes. Further frames are
+ * written to a temporary file, where the frames of each partition of the key hashes are chained to each other, and
+ * only the offset of the last frame of each partition is held in memory. When a partition is first probed, its
+ * spilled frames are indexed by their keys, and the indexes of the recently probed partitions are cached within a
+ * quarter of the configured number of bytes.
+ * <p>
+ * Spilled frames are read back with immutable clones of their structured values, so that the joined frames cannot
+ * diverge from each other through updates. Frames holding values which cannot be cloned this way, such as objects,
+ * functions, errors, xml, tables, read-only lists and values referred to more than once in the frame, stay in memory.
+ *
+ * @since 2.0.0
+ */
+class JoinFrameTable {
+
+    static final String MAX_IN_MEMORY_BYTES_ENV_VAR = "BALLERINA_QUERY_JOIN_MAX_MEMORY";
+    static final int PARTITION_COUNT = 64;
+    private static final long DEFAULT_MAX_IN_MEMORY_BYTES = 256L * 1024 * 1024;
+    private static final int INDEX_CACHE_SHARE = 4;
+    private static final int MAX_SPILL_DEPTH = 64;
+
+    // Rough sizes of the objects of a frame on the heap, which are used to estimate the memory held by the table.
+    private static final int OBJECT_SIZE = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int ENTRY_SIZE = 48;
+
+    private static final byte NIL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte BYTE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte STRING = 6;
+    private static final byte MAP = 7;
+    private static final byte LIST = 8;
+
+    private final Map<BString, List<Object>> frames = new HashMap<>();
+    private final Type frameType;
+    private final long maxFrameBytes;
+    private final long maxIndexBytes;
+    private long frameBytes = 0;
+
+    private final ByteArrayOutputStream frameBuffer = new ByteArrayOutputStream();
+    private final Set<Object> spilledValues = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Type> spilledTypes = new ArrayList<>();
+    private final Map<Type, Integer> spilledTypeIndexes = new IdentityHashMap<>();
+    private final long[] lastSpilledOffsets = new long[PARTITION_COUNT];
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private long spillOffset = 0;
+    private RandomAccessFile spillInput;
+
+    private final Map<Integer, PartitionIndex> partitionIndexes = new LinkedHashMap<>(16, 0.75f, true);
+    private long indexBytes = 0;
+
+    JoinFrameTable(Type frameType) {
+        this(frameType, getMaxInMemoryBytes(System.getenv(MAX_IN_MEMORY_BYTES_ENV_VAR)));
+    }
+
+    JoinFrameTable(Type frameType, long maxInMemoryBytes) {
+        this.frameType = frameType;
+        this.maxIndexBytes = maxInMemoryBytes / INDEX_CACHE_SHARE;
+        this.maxFrameBytes = maxInMemoryBytes - maxIndexBytes;
+        Arrays.fill(lastSpilledOffsets, -1);
+    }
+
+    void add(BString key, BMap<BString, Object> frame) {
+        List<Object> group = frames.get(key);
+        long frameSize = REFERENCE_SIZE + estimateFrameSize(frame);
+        long groupSize = group == null ? ENTRY_SIZE + OBJECT_SIZE + estimateSize(key) : 0;
+        if (spillFile == null && frameBytes + groupSize + frameSize <= maxFrameBytes) {
+            addToGroup(key, group, frame);
+            frameBytes += groupSize + frameSize;
+            return;
+        }
+        try {
+            if (spill(key, frame)) {
+                return;
+            }
+        } catch (IOException e) {
+            throw createSpillError(e);
+        }
+        addToGroup(key, group, new LateFrame(spillOffset, frame));
+        frameBytes += groupSize + OBJECT_SIZE + frameSize;
+    }
+
+    /**
+     * Returns the frames with the given key in the order they were added, which are either frames, frames added after
+     * spilling started, or offsets of spilled frames. Use {@link #getFrame(Object)} to get the frame of an entry.
+     *
+     * @param key string value of the join key
+     * @return entries of the frames, or null if there are no frames with the given key
+     */
+    List<Object> get(BString key) {
+        List<Object> entries = frames.get(key);
+        if (spillInput == null) {
+            return entries;
+        }
+        LongList offsets;
+        try {
+            offsets = getPartitionIndex(getPartition(key)).offsets.get(key);
+        } catch (IOException e) {
+            throw createSpillError(e);
+        }
+        if (offsets == null) {
+            return entries;
+        }
+        List<Object> mergedEntries = new ArrayList<>((entries == null ? 0 : entries.size()) + offsets.size);
+        int nextOffset = 0;
+        if (entries != null) {
+            for (Object entry : entries) {
+                if (entry instanceof LateFrame) {
+                    long position = ((LateFrame) entry).spillOffset;
+                    while (nextOffset < offsets.size && offsets.values[nextOffset] < position) {
+                        mergedEntries.add(offsets.values[nextOffset++]);
+                    }
+                }
+                mergedEntries.add(entry);
+            }
+        }
+        while (nextOffset < offsets.size) {
+            mergedEntries.add(offsets.values[nextOffset++]);
+        }
+        return mergedEntries;
+    }
+
+    @SuppressWarnings("unchecked")
+    BMap<BString, Object> getFrame(Object entry) {
+        if (entry instanceof BMap) {
+            return (BMap<BString, Object>) entry;
+        }
+        if (entry instanceof LateFrame) {
+            return ((LateFrame) entry).frame;
+        }
+        try {
+            return readSpilledFrame((Long) entry);
+        } catch (IOException e) {
+            throw createSpillError(e);
+        }
+    }
+
+    /**
+     * Completes adding frames to the table, after which the table can be probed.
+     */
+    void seal() {
+        if (spillOutput == null) {
+            return;
+        }
+        try {
+            spillOutput.close();
+            spillOutput = null;
+            spillInput = new RandomAccessFile(spillFile, "r");
+        } catch (IOException e) {
+            throw createSpillError(e);
+        }
+    }
+
+    void close() {
+        frames.clear();
+        partitionIndexes.clear();
+        spilledTypes.clear();
+        spilledTypeIndexes.clear();
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+                spillOutput = null;
+            }
+            if (spillInput != null) {
+                spillInput.close();
+                spillInput = null;
+            }
+        } catch (IOException e) {
+            throw createSpillError(e);
+        } finally {
+            if (spillFile != null) {
+                spillFile.delete();
+                spillFile = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of partitions whose indexes are cached.
+     *
+     * @return number of cached partition indexes
+     */
+    int getCachedPartitionCount() {
+        return partitionIndexes.size();
+    }
+
+    private void addToGroup(BString key, List<Object> group, Object entry) {
+        if (group == null) {
+            group = new ArrayList<>(1);
+            frames.put(key, group);
+        }
+        group.add(entry);
+    }
+
+    /**
+     * Writes the frame to the spill file, chained to the last spilled frame of the partition of its key.
+     *
+     * @return true if the frame is spilled, or false if the frame holds values which cannot be spilled
+     */
+    private boolean spill(BString key, BMap<BString, Object> frame) throws IOException {
+        frameBuffer.reset();
+        spilledValues.clear();
+        DataOutputStream frameOutput = new DataOutputStream(frameBuffer);
+        frameOutput.writeInt(frame.size());
+        for (Map.Entry<BString, Object> entry : frame.entrySet()) {
+            writeString(frameOutput, entry.getKey());
+            if (!writeValue(frameOutput, entry.getValue(), 0)) {
+                return false;
+            }
+        }
+
+        if (spillOutput == null) {
+            spillFile = File.createTempFile("ballerina-query-join", ".frames");
+            spillFile.deleteOnExit();
+            spillOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+        }
+        int partition = getPartition(key);
+        byte[] keyBytes = key.getValue().getBytes(StandardCharsets.UTF_8);
+        long offset = spillOffset;
+        spillOutput.writeLong(lastSpilledOffsets[partition]);
+        spillOutput.writeInt(keyBytes.length);
+        spillOutput.write(keyBytes);
+        spillOutput.writeInt(frameBuffer.size());
+        frameBuffer.writeTo(spillOutput);
+        spillOffset += Long.BYTES + Integer.BYTES + keyBytes.length + Integer.BYTES + frameBuffer.size();
+        lastSpilledOffsets[partition] = offset;
+        return true;
+    }
+
+    private BMap<BString, Object> readSpilledFrame(long offset) throws IOException {
+        spillInput.seek(offset + Long.BYTES);
+        spillInput.skipBytes(spillInput.readInt());
+        byte[] bytes = new byte[spillInput.readInt()];
+        spillInput.readFully(bytes);
+        DataInputStream frameInput = new DataInputStream(new ByteArrayInputStream(bytes));
+        BMap<BString, Object> frame = ValueCreator.createMapValue(frameType);
+        int size = frameInput.readInt();
+        for (int i = 0; i < size; i++) {
+            BString key = readString(frameInput);
+            Object value = readValue(frameInput);
+            if (value instanceof BRefValue) {
+                ((BRefValue) value).freezeDirect();
+            }
+            frame.put(key, value);
+        }
+        return frame;
+    }
+
+    private PartitionIndex getPartitionIndex(int partition) throws IOException {
+        PartitionIndex index = partitionIndexes.get(partition);
+        if (index != null) {
+            return index;
+        }
+        index = loadPartitionIndex(partition);
+        partitionIndexes.put(partition, index);
+        indexBytes += index.size;
+        // The cache is access ordered, hence the least recently probed partitions are evicted first.
+        Iterator<PartitionIndex> cachedIndexes = partitionIndexes.values().iterator();
+        while (indexBytes > maxIndexBytes && partitionIndexes.size() > 1) {
+            indexBytes -= cachedIndexes.next().size;
+            cachedIndexes.remove();
+        }
+        return index;
+    }
+
+    private PartitionIndex loadPartitionIndex(int partition) throws IOException {
+        PartitionIndex index = new PartitionIndex();
+        long offset = lastSpilledOffsets[partition];
+        while (offset >= 0) {
+            spillInput.seek(offset);
+            long previousOffset = spillInput.readLong();
+            BString key = readString(spillInput);
+            LongList offsets = index.offsets.get(key);
+            if (offsets == null) {
+                offsets = new LongList();
+                index.offsets.put(key, offsets);
+                index.size += ENTRY_SIZE + OBJECT_SIZE + estimateSize(key);
+            }
+            offsets.add(offset);
+            index.size += Long.BYTES;
+            offset = previousOffset;
+        }
+        // The chain of a partition is walked from its last frame.
+        for (LongList offsets : index.offsets.values()) {
+            offsets.reverse();
+        }
+        return index;
+    }
+
+    private static int getPartition(BString key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % PARTITION_COUNT;
+    }
+
+    /**
+     * Estimates the size of the frame from the shallow sizes of its values, which bounds the cost of the estimate
+     * regardless of the depth of the values.
+     */
+    private static long estimateFrameSize(BMap<BString, Object> frame) {
+        long size = OBJECT_SIZE;
+        for (Map.Entry<BString, Object> entry : frame.entrySet()) {
+            size += ENTRY_SIZE + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateSize(Object value) {
+        if (value instanceof BString) {
+            return OBJECT_SIZE + 2L * ((BString) value).length();
+        }
+        if (value instanceof BDecimal) {
+            return 4L * OBJECT_SIZE;
+        }
+        if (value instanceof BMap) {
+            return OBJECT_SIZE + (long) ((BMap<?, ?>) value).size() * ENTRY_SIZE;
+        }
+        if (value instanceof BArray) {
+            return OBJECT_SIZE + (long) ((BArray) value).size() * REFERENCE_SIZE;
+        }
+        return OBJECT_SIZE;
+    }
+
+    /**
+     * Writes the value to the frame being spilled.
+     *
+     * @return true if the value is written, or false if the value cannot be spilled
+     */
+    private boolean writeValue(DataOutputStream out, Object value, int depth) throws IOException {
+        if (value == null) {
+            out.writeByte(NIL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Long) {
+            out.writeByte(INT);
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(BYTE);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Double) {
+            out.writeByte(FLOAT);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BDecimal) {
+            out.writeByte(DECIMAL);
+            writeString(out, StringUtils.fromString(((BDecimal) value).decimalValue().toString()));
+        } else if (value instanceof BString) {
+            out.writeByte(STRING);
+            writeString(out, (BString) value);
+        } else if (depth == MAX_SPILL_DEPTH || !spilledValues.add(value)) {
+            return false;
+        } else if (value instanceof BMap) {
+            BMap<?, ?> map = (BMap<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(getSpilledTypeIndex(map.getType()));
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, (BString) entry.getKey());
+                if (!writeValue(out, entry.getValue(), depth + 1)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof BArray && !(value instanceof BStreamingJson)) {
+            BArray list = (BArray) value;
+            if (list.getType().isReadOnly()) {
+                return false;
+            }
+            out.writeByte(LIST);
+            out.writeInt(getSpilledTypeIndex(list.getType()));
+            out.writeInt(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                if (!writeValue(out, list.get(i), depth + 1)) {
+                    return false;
+                }
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NIL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case INT:
+                return in.readLong();
+            case BYTE:
+                return in.readInt();
+            case FLOAT:
+                return in.readDouble();
+            case DECIMAL:
+                return ValueCreator.createDecimalValue(readString(in).getValue());
+            case STRING:
+                return readString(in);
+            case MAP:
+                BMap<BString, Object> map = ValueCreator.createMapValue(spilledTypes.get(in.readInt()));
+                int mapSize = in.readInt();
+                for (int i = 0; i < mapSize; i++) {
+                    BString key = readString(in);
+                    map.populateInitialValue(key, readValue(in));
+                }
+                return map;
+            case LIST:
+                Type listType = spilledTypes.get(in.readInt());
+                BArray list = listType.getTag() == TypeTags.TUPLE_TAG ?
+                        ValueCreator.createTupleValue((TupleType) listType) :
+                        ValueCreator.createArrayValue((ArrayType) listType);
+                int listSize = in.readInt();
+                for (int i = 0; i < listSize; i++) {
+                    list.add(i, readValue(in));
+                }
+                return list;
+            default:
+                throw new IOException("invalid value tag '" + tag + "' in spilled frame");
+        }
+    }
+
+    private int getSpilledTypeIndex(Type type) {
+        Integer index = spilledTypeIndexes.get(type);
+        if (index == null) {
+            index = spilledTypes.size();
+            spilledTypes.add(type);
+            spilledTypeIndexes.put(type, index);
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutputStream out, BString value) throws IOException {
+        byte[] bytes = value.getValue().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static BString readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return StringUtils.fromString(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the number of bytes of frames which are held in memory, given by the value of the
+     * {@value #MAX_IN_MEMORY_BYTES_ENV_VAR} environment variable.
+     *
+     * @param maxInMemoryBytes value of the environment variable, or null if it is not set
+     * @return maximum number of bytes of frames held in memory
+     */
+    static long getMaxInMemoryBytes(String maxInMemoryBytes) {
+        if (maxInMemoryBytes == null) {
+            return DEFAULT_MAX_IN_MEMORY_BYTES;
+        }
+        long bytes;
+        try {
+            bytes = Long.parseLong(maxInMemoryBytes.trim());
+        } catch (NumberFormatException e) {
+            bytes = -1;
+        }
+        if (bytes <= 0) {
+            throw ErrorCreator.createError(StringUtils.fromString("Join failed"),
+                    StringUtils.fromString("invalid value '" + maxInMemoryBytes + "' for the environment variable '"
+                            + MAX_IN_MEMORY_BYTES_ENV_VAR + "': expected a positive number of bytes"));
+        }
+        return bytes;
+    }
+
+    private static RuntimeException createSpillError(IOException e) {
+        return ErrorCreator.createError(StringUtils.fromString("Join failed"),
+                StringUtils.fromString("unable to spill the frames of the join: " + e.getMessage()));
+    }
+
+    /**
+     * Frame which is added after spilling started, but cannot be spilled. The spill offset at the time it was added
+     * orders it among the spilled frames of its key.
+     */
+    private static class LateFrame {
+        private final long spillOffset;
+        private final BMap<BString, Object> frame;
+
+        LateFrame(long spillOffset, BMap<BString, Object> frame) {
+            this.spillOffset = spillOffset;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * Offsets of the spilled frames of a partition, grouped by their keys.
+     */
+    private static class PartitionIndex {
+        private final Map<BString, LongList> offsets = new HashMap<>();
+        private long size = OBJECT_SIZE;
+    }
+
+    /**
+     * Growable list of offsets, which avoids boxing the offsets held by the partition indexes.
+     */
+    private static class LongList {
+        private long[] values = new long[1];
+        private int size = 0;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void reverse() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                long value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+}
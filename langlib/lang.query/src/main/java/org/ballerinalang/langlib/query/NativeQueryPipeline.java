@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Implementation of lang.query:nextNativeFrame(_NativeStreamPipeline).
+ * <p>
+ * Executes the stream functions of a `_NativeStreamPipeline` without going through the `process` chain of the
+ * `_StreamFunction` objects. Consecutive input, let, where, select, do and limit clauses are fused into a single loop
+ * over the frames of the source, and the frame of an array source is reused for every row when no clause retains
+ * frames. Join and order by clauses start a new stage, as they need the frames of the stage before them. Joins are
+ * hash joins against the frames of the joined pipeline, which are spilled to a temporary file beyond a limit.
+ *
+ * @since 2.0.0
+ */
+public class NativeQueryPipeline {
+
+    private static final String EXECUTOR = "&executor&";
+    private static final String PROCESS = "process";
+    private static final String NEXT = "next";
+
+    private static final String INPUT_FUNCTION = "_InputFunction";
+    private static final String LET_FUNCTION = "_LetFunction";
+    private static final String FILTER_FUNCTION = "_FilterFunction";
+    private static final String SELECT_FUNCTION = "_SelectFunction";
+    private static final String DO_FUNCTION = "_DoFunction";
+    private static final String LIMIT_FUNCTION = "_LimitFunction";
+    private static final String JOIN_FUNCTION = "_NativeJoinFunction";
+    private static final String ORDER_BY_FUNCTION = "_OrderByFunction";
+
+    private static final BString INIT_FUNCTION_FIELD = StringUtils.fromString("initFunction");
+    private static final BString STREAM_FUNCTIONS_FIELD = StringUtils.fromString("streamFunctions");
+    private static final BString REUSABLE_FRAME_FIELD = StringUtils.fromString("reusableFrame");
+    private static final BString REUSE_FRAMES_FIELD = StringUtils.fromString("reuseFrames");
+    private static final BString COLLECTION_FIELD = StringUtils.fromString("collection");
+    private static final BString INPUT_FUNC_FIELD = StringUtils.fromString("inputFunc");
+    private static final BString LET_FUNC_FIELD = StringUtils.fromString("letFunc");
+    private static final BString FILTER_FUNC_FIELD = StringUtils.fromString("filterFunc");
+    private static final BString SELECT_FUNC_FIELD = StringUtils.fromString("selectFunc");
+    private static final BString DO_FUNC_FIELD = StringUtils.fromString("doFunc");
+    private static final BString LIMIT_FUNC_FIELD = StringUtils.fromString("limitFunc");
+    private static final BString ORDER_KEY_FUNC_FIELD = StringUtils.fromString("orderKeyFunc");
+    private static final BString PIPELINE_TO_JOIN_FIELD = StringUtils.fromString("pipelineToJoin");
+    private static final BString LHS_KEY_FUNCTION_FIELD = StringUtils.fromString("lhsKeyFunction");
+    private static final BString RHS_KEY_FUNCTION_FIELD = StringUtils.fromString("rhsKeyFunction");
+    private static final BString NIL_FRAME_FIELD = StringUtils.fromString("nilFrame");
+
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    public static Object next(BObject pipeline) {
+        Strand strand = Scheduler.getStrand();
+        FrameSource executor = (FrameSource) pipeline.getNativeData(EXECUTOR);
+        if (executor == null) {
+            executor = createExecutor(pipeline);
+            pipeline.addNativeData(EXECUTOR, executor);
+        }
+        return executor.next(strand);
+    }
+
+    private static FrameSource createExecutor(BObject pipeline) {
+        BArray streamFunctions = pipeline.getArrayValue(STREAM_FUNCTIONS_FIELD);
+        BMap<BString, Object> reusableFrame = pipeline.getMapValue(REUSABLE_FRAME_FIELD);
+        Type frameType = reusableFrame.getType();
+        // Frames are kept around by an order by clause, so a new frame is needed for each row in that case.
+        boolean reuseFrames = pipeline.getBooleanValue(REUSE_FRAMES_FIELD)
+                && !hasStreamFunction(streamFunctions, ORDER_BY_FUNCTION);
+
+        FrameSource source = new CollectionSource(pipeline.getObjectValue(INIT_FUNCTION_FIELD),
+                reuseFrames ? reusableFrame : null, frameType);
+        List<FrameOperation> operations = new ArrayList<>();
+        for (int i = 0; i < streamFunctions.size(); i++) {
+            BObject streamFunction = (BObject) streamFunctions.getRefValue(i);
+            String functionName = streamFunction.getType().getName();
+            switch (functionName) {
+                case INPUT_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.MAP,
+                            getFunction(streamFunction, INPUT_FUNC_FIELD)));
+                    break;
+                case LET_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.MAP,
+                            getFunction(streamFunction, LET_FUNC_FIELD)));
+                    break;
+                case SELECT_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.MAP,
+                            getFunction(streamFunction, SELECT_FUNC_FIELD)));
+                    break;
+                case FILTER_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.FILTER,
+                            getFunction(streamFunction, FILTER_FUNC_FIELD)));
+                    break;
+                case DO_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.DO,
+                            getFunction(streamFunction, DO_FUNC_FIELD)));
+                    break;
+                case LIMIT_FUNCTION:
+                    operations.add(new FrameOperation(FrameOperation.LIMIT,
+                            getFunction(streamFunction, LIMIT_FUNC_FIELD)));
+                    break;
+                case JOIN_FUNCTION:
+                    source = new JoinStage(fuse(source, operations),
+                            streamFunction.getObjectValue(PIPELINE_TO_JOIN_FIELD),
+                            getFunction(streamFunction, LHS_KEY_FUNCTION_FIELD),
+                            getFunction(streamFunction, RHS_KEY_FUNCTION_FIELD),
+                            streamFunction.getMapValue(NIL_FRAME_FIELD), reuseFrames, frameType);
+                    break;
+                case ORDER_BY_FUNCTION:
+                    // An order by clause followed by a limit clause only needs to keep the top frames.
+                    BObject nextFunction = i + 1 < streamFunctions.size()
+                            ? (BObject) streamFunctions.getRefValue(i + 1) : null;
+                    BFunctionPointer<Object, Object> limitFunction = nextFunction != null
+                            && nextFunction.getType().getName().equals(LIMIT_FUNCTION)
+                            ? getFunction(nextFunction, LIMIT_FUNC_FIELD) : null;
+                    source = new OrderByStage(fuse(source, operations),
+                            getFunction(streamFunction, ORDER_KEY_FUNC_FIELD), limitFunction);
+                    break;
+                default:
+                    throw ErrorCreator.createError(StringUtils.fromString("Unsupported stream function"),
+                            StringUtils.fromString("unsupported stream function '" + functionName + "'."));
+            }
+        }
+        return fuse(source, operations);
+    }
+
+    private static FrameSource fuse(FrameSource source, List<FrameOperation> operations) {
+        if (operations.isEmpty()) {
+            return source;
+        }
+        FrameSource fusedStage = new FusedStage(source, operations.toArray(new FrameOperation[0]));
+        operations.clear();
+        return fusedStage;
+    }
+
+    private static boolean hasStreamFunction(BArray streamFunctions, String functionName) {
+        for (int i = 0; i < streamFunctions.size(); i++) {
+            if (((BObject) streamFunctions.getRefValue(i)).getType().getName().equals(functionName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BFunctionPointer<Object, Object> getFunction(BObject streamFunction, BString fieldName) {
+        return (BFunctionPointer<Object, Object>) streamFunction.get(fieldName);
+    }
+
+    private static Object call(Strand strand, BFunctionPointer<Object, Object> function, Object frame) {
+        return function.call(new Object[]{strand, frame, true});
+    }
+
+    private static BError createInvalidLimitError() {
+        return ErrorCreator.createError(StringUtils.fromString("Invalid limit"),
+                StringUtils.fromString("limit cannot be < 1."));
+    }
+
+    private static BMap<BString, Object> copyFrame(BMap<BString, Object> frame, Type frameType) {
+        BMap<BString, Object> copy = ValueCreator.createMapValue(frameType);
+        for (Map.Entry<BString, Object> entry : frame.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * A stage of the pipeline which returns the next frame, an error, or null once there are no more frames.
+     */
+    private interface FrameSource {
+
+        Object next(Strand strand);
+    }
+
+    /**
+     * Frames of the collection of the initial from clause. Arrays are iterated directly, while other collections
+     * are iterated through the `_InitFunction`.
+     */
+    private static class CollectionSource implements FrameSource {
+
+        private final BObject initFunction;
+        private final BMap<BString, Object> reusableFrame;
+        private final Type frameType;
+        private final BIterator<?> arrayIterator;
+
+        CollectionSource(BObject initFunction, BMap<BString, Object> reusableFrame, Type frameType) {
+            this.initFunction = initFunction;
+            this.reusableFrame = reusableFrame;
+            this.frameType = frameType;
+            Object collection = initFunction.get(COLLECTION_FIELD);
+            this.arrayIterator = collection instanceof BArray ? ((BArray) collection).getIterator() : null;
+        }
+
+        @Override
+        public Object next(Strand strand) {
+            if (arrayIterator == null) {
+                return initFunction.call(strand, PROCESS);
+            }
+            if (!arrayIterator.hasNext()) {
+                return null;
+            }
+            BMap<BString, Object> frame = reusableFrame != null ? reusableFrame
+                    : ValueCreator.createMapValue(frameType);
+            frame.put(VALUE, arrayIterator.next());
+            return frame;
+        }
+    }
+
+    /**
+     * Input, let, where, select, do and limit clauses applied one after the other to each frame of the upstream.
+     */
+    private static class FusedStage implements FrameSource {
+
+        private static final Object REJECTED = new Object();
+
+        private final FrameSource upstream;
+        private final FrameOperation[] operations;
+        private boolean limitReached = false;
+
+        FusedStage(FrameSource upstream, FrameOperation[] operations) {
+            this.upstream = upstream;
+            this.operations = operations;
+        }
+
+        @Override
+        public Object next(Strand strand) {
+            if (limitReached) {
+                return null;
+            }
+            while (true) {
+                Object frame = upstream.next(strand);
+                if (!(frame instanceof BMap)) {
+                    return frame;
+                }
+                Object result = apply(strand, frame);
+                if (result != REJECTED) {
+                    return result;
+                }
+            }
+        }
+
+        private Object apply(Strand strand, Object frame) {
+            for (FrameOperation operation : operations) {
+                switch (operation.kind) {
+                    case FrameOperation.MAP:
+                        frame = call(strand, operation.function, frame);
+                        if (!(frame instanceof BMap)) {
+                            return frame;
+                        }
+                        break;
+                    case FrameOperation.FILTER:
+                        if (!(Boolean) call(strand, operation.function, frame)) {
+                            return REJECTED;
+                        }
+                        break;
+                    case FrameOperation.DO:
+                        call(strand, operation.function, frame);
+                        break;
+                    case FrameOperation.LIMIT:
+                        long limit = (Long) call(strand, operation.function, frame);
+                        if (limit < 1) {
+                            throw createInvalidLimitError();
+                        }
+                        if (operation.count >= limit) {
+                            limitReached = true;
+                            return null;
+                        }
+                        operation.count++;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Inner and outer join of the upstream frames against the frames of the joined pipeline. The joined pipeline is
+     * consumed into a {@link JoinFrameTable} when the first upstream frame is joined, and the table is released
+     * once the upstream has no more frames.
+     */
+    private static class JoinStage implements FrameSource {
+
+        private final FrameSource upstream;
+        private final BObject pipelineToJoin;
+        private final BFunctionPointer<Object, Object> lhsKeyFunction;
+        private final BFunctionPointer<Object, Object> rhsKeyFunction;
+        private final BMap<BString, Object> nilFrame;
+        private final boolean reuseFrames;
+        private final Type frameType;
+        private JoinFrameTable rhsFrames;
+        private BMap<BString, Object> lhsFrame;
+        private List<Object> rhsCandidates;
+        private int rhsIndex;
+
+        JoinStage(FrameSource upstream, BObject pipelineToJoin, BFunctionPointer<Object, Object> lhsKeyFunction,
+                  BFunctionPointer<Object, Object> rhsKeyFunction, BMap<BString, Object> nilFrame,
+                  boolean reuseFrames, Type frameType) {
+            this.upstream = upstream;
+            this.pipelineToJoin = pipelineToJoin;
+            this.lhsKeyFunction = lhsKeyFunction;
+            this.rhsKeyFunction = rhsKeyFunction;
+            this.nilFrame = nilFrame;
+            this.reuseFrames = reuseFrames;
+            this.frameType = frameType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object next(Strand strand) {
+            if (rhsFrames == null) {
+                Object error = buildRhsFrames(strand);
+                if (error != null) {
+                    return error;
+                }
+            }
+            while (true) {
+                if (lhsFrame == null) {
+                    Object frame = upstream.next(strand);
+                    if (!(frame instanceof BMap)) {
+                        rhsFrames.close();
+                        return frame;
+                    }
+                    lhsFrame = (BMap<BString, Object>) frame;
+                    rhsCandidates = rhsFrames.get(getKey(strand, lhsKeyFunction, lhsFrame));
+                    rhsIndex = 0;
+                    if (rhsCandidates == null && nilFrame != null) {
+                        BMap<BString, Object> joinedFrame = join(lhsFrame, nilFrame);
+                        lhsFrame = null;
+                        return joinedFrame;
+                    }
+                }
+                if (rhsCandidates != null && rhsIndex < rhsCandidates.size()) {
+                    BMap<BString, Object> rhsFrame = rhsFrames.getFrame(rhsCandidates.get(rhsIndex++));
+                    BMap<BString, Object> joinedFrame = join(lhsFrame, rhsFrame);
+                    if (rhsIndex == rhsCandidates.size()) {
+                        lhsFrame = null;
+                    }
+                    return joinedFrame;
+                }
+                // No matching frames, move to the next lhs frame.
+                lhsFrame = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object buildRhsFrames(Strand strand) {
+            JoinFrameTable frames = new JoinFrameTable(frameType);
+            Object frame = pipelineToJoin.call(strand, NEXT);
+            while (frame instanceof BMap) {
+                BMap<BString, Object> rhsFrame = (BMap<BString, Object>) frame;
+                frames.add(getKey(strand, rhsKeyFunction, rhsFrame), rhsFrame);
+                frame = pipelineToJoin.call(strand, NEXT);
+            }
+            if (frame != null) {
+                frames.close();
+                return frame;
+            }
+            frames.seal();
+            rhsFrames = frames;
+            return null;
+        }
+
+        private static BString getKey(Strand strand, BFunctionPointer<Object, Object> keyFunction,
+                                      BMap<BString, Object> frame) {
+            return StringUtils.fromString(StringUtils.getStringValue(call(strand, keyFunction, frame), null));
+        }
+
+        private BMap<BString, Object> join(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+            BMap<BString, Object> joinedFrame = reuseFrames ? lhs : copyFrame(lhs, frameType);
+            for (Map.Entry<BString, Object> entry : rhs.entrySet()) {
+                joinedFrame.put(entry.getKey(), entry.getValue());
+            }
+            return joinedFrame;
+        }
+    }
+
+    /**
+     * Order by clause, which consumes all frames of the upstream and returns them sorted by their order keys. Frames
+     * with equal order keys keep the order of the upstream. When the order by clause is followed by a limit clause,
+     * only the frames within the limit are kept, in a bounded heap.
+     */
+    private static class OrderByStage implements FrameSource {
+
+        private static final int MAX_INITIAL_HEAP_CAPACITY = 1024;
+        private static final Comparator<OrderedFrame> FRAME_ORDER = (lhs, rhs) -> {
+            int result = compareFrames(lhs.frame, rhs.frame);
+            return result != 0 ? result : Long.compare(lhs.sequence, rhs.sequence);
+        };
+
+        private final FrameSource upstream;
+        private final BFunctionPointer<Object, Object> orderKeyFunction;
+        private final BFunctionPointer<Object, Object> limitFunction;
+        private List<BMap<BString, Object>> orderedFrames;
+        private int cursor;
+
+        OrderByStage(FrameSource upstream, BFunctionPointer<Object, Object> orderKeyFunction,
+                     BFunctionPointer<Object, Object> limitFunction) {
+            this.upstream = upstream;
+            this.orderKeyFunction = orderKeyFunction;
+            this.limitFunction = limitFunction;
+        }
+
+        @Override
+        public Object next(Strand strand) {
+            if (orderedFrames == null) {
+                Object error = limitFunction == null ? collectFrames(strand) : collectTopFrames(strand);
+                if (error != null) {
+                    return error;
+                }
+                cursor = 0;
+            }
+            if (cursor < orderedFrames.size()) {
+                return orderedFrames.get(cursor++);
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object collectFrames(Strand strand) {
+            List<BMap<BString, Object>> frames = new ArrayList<>();
+            Object frame = upstream.next(strand);
+            while (frame instanceof BMap) {
+                call(strand, orderKeyFunction, frame);
+                frames.add((BMap<BString, Object>) frame);
+                frame = upstream.next(strand);
+            }
+            if (frame != null) {
+                return frame;
+            }
+            frames.sort(OrderByStage::compareFrames);
+            orderedFrames = frames;
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object collectTopFrames(Strand strand) {
+            // The head of the heap is the kept frame which is ordered last.
+            PriorityQueue<OrderedFrame> topFrames = null;
+            long limit = 0;
+            long sequence = 0;
+            Object frame = upstream.next(strand);
+            while (frame instanceof BMap) {
+                call(strand, orderKeyFunction, frame);
+                if (topFrames == null) {
+                    limit = (Long) call(strand, limitFunction, frame);
+                    if (limit < 1) {
+                        throw createInvalidLimitError();
+                    }
+                    topFrames = new PriorityQueue<>((int) Math.min(limit, MAX_INITIAL_HEAP_CAPACITY),
+                            FRAME_ORDER.reversed());
+                }
+                OrderedFrame candidate = new OrderedFrame((BMap<BString, Object>) frame, sequence++);
+                if (topFrames.size() < limit) {
+                    topFrames.add(candidate);
+                } else if (FRAME_ORDER.compare(candidate, topFrames.peek()) < 0) {
+                    topFrames.poll();
+                    topFrames.add(candidate);
+                }
+                frame = upstream.next(strand);
+            }
+            if (frame != null) {
+                return frame;
+            }
+
+            List<OrderedFrame> sortedFrames = topFrames == null ? new ArrayList<>() : new ArrayList<>(topFrames);
+            sortedFrames.sort(FRAME_ORDER);
+            List<BMap<BString, Object>> frames = new ArrayList<>(sortedFrames.size());
+            for (OrderedFrame orderedFrame : sortedFrames) {
+                frames.add(orderedFrame.frame);
+            }
+            orderedFrames = frames;
+            return null;
+        }
+
+        private static int compareFrames(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+            BArray lhsKeys = (BArray) lhs.get(ORDER_KEY);
+            BArray rhsKeys = (BArray) rhs.get(ORDER_KEY);
+            BArray directions = (BArray) lhs.get(ORDER_DIRECTION);
+            for (int i = 0; i < lhsKeys.size(); i++) {
+                boolean ascending = directions.getBoolean(i);
+                int result = ValueComparisonUtils.compareValues(lhsKeys.getRefValue(i), rhsKeys.getRefValue(i),
+                        ascending ? ASCENDING : DESCENDING);
+                if (result != 0) {
+                    return ascending ? result : -result;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * A frame of an order by clause along with its position in the upstream.
+     */
+    private static class OrderedFrame {
+
+        final BMap<BString, Object> frame;
+        final long sequence;
+
+        OrderedFrame(BMap<BString, Object> frame, long sequence) {
+            this.frame = frame;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * A row-wise clause of a fused stage.
+     */
+    private static class FrameOperation {
+
+        static final int MAP = 0;
+        static final int FILTER = 1;
+        static final int DO = 2;
+        static final int LIMIT = 3;
+
+        final int kind;
+        final BFunctionPointer<Object, Object> function;
+        long count = 0;
+
+        FrameOperation(int kind, BFunctionPointer<Object, Object> function) {
+            this.kind = kind;
+            this.function = function;
+        }
+    }
+}
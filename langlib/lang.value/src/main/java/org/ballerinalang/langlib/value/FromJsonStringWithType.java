@@ -24,6 +24,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
 
+import java.io.StringReader;
+
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
 /**
@@ -40,10 +42,15 @@ public class FromJsonStringWithType {
         try {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
-            } else {
-                Object jsonFromString = JsonParser.parse(str);
-                return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
+            try {
+                return JsonParser.parse(new StringReader(str), t.getDescribingType(),
+                                        (json, targetType) -> FromJsonWithType.convert(json, targetType, t));
+            } catch (JsonParser.UnsupportedTargetTypeException ignore) {
+                // Parse the string as json and convert it, to report why it does not belong to the type.
+            }
+            Object jsonFromString = JsonParser.parse(str);
+            return FromJsonWithType.fromJsonWithType(jsonFromString, t);
         } catch (BError e) {
             return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR,
                                             StringUtils.fromString(e.getMessage()));
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the frames of a join which are held by {@link JoinFrameTable}.
+ */
+public class JoinFrameTableTest {
+
+    private static final Type FRAME_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANY);
+    private static final Type EMPLOYEE_TYPE = createEmployeeType();
+    private static final BString KEY_A = StringUtils.fromString("a");
+    private static final BString KEY_B = StringUtils.fromString("b");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString OTHER_VALUE = StringUtils.fromString("otherValue");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString SCORES = StringUtils.fromString("scores");
+
+    @Test
+    public void testFramesWithinLimitAreKeptInMemory() {
+        JoinFrameTable table = new JoinFrameTable(FRAME_TYPE, 1024 * 1024);
+        BMap<BString, Object> first = createFrame(createEmployee(1, "Anne"));
+        BMap<BString, Object> second = createFrame(2L);
+        table.add(KEY_A, first);
+        table.add(KEY_A, second);
+        table.seal();
+        List<Object> entries = table.get(KEY_A);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertSame(table.getFrame(entries.get(0)), first);
+        Assert.assertSame(table.getFrame(entries.get(1)), second);
+        Assert.assertNull(table.get(KEY_B));
+        table.close();
+    }
+
+    @Test
+    public void testFramesOfSimpleValuesAreSpilled() {
+        JoinFrameTable table = new JoinFrameTable(FRAME_TYPE, 1);
+        table.add(KEY_A, createFrame(1L));
+        table.add(KEY_B, createFrame(StringUtils.fromString("second")));
+        table.add(KEY_A, createFrame(ValueCreator.createDecimalValue("1.50")));
+        table.add(KEY_A, createFrame(2.5d));
+        table.add(KEY_B, createFrame(true));
+        table.add(KEY_B, createFrame(255));
+        table.add(KEY_B, createFrame(null));
+        table.seal();
+
+        List<Object> entries = table.get(KEY_A);
+        Assert.assertEquals(entries.size(), 3);
+        for (Object entry : entries) {
+            Assert.assertTrue(entry instanceof Long);
+        }
+        Assert.assertEquals(getValue(table, entries.get(0)), 1L);
+        Assert.assertEquals(getValue(table, entries.get(1)), ValueCreator.createDecimalValue("1.50"));
+        Assert.assertEquals(getValue(table, entries.get(2)), 2.5d);
+
+        entries = table.get(KEY_B);
+        Assert.assertEquals(entries.size(), 4);
+        Assert.assertEquals(getValue(table, entries.get(0)), StringUtils.fromString("second"));
+        Assert.assertEquals(getValue(table, entries.get(1)), true);
+        Assert.assertEquals(getValue(table, entries.get(2)), 255);
+        BMap<BString, Object> nilFrame = table.getFrame(entries.get(3));
+        Assert.assertTrue(nilFrame.containsKey(VALUE));
+        Assert.assertNull(nilFrame.get(VALUE));
+        Assert.assertSame(nilFrame.getType(), FRAME_TYPE);
+        table.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFramesOfRecordsAreSpilledAsImmutableClones() {
+        JoinFrameTable table = new JoinFrameTable(FRAME_TYPE, 1);
+        BMap<BString, Object> employee = createEmployee(1, "Anne");
+        table.add(KEY_A, createFrame(employee));
+        table.seal();
+
+        List<Object> entries = table.get(KEY_A);
+        Assert.assertEquals(entries.size(), 1);
+        Assert.assertTrue(entries.get(0) instanceof Long);
+        BMap<BString, Object> spilledEmployee = (BMap<BString, Object>) getValue(table, entries.get(0));
+        Assert.assertNotSame(spilledEmployee, employee);
+        Assert.assertTrue(spilledEmployee.isFrozen());
+        Assert.assertFalse(employee.isFrozen());
+        Assert.assertTrue(TypeChecker.checkIsType(spilledEmployee, EMPLOYEE_TYPE));
+        Assert.assertTrue(TypeChecker.isEqual(spilledEmployee, employee));
+        BArray scores = (BArray) spilledEmployee.get(SCORES);
+        Assert.assertTrue(scores.isFrozen());
+        Assert.assertEquals(scores.getInt(2), 3L);
+
+        // Each read of the frame clones the record
+        Assert.assertNotSame(getValue(table, entries.get(0)), spilledEmployee);
+        table.close();
+    }
+
+    @Test
+    public void testUnspillableFramesKeepTheirOrder() {
+        JoinFrameTable table = new JoinFrameTable(FRAME_TYPE, 1);
+        BMap<BString, Object> employee = createEmployee(2, "Bob");
+        // A value referred to more than once in a frame cannot be cloned, hence the frame stays in memory
+        BMap<BString, Object> sharedFrame = createFrame(employee);
+        sharedFrame.put(OTHER_VALUE, employee);
+        table.add(KEY_A, createFrame(1L));
+        table.add(KEY_A, sharedFrame);
+        table.add(KEY_B, createFrame(2L));
+        table.add(KEY_A, createFrame(3L));
+        table.seal();
+
+        List<Object> entries = table.get(KEY_A);
+        Assert.assertEquals(entries.size(), 3);
+        Assert.assertEquals(getValue(table, entries.get(0)), 1L);
+        Assert.assertSame(table.getFrame(entries.get(1)), sharedFrame);
+        Assert.assertSame(getValue(table, entries.get(1)), employee);
+        Assert.assertEquals(getValue(table, entries.get(2)), 3L);
+        Assert.assertEquals(table.get(KEY_B).size(), 1);
+        table.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPartitionIndexesAreBounded() {
+        JoinFrameTable table = new JoinFrameTable(FRAME_TYPE, 1024);
+        int frameCount = 10 * JoinFrameTable.PARTITION_COUNT;
+        for (int i = 0; i < frameCount; i++) {
+            table.add(StringUtils.fromString("key" + i), createFrame(createEmployee(i, "employee" + i)));
+        }
+        table.seal();
+
+        for (int i = 0; i < frameCount; i++) {
+            List<Object> entries = table.get(StringUtils.fromString("key" + i));
+            Assert.assertEquals(entries.size(), 1);
+            BMap<BString, Object> employee = (BMap<BString, Object>) getValue(table, entries.get(0));
+            Assert.assertEquals(employee.get(ID), (long) i);
+            Assert.assertTrue(table.getCachedPartitionCount() < JoinFrameTable.PARTITION_COUNT);
+        }
+        Assert.assertNull(table.get(StringUtils.fromString("key" + frameCount)));
+        table.close();
+    }
+
+    @Test
+    public void testMaxInMemoryBytes() {
+        Assert.assertEquals(JoinFrameTable.getMaxInMemoryBytes(" 1024 "), 1024L);
+        Assert.assertTrue(JoinFrameTable.getMaxInMemoryBytes(null) > 0);
+    }
+
+    @Test
+    public void testInvalidMaxInMemoryBytes() {
+        for (String maxInMemoryBytes : new String[]{"many", "0", "-1"}) {
+            try {
+                JoinFrameTable.getMaxInMemoryBytes(maxInMemoryBytes);
+                Assert.fail("expected an error for '" + maxInMemoryBytes + "'");
+            } catch (BError e) {
+                Assert.assertEquals(e.getErrorMessage().getValue(), "Join failed");
+                Assert.assertTrue(e.getDetails().toString().contains("invalid value '" + maxInMemoryBytes
+                        + "' for the environment variable '" + JoinFrameTable.MAX_IN_MEMORY_BYTES_ENV_VAR + "'"));
+            }
+        }
+    }
+
+    private static Type createEmployeeType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        fields.put("scores", TypeCreator.createField(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT),
+                "scores", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType("Employee", new Module("testorg", "join_test", "1.0.0"), 0, fields,
+                null, true, 0);
+    }
+
+    private static BMap<BString, Object> createEmployee(long id, String name) {
+        BMap<BString, Object> employee = ValueCreator.createMapValue(EMPLOYEE_TYPE);
+        employee.put(ID, id);
+        employee.put(NAME, StringUtils.fromString(name));
+        employee.put(SCORES, ValueCreator.createArrayValue(new long[]{1, 2, 3}));
+        return employee;
+    }
+
+    private static BMap<BString, Object> createFrame(Object value) {
+        BMap<BString, Object> frame = ValueCreator.createMapValue(FRAME_TYPE);
+        frame.put(VALUE, value);
+        return frame;
+    }
+
+    private static Object getValue(JoinFrameTable table, Object entry) {
+        return table.getFrame(entry).get(VALUE);
+    }
+}
@@ -1115,6 +1115,45 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    int[] arr1 = [10, -1, 3, 2, 0, 6, 3];
+    int[] sortedArr1 = arr1.sort(array:DESCENDING);
+    assertValueEquality(sortedArr1, [10, 6, 3, 3, 2, 0, -1]);
+    assertValueEquality(sortedArr1, arr1);
+
+    float[] arr2 = [2.5, float:NaN, 0.0, -1.0, -0.0, 0.0, 10.0];
+    float[] sortedArr2 = arr2.sort();
+    assertValueEquality(sortedArr2.toString(), "[-1.0,0.0,-0.0,0.0,2.5,10.0,NaN]");
+    sortedArr2 = arr2.sort(array:DESCENDING);
+    assertValueEquality(sortedArr2.toString(), "[10.0,2.5,0.0,-0.0,0.0,-1.0,NaN]");
+    assertValueEquality(sortedArr2, arr2);
+
+    string[] arr3 = ["bb", "a", "\u{1F600}", "\u{FFFF}", "ab", ""];
+    string[] sortedArr3 = arr3.sort();
+    assertValueEquality(sortedArr3, ["", "a", "ab", "bb", "\u{FFFF}", "\u{1F600}"]);
+    sortedArr3 = arr3.sort(array:DESCENDING);
+    assertValueEquality(sortedArr3, ["\u{1F600}", "\u{FFFF}", "bb", "ab", "a", ""]);
+
+    byte[] arr4 = [200, 1, 255, 0, 1, 128];
+    byte[] sortedArr4 = arr4.sort();
+    assertValueEquality(sortedArr4, <byte[]>[0, 1, 1, 128, 200, 255]);
+    sortedArr4 = arr4.sort(array:DESCENDING);
+    assertValueEquality(sortedArr4, <byte[]>[255, 200, 128, 1, 1, 0]);
+
+    boolean[] arr5 = [true, false, true, false];
+    assertValueEquality(arr5.sort(), [false, false, true, true]);
+    assertValueEquality(arr5.sort(array:DESCENDING), [true, true, false, false]);
+
+    decimal[] arr6 = [2.5, -1, 10, 0, 2.50];
+    decimal[] sortedArr6 = arr6.sort(array:DESCENDING);
+    assertValueEquality(sortedArr6, <decimal[]>[10, 2.5, 2.50, 0, -1]);
+    assertValueEquality(sortedArr6, arr6);
+
+    int[] & readonly arr7 = [2, 1];
+    var result = trap arr7.sort();
+    assertValueEquality(result is error, true);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
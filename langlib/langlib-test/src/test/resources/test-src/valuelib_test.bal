@@ -1218,6 +1218,35 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assert(a is error, true);
 }
 
+function testFromJsonStringWithTypeNestedRecords() {
+    string s = "[{\"employed\":true, \"first_name\":\"Radha\", \"address\":{\"city\":\"Colombo\", " +
+        "\"country\":null, \"apartment_no\":123}}, {\"employed\":false, \"first_name\":\"Mohan\", " +
+        "\"last_name\":\"Raj\", \"address\":null}]";
+    PostGradStudent[] students = checkpanic s.fromJsonStringWithType(PostGradStudentArray);
+    assert(students.length(), 2);
+    PermanentAddress? address = students[0].address;
+    assert(address is PermanentAddress, true);
+    PermanentAddress permanentAddress = <PermanentAddress> address;
+    assert(permanentAddress.city, "Colombo");
+    assert(permanentAddress.country, ());
+    assert(permanentAddress["apartment_no"], 123);
+    assert(students[1]?.last_name, "Raj");
+    assert(students[1].address, ());
+
+    string tableStr = "[{\"x3\":\"abc\"}, {\"x3\":\"def\", \"y3\":2}]";
+    table<Foo4> tab = checkpanic tableStr.fromJsonStringWithType(TableFoo4);
+    Foo4[] rows = tab.toArray();
+    assert(rows.length(), 2);
+    assert(rows[0].y3, 1);
+    assert(rows[1].y3, 2);
+
+    string missingField = "[{\"employed\":true, \"address\":null}]";
+    assert(missingField.fromJsonStringWithType(PostGradStudentArray) is error, true);
+
+    string unknownField = "[{\"employed\":true, \"first_name\":\"Radha\", \"address\":null, \"age\":20}]";
+    assert(unknownField.fromJsonStringWithType(PostGradStudentArray) is error, true);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
@@ -98,6 +100,45 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests compiling the cached modules again, when a compiler plugin has compilation analysis "
+            + "tasks")
+    public void testIncrementalBuildWithCompilationAnalysisTasks() throws IOException {
+        // The built-in FileAppenderPlugin, which is on the test classpath, adds a compilation analysis task to every
+        // build project. Such a task may ask for the semantic model of any module, hence no module is reused.
+        Path projectPath = RESOURCE_DIRECTORY.resolve("projects_for_incremental_build")
+                .resolve("package_with_module_imports");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+
+        // 1) Compile all the modules, and cache them along with their fingerprints
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        BuildProject project = BuildProject.load(getEnvironmentBuilder(testCompCacheFactory), projectPath,
+                buildOptions);
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 4);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount, 4);
+
+        // 2) Load the project again, and compile all the modules from sources, even though none of them changed
+        testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        project = BuildProject.load(getEnvironmentBuilder(testCompCacheFactory), projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 4);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount, 4);
+        for (ModuleId moduleId : project.currentPackage().moduleIds()) {
+            Assert.assertNotNull(compilation.getSemanticModel(moduleId));
+        }
+    }
+
+    private static ProjectEnvironmentBuilder getEnvironmentBuilder(TestCompilationCacheFactory testCompCacheFactory) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        return environmentBuilder;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -137,6 +178,12 @@ public class TestBirAndJarCache {
             birCachedCount++;
         }
 
+        @Override
+        public void cacheBir(ModuleName moduleName, String fingerprint, ByteArrayOutputStream birContent) {
+            super.cacheBir(moduleName, fingerprint, birContent);
+            birCachedCount++;
+        }
+
         @Override
         public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                  String libraryName,
@@ -0,0 +1,5 @@
+import incremental.greeting;
+
+public function main() {
+    string message = greeting:greet("Ballerina");
+}
@@ -0,0 +1,5 @@
+import incremental.util;
+
+public function greet(string name) returns string {
+    return util:concatStrings("Hello, ", name);
+}
@@ -0,0 +1,3 @@
+public function concatStrings(string a, string b) returns string {
+    return a + b;
+}
@@ -22,7 +22,8 @@ import ballerina/time;
 #
 # + capacity - Maximum number of entries allowed in the cache
 # + evictionPolicy - The policy, which defines the cache eviction algorithm
-# + evictionFactor - The factor by which the entries will be evicted once the cache is full
+# + evictionFactor - The factor by which the entries will be evicted once the cache is full. The
+#                    `cache:TinyLfuEvictionPolicy` evicts one entry at a time and does not use it
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
 #                            `maxAgeInSeconds` property set when inserting item to the cache
@@ -35,6 +36,11 @@ public type CacheConfig record {|
     int cleanupIntervalInSeconds?;
 |};
 
+// Names of the eviction policies, which are passed to the native cache engine.
+const string POLICY_LRU = "LRU";
+const string POLICY_W_TINY_LFU = "W-TinyLFU";
+const string POLICY_CUSTOM = "CUSTOM";
+
 type CacheEntry record {|
     string key;
     any data;
@@ -57,7 +63,10 @@ service class CleanupService {
 }
 
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
-# as the value of the cache since it doesn't make any sense to cache a nil.
+# as the value of the cache since it doesn't make any sense to cache a nil. With the `cache:LruEvictionPolicy` and
+# the `cache:TinyLfuEvictionPolicy`, the entries, their eviction order and their expiry are kept natively, so that
+# the cache can usually be read concurrently without locking. With a custom eviction policy, the linked list is maintained by
+# calling the policy.
 public class Cache {
 
     *AbstractCache;
@@ -67,6 +76,7 @@ public class Cache {
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
+    private boolean nativePolicy;
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -96,7 +106,9 @@ public class Cache {
             tail: ()
         };
 
-        externInit(self, self.capacity_);
+        string policyName = getPolicyName(self.evictionPolicy);
+        self.nativePolicy = policyName != POLICY_CUSTOM;
+        externInit(self, self.capacity_, <int>(self.capacity_ * self.evictionFactor), policyName);
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
@@ -129,11 +141,6 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-        // If the current cache is full (i.e. size = capacity), evict cache.
-        if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
-        }
-
         // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
         // `defaultMaxAgeInSeconds` property.
         int calculatedExpTime = -1;
@@ -145,6 +152,17 @@ public class Cache {
             }
         }
 
+        // The native eviction policies evict the entries while inserting the new entry.
+        if (self.nativePolicy) {
+            externPut(self, key, value, calculatedExpTime);
+            return;
+        }
+
+        // If the current cache is full (i.e. size = capacity), evict cache.
+        if (self.size() == self.capacity_) {
+            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+        }
+
         CacheEntry entry = {
             key: key,
             data: value,
@@ -153,12 +171,12 @@ public class Cache {
         Node newNode = { value: entry };
 
         if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
+            Node oldNode = <Node>externGet(self, key);
             self.evictionPolicy.replace(self.list, newNode, oldNode);
         } else {
             self.evictionPolicy.put(self.list, newNode);
         }
-        externPut(self, key, newNode);
+        externPut(self, key, newNode, -1);
     }
 
     # Returns the cached value associated with the provided key.
@@ -172,7 +190,12 @@ public class Cache {
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
+        // The native eviction policies return `()` for an expired entry, after removing it.
+        if (self.nativePolicy) {
+            return externGet(self, key);
+        }
+
+        Node node = <Node>externGet(self, key);
         CacheEntry entry = <CacheEntry>node.value;
 
         // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
@@ -199,8 +222,10 @@ public class Cache {
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
+        if (!self.nativePolicy) {
+            Node node = <Node>externGet(self, key);
+            self.evictionPolicy.remove(self.list, node);
+        }
         externRemove(self, key);
     }
 
@@ -209,7 +234,9 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        if (!self.nativePolicy) {
+            self.evictionPolicy.clear(self.list);
+        }
         externRemoveAll(self);
     }
 
@@ -260,11 +287,16 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
 }
 
 function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
+    // The native eviction policies keep the entries with an expiry time in a timer wheel, which is advanced here.
+    if (getPolicyName(evictionPolicy) != POLICY_CUSTOM) {
+        externCleanUp(cache);
+        return;
+    }
     if (externSize(cache) == 0) {
         return;
     }
     foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
+        Node node = <Node>externGet(cache, key);
         CacheEntry entry = <CacheEntry>node.value;
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
             evictionPolicy.remove(list, node);
@@ -276,15 +308,24 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function getPolicyName(AbstractEvictionPolicy evictionPolicy) returns string {
+    if (evictionPolicy is LruEvictionPolicy) {
+        return POLICY_LRU;
+    } else if (evictionPolicy is TinyLfuEvictionPolicy) {
+        return POLICY_W_TINY_LFU;
+    }
+    return POLICY_CUSTOM;
+}
+
+function externInit(Cache cache, int capacity, int evictionKeysCount, string evictionPolicy) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externPut(Cache cache, string key, any value, int expTime) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externGet(Cache cache, string key) returns any = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -307,3 +348,7 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externCleanUp(Cache cache) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
@@ -15,11 +15,16 @@
 // under the License.
 
 # The `cache:LruEvictionPolicy` object consists of the LRU eviction algorithm related operations based on a linked
-# list data structure.
+# list data structure. When it is the eviction policy of a `cache:Cache` object, the cache keeps the LRU order
+# natively and does not call these operations.
 public class LruEvictionPolicy {
 
     *AbstractEvictionPolicy;
 
+    // The private field restricts the `is LruEvictionPolicy` check to the objects of this class, so that a custom
+    // policy with the same methods is still called by the cache.
+    private string name = POLICY_LRU;
+
     # Updates the linked list based on the get operation related to the LRU eviction algorithm.
     #
     # + list - Linked list data structure, which is used to govern the eviction policy
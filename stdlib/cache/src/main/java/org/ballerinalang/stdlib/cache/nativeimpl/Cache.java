@@ -20,65 +20,71 @@ package org.ballerinalang.stdlib.cache.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina functions to cache with the {@link CacheEngine}.
  *
  * @since 2.0.0
  */
 public class Cache {
 
-    public static final String CACHE_MAP = "CACHE_MAP";
+    public static final String CACHE_ENGINE = "CACHE_ENGINE";
+
+    private static final String POLICY_LRU = "LRU";
+    private static final String POLICY_W_TINY_LFU = "W-TinyLFU";
 
-    public static void externInit(BObject cache, int capacity) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    public static void externInit(BObject cache, int capacity, int evictionKeysCount, BString evictionPolicy) {
+        CacheEngine.Policy policy;
+        switch (evictionPolicy.getValue()) {
+            case POLICY_LRU:
+                policy = CacheEngine.Policy.LRU;
+                break;
+            case POLICY_W_TINY_LFU:
+                policy = CacheEngine.Policy.W_TINY_LFU;
+                break;
+            default:
+                policy = CacheEngine.Policy.NONE;
+                break;
+        }
+        cache.addNativeData(CACHE_ENGINE, new CacheEngine<BString, Object>(capacity, evictionKeysCount, policy));
     }
 
-    public static void externPut(BObject cache, BString key, BMap<BString, Object> value) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static void externPut(BObject cache, BString key, Object value, long expTime) {
+        getEngine(cache).put(key, value, expTime);
     }
 
-    public static BMap<BString, Object> externGet(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    public static Object externGet(BObject cache, BString key) {
+        return getEngine(cache).get(key);
     }
 
     public static void externRemove(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+        getEngine(cache).remove(key);
     }
 
     public static void externRemoveAll(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getEngine(cache).clear();
     }
 
     public static boolean externHasKey(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getEngine(cache).containsKey(key);
     }
 
     public static BArray externKeys(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return ValueCreator.createArrayValue(map.keySet().toArray(new BString[0]));
+        return ValueCreator.createArrayValue(getEngine(cache).keys().toArray(new BString[0]));
     }
 
     public static int externSize(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getEngine(cache).size();
+    }
+
+    public static void externCleanUp(BObject cache) {
+        getEngine(cache).cleanUp();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheEngine<BString, Object> getEngine(BObject cache) {
+        return (CacheEngine<BString, Object>) cache.getNativeData(CACHE_ENGINE);
     }
 }
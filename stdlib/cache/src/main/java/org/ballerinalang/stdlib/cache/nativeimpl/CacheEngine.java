@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent cache engine which backs the `cache:Cache` object. The entries are kept in a {@link ConcurrentHashMap},
+ * so reading an entry never takes a lock as long as the read can be buffered. The eviction order and the expiry timers
+ * are only changed while holding the eviction lock: a read is recorded in a striped buffer which is replayed under the
+ * lock by the next write or once the buffer fills up, while the writes take the lock themselves. A read which cannot
+ * be buffered is dropped with the W-TinyLFU policy, which only needs an approximate order, and is applied under the
+ * lock with the LRU policy, so that no read is lost. The reads of a thread are applied in the order it made them,
+ * while the concurrent reads of different threads may be applied in any order.
+ * <p>
+ * The entries are evicted by one of the following policies.
+ * <ul>
+ * <li>{@link Policy#LRU} evicts a batch of the least recently used entries whenever the cache is full.</li>
+ * <li>{@link Policy#W_TINY_LFU} keeps new entries in a small LRU window and admits the ones evicted from the window
+ * to a segmented LRU, only if they were accessed more often than the entry they would replace.</li>
+ * <li>{@link Policy#NONE} neither orders nor evicts the entries, which is left to a custom eviction policy.</li>
+ * </ul>
+ * The entries with an expiry time are kept in a {@link TimerWheel}, which removes them once they expire.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ *
+ * @since 2.0.0
+ */
+public class CacheEngine<K, V> {
+
+    /**
+     * Expiry time of the entries which never expire.
+     */
+    public static final long NO_EXPIRY = -1;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int RETIRED = -1;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final Policy policy;
+    private final int capacity;
+    private final int evictionCount;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final Consumer<Node<K, V>> accessRecorder = this::onAccess;
+    private final Consumer<Node<K, V>> expiryHandler = this::evictNode;
+    private final TimerWheel<K, V> timerWheel;
+
+    // The following are guarded by the eviction lock. With the LRU policy, the window holds every entry.
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+    private final int maxWindowSize;
+    private final int maxProtectedSize;
+    private int windowSize;
+    private int protectedSize;
+
+    /**
+     * Creates a cache engine.
+     *
+     * @param capacity      maximum number of entries in the cache
+     * @param evictionCount number of entries evicted at once when the cache is full, with the LRU policy
+     * @param policy        eviction policy of the cache
+     */
+    public CacheEngine(int capacity, int evictionCount, Policy policy) {
+        this.data = new ConcurrentHashMap<>(capacity);
+        this.policy = policy;
+        this.capacity = capacity;
+        this.evictionCount = Math.max(evictionCount, 1);
+        this.timerWheel = new TimerWheel<>(System.nanoTime());
+        this.sketch = policy == Policy.W_TINY_LFU ? new FrequencySketch(capacity) : null;
+        this.maxWindowSize = Math.max(capacity / 100, 1);
+        this.maxProtectedSize = (int) ((capacity - maxWindowSize) * 0.8);
+    }
+
+    /**
+     * Returns the value of the key, or {@code null} if there is no such entry or if the entry has expired. An expired
+     * entry is removed from the cache.
+     *
+     * @param key key of the entry
+     * @return the value of the entry
+     */
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        long expiresAt = node.expiresAt;
+        if (expiresAt != NO_EXPIRY && expiresAt - System.nanoTime() < 0) {
+            removeNode(key, node);
+            return null;
+        }
+        if (policy != Policy.NONE) {
+            int pending = readBuffer.offer(node);
+            if (pending < 0 && policy == Policy.LRU) {
+                recordAccess(node);
+            } else if (pending < 0 || pending >= ReadBuffer.DRAIN_THRESHOLD) {
+                tryDrainReadBuffer();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Adds the entry to the cache, replacing the value of the key if it is already in the cache.
+     *
+     * @param key       key of the entry
+     * @param value     value of the entry
+     * @param expiresAt time in nanoseconds at which the entry expires, or {@link #NO_EXPIRY}
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (policy == Policy.NONE) {
+            data.put(key, new Node<>(key, value, expiresAt));
+            return;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            if (policy == Policy.LRU && data.size() >= capacity) {
+                for (int i = 0; i < evictionCount && window.head != null; i++) {
+                    evictNode(window.head);
+                }
+            }
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                node = new Node<>(key, value, expiresAt);
+                data.put(key, node);
+                if (sketch != null) {
+                    sketch.increment(key);
+                }
+                node.queueType = WINDOW;
+                window.addLast(node);
+                windowSize++;
+            } else {
+                node.value = value;
+                node.expiresAt = expiresAt;
+                onAccess(node);
+            }
+            if (expiresAt == NO_EXPIRY) {
+                timerWheel.deschedule(node);
+            } else {
+                timerWheel.schedule(node);
+            }
+            if (policy == Policy.W_TINY_LFU) {
+                evictEntries();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry of the key from the cache.
+     *
+     * @param key key of the entry
+     */
+    public void remove(K key) {
+        if (policy == Policy.NONE) {
+            data.remove(key);
+            return;
+        }
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                evictNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public void clear() {
+        if (policy == Policy.NONE) {
+            data.clear();
+            return;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            timerWheel.clear();
+            windowSize = 0;
+            protectedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entries which have expired by now.
+     */
+    public void cleanUp() {
+        if (policy == Policy.NONE) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            timerWheel.advance(System.nanoTime(), expiryHandler);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public boolean containsKey(K key) {
+        return data.containsKey(key);
+    }
+
+    public Set<K> keys() {
+        return data.keySet();
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    private void removeNode(K key, Node<K, V> node) {
+        if (policy == Policy.NONE) {
+            data.remove(key, node);
+            return;
+        }
+        evictionLock.lock();
+        try {
+            if (node.queueType != RETIRED) {
+                evictNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recordAccess(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            // The buffered reads happened before this one, so they are applied first.
+            drainReadBuffer();
+            onAccess(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(accessRecorder);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (sketch != null && node.queueType != RETIRED) {
+            sketch.increment(node.key);
+        }
+        switch (node.queueType) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.queueType = PROTECTED;
+                protectedSegment.addLast(node);
+                protectedSize++;
+                // Demote the least recently used entries of the protected segment back to probation.
+                while (protectedSize > maxProtectedSize) {
+                    Node<K, V> demoted = protectedSegment.head;
+                    protectedSegment.remove(demoted);
+                    protectedSize--;
+                    demoted.queueType = PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            case PROTECTED:
+                protectedSegment.moveToBack(node);
+                break;
+            default:
+                // The entry was removed after the read was recorded.
+                break;
+        }
+    }
+
+    private void evictEntries() {
+        // The entries pushed out of the window become candidates at the back of the probation segment.
+        while (windowSize > maxWindowSize) {
+            Node<K, V> candidate = window.head;
+            window.remove(candidate);
+            windowSize--;
+            candidate.queueType = PROBATION;
+            probation.addLast(candidate);
+        }
+        while (data.size() > capacity) {
+            Node<K, V> victim = probation.head;
+            Node<K, V> candidate = probation.tail;
+            if (victim == null) {
+                victim = protectedSegment.head != null ? protectedSegment.head : window.head;
+                evictNode(victim);
+            } else if (victim == candidate || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        data.remove(node.key, node);
+        switch (node.queueType) {
+            case WINDOW:
+                window.remove(node);
+                windowSize--;
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node);
+                protectedSize--;
+                break;
+            default:
+                return;
+        }
+        timerWheel.deschedule(node);
+        node.queueType = RETIRED;
+    }
+
+    /**
+     * Eviction policies of the cache engine.
+     */
+    public enum Policy {
+        NONE,
+        LRU,
+        W_TINY_LFU
+    }
+
+    /**
+     * Entry of the cache, which is also linked into the access order and the timer wheel.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    static final class Node<K, V> {
+
+        final K key;
+        volatile V value;
+        volatile long expiresAt;
+
+        // The following are guarded by the eviction lock.
+        int queueType;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> prevInWheel;
+        Node<K, V> nextInWheel;
+
+        Node(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, NO_EXPIRY);
+            sentinel.prevInWheel = sentinel;
+            sentinel.nextInWheel = sentinel;
+            return sentinel;
+        }
+    }
+
+    /**
+     * Doubly linked list of nodes, from the least recently used to the most recently used.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     */
+    private static final class AccessOrderDeque<K, V> {
+
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            Node<K, V> node = head;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.queueType = RETIRED;
+                node = next;
+            }
+            head = null;
+            tail = null;
+        }
+    }
+
+    /**
+     * Striped, lossy buffer of the reads which are yet to be applied to the eviction order. Each thread records its
+     * reads in the stripe of its id, and a read is dropped instead of waiting when its stripe is full or contended.
+     *
+     * @param <E> type of the buffered elements
+     */
+    private static final class ReadBuffer<E> {
+
+        private static final int BUFFER_SIZE = 16;
+        private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+        static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+        private final Stripe<E>[] stripes;
+        private final int stripeMask;
+
+        @SuppressWarnings("unchecked")
+        ReadBuffer() {
+            int processors = Runtime.getRuntime().availableProcessors();
+            int count = 1 << -Integer.numberOfLeadingZeros(Math.max(processors, 2) - 1);
+            stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe<>();
+            }
+            stripeMask = count - 1;
+        }
+
+        /**
+         * Records the element.
+         *
+         * @param element element to be recorded
+         * @return number of the pending elements in the stripe, or -1 if the element was dropped
+         */
+        int offer(E element) {
+            Stripe<E> stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE || !stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+                return -1;
+            }
+            stripe.buffer.lazySet((int) (tail & BUFFER_MASK), element);
+            return (int) size + 1;
+        }
+
+        /**
+         * Hands over the recorded elements to the consumer. Must be called while holding the eviction lock.
+         *
+         * @param consumer consumer of the elements
+         */
+        void drainTo(Consumer<E> consumer) {
+            for (Stripe<E> stripe : stripes) {
+                long head = stripe.readCounter;
+                long tail = stripe.writeCounter.get();
+                for (; head < tail; head++) {
+                    int index = (int) (head & BUFFER_MASK);
+                    E element = stripe.buffer.get(index);
+                    if (element == null) {
+                        // The element is yet to be published by its writer.
+                        break;
+                    }
+                    stripe.buffer.lazySet(index, null);
+                    consumer.accept(element);
+                }
+                stripe.readCounter = head;
+            }
+        }
+
+        private static final class Stripe<E> {
+
+            private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+            private final AtomicLong writeCounter = new AtomicLong();
+            private volatile long readCounter;
+        }
+    }
+}
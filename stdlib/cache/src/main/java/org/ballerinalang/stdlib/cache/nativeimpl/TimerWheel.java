@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel which keeps the cache entries with an expiry time. Each level of the wheel has buckets
+ * which span a power of two of nanoseconds (about a second, a minute, an hour and a day), and an entry is kept in the
+ * bucket of the coarsest level which still tells it apart from the current time. Advancing the wheel only visits the
+ * buckets whose time has passed, and moves the entries which have not expired yet down to a finer level, so expiring
+ * the entries does not scan the whole cache.
+ *
+ * @param <K> type of the keys of the cache
+ * @param <V> type of the values of the cache
+ *
+ * @since 2.0.0
+ */
+class TimerWheel<K, V> {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            ceilingPowerOfTwo(TimeUnit.SECONDS.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.MINUTES.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.HOURS.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+    };
+    private static final long[] SHIFT = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4]),
+    };
+
+    private final CacheEngine.Node<K, V>[][] wheel;
+    private long nanos;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long currentTimeNanos) {
+        wheel = new CacheEngine.Node[BUCKETS.length][];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new CacheEngine.Node[BUCKETS[i]];
+            for (int j = 0; j < wheel[i].length; j++) {
+                wheel[i][j] = CacheEngine.Node.sentinel();
+            }
+        }
+        nanos = currentTimeNanos;
+    }
+
+    /**
+     * Adds the node to the bucket of its expiry time, or moves it there if it is already in the wheel.
+     *
+     * @param node node of the cache entry
+     */
+    void schedule(CacheEngine.Node<K, V> node) {
+        deschedule(node);
+        link(findBucket(node.expiresAt), node);
+    }
+
+    /**
+     * Removes the node from the wheel, if it is in the wheel.
+     *
+     * @param node node of the cache entry
+     */
+    void deschedule(CacheEngine.Node<K, V> node) {
+        if (node.nextInWheel != null) {
+            node.prevInWheel.nextInWheel = node.nextInWheel;
+            node.nextInWheel.prevInWheel = node.prevInWheel;
+            node.prevInWheel = null;
+            node.nextInWheel = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time and hands over the nodes which expired before it.
+     *
+     * @param currentTimeNanos current time in nanoseconds
+     * @param expired          consumer of the expired nodes
+     */
+    void advance(long currentTimeNanos, Consumer<CacheEngine.Node<K, V>> expired) {
+        long previousTimeNanos = nanos;
+        nanos = currentTimeNanos;
+        // The ticks are compared as unsigned values, so shift both times when the clock crosses zero.
+        if (previousTimeNanos < 0 && currentTimeNanos > 0) {
+            previousTimeNanos += Long.MAX_VALUE;
+            currentTimeNanos += Long.MAX_VALUE;
+        }
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTimeNanos >>> SHIFT[i];
+            long currentTicks = currentTimeNanos >>> SHIFT[i];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks - previousTicks, expired);
+        }
+    }
+
+    /**
+     * Removes every node from the wheel.
+     */
+    void clear() {
+        for (CacheEngine.Node<K, V>[] buckets : wheel) {
+            for (CacheEngine.Node<K, V> sentinel : buckets) {
+                CacheEngine.Node<K, V> node = sentinel.nextInWheel;
+                while (node != sentinel) {
+                    CacheEngine.Node<K, V> next = node.nextInWheel;
+                    node.prevInWheel = null;
+                    node.nextInWheel = null;
+                    node = next;
+                }
+                sentinel.prevInWheel = sentinel;
+                sentinel.nextInWheel = sentinel;
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta, Consumer<CacheEngine.Node<K, V>> expired) {
+        CacheEngine.Node<K, V>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+        int end = start + steps;
+        for (int i = start; i < end; i++) {
+            CacheEngine.Node<K, V> sentinel = buckets[i & mask];
+            CacheEngine.Node<K, V> node = sentinel.nextInWheel;
+            sentinel.prevInWheel = sentinel;
+            sentinel.nextInWheel = sentinel;
+            while (node != sentinel) {
+                CacheEngine.Node<K, V> next = node.nextInWheel;
+                node.prevInWheel = null;
+                node.nextInWheel = null;
+                if (node.expiresAt - nanos > 0) {
+                    link(findBucket(node.expiresAt), node);
+                } else {
+                    expired.accept(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private CacheEngine.Node<K, V> findBucket(long time) {
+        long duration = time - nanos;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = time >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private static <K, V> void link(CacheEngine.Node<K, V> sentinel, CacheEngine.Node<K, V> node) {
+        node.prevInWheel = sentinel.prevInWheel;
+        node.nextInWheel = sentinel;
+        sentinel.prevInWheel.nextInWheel = node;
+        sentinel.prevInWheel = node;
+    }
+
+    private static long ceilingPowerOfTwo(long value) {
+        return 1L << -Long.numberOfLeadingZeros(value - 1);
+    }
+}
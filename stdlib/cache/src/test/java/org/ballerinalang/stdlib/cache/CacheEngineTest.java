@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.CacheEngine;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the native cache engine.
+ *
+ * @since 2.0.0
+ */
+public class CacheEngineTest {
+
+    private static final int CAPACITY = 1000;
+
+    @Test(description = "Test the hit rate of the eviction policies on a skewed workload mixed with scans")
+    public void testHitRateWithScans() {
+        double lruHitRate = replayTrace(new CacheEngine<>(CAPACITY, 1, CacheEngine.Policy.LRU));
+        double tinyLfuHitRate = replayTrace(new CacheEngine<>(CAPACITY, 1, CacheEngine.Policy.W_TINY_LFU));
+        Assert.assertTrue(tinyLfuHitRate > lruHitRate,
+                          "W-TinyLFU hit rate: " + tinyLfuHitRate + ", LRU hit rate: " + lruHitRate);
+    }
+
+    @Test(description = "Test the size of the cache while many threads read and write it")
+    public void testConcurrentAccess() throws Exception {
+        CacheEngine<Integer, Integer> cache = new CacheEngine<>(CAPACITY, 1, CacheEngine.Policy.W_TINY_LFU);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Random random = new Random(i);
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 200000; j++) {
+                    int key = random.nextInt(CAPACITY * 4);
+                    if (cache.get(key) == null) {
+                        cache.put(key, key, CacheEngine.NO_EXPIRY);
+                    } else if (j % 100 == 0) {
+                        cache.remove(key);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assert.assertTrue(cache.size() <= CAPACITY);
+        for (Integer key : cache.keys()) {
+            Assert.assertEquals(cache.get(key), key);
+        }
+    }
+
+    @Test(description = "Test that the LRU policy records every read made by concurrent threads")
+    public void testLruRecordsConcurrentReads() throws Exception {
+        int capacity = 1000;
+        CacheEngine<Integer, Integer> cache = new CacheEngine<>(capacity, 1, CacheEngine.Policy.LRU);
+        for (int i = 0; i < capacity; i++) {
+            cache.put(i, i, CacheEngine.NO_EXPIRY);
+        }
+        // Each thread reads its own share of the second half of the keys once, so a dropped read is never repeated.
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int offset = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int key = capacity / 2 + offset; key < capacity; key += threads) {
+                    Assert.assertEquals(cache.get(key), Integer.valueOf(key));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // The keys which were not read are the least recently used ones, so they are evicted first.
+        for (int i = 0; i < capacity / 2; i++) {
+            cache.put(capacity + i, i, CacheEngine.NO_EXPIRY);
+        }
+        for (int i = 0; i < capacity / 2; i++) {
+            Assert.assertFalse(cache.containsKey(i), "key " + i + " was not evicted");
+            Assert.assertTrue(cache.containsKey(capacity / 2 + i), "key " + (capacity / 2 + i) + " was evicted");
+        }
+    }
+
+    @Test(description = "Test removing the expired entries")
+    public void testExpiry() throws InterruptedException {
+        CacheEngine<String, String> cache = new CacheEngine<>(CAPACITY, 1, CacheEngine.Policy.LRU);
+        cache.put("A", "1", System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100));
+        cache.put("B", "2", System.nanoTime() + TimeUnit.HOURS.toNanos(1));
+        cache.put("C", "3", CacheEngine.NO_EXPIRY);
+        Thread.sleep(200);
+        Assert.assertNull(cache.get("A"));
+        Assert.assertEquals(cache.size(), 2);
+
+        cache.put("D", "4", System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100));
+        // The entries expire once the timer wheel has passed their bucket, which spans about a second.
+        Thread.sleep(2500);
+        cache.cleanUp();
+        Assert.assertFalse(cache.containsKey("D"));
+        Assert.assertEquals(cache.get("B"), "2");
+        Assert.assertEquals(cache.get("C"), "3");
+    }
+
+    private static double replayTrace(CacheEngine<Integer, Integer> cache) {
+        double[] distribution = zipfDistribution(CAPACITY * 100, 0.9);
+        Random random = new Random(7);
+        int scanKey = Integer.MAX_VALUE / 2;
+        int hits = 0;
+        int requests = 500000;
+        for (int i = 0; i < requests; i++) {
+            // Three in every ten requests belong to a scan of keys, which are never requested again.
+            int key = i % 10 < 3 ? scanKey++ : sample(distribution, random);
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, key, CacheEngine.NO_EXPIRY);
+            }
+        }
+        return (double) hits / requests;
+    }
+
+    private static double[] zipfDistribution(int size, double skew) {
+        double[] distribution = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            distribution[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            distribution[i] /= sum;
+        }
+        return distribution;
+    }
+
+    private static int sample(double[] distribution, Random random) {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = distribution.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (distribution[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
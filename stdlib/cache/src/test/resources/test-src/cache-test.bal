@@ -204,6 +204,72 @@ function testCacheEvictionWithCapacity2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithTinyLfu() returns [string[], int] {
+    cache:TinyLfuEvictionPolicy tinyLfuEvictionPolicy = new;
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: tinyLfuEvictionPolicy
+    };
+    cache:Cache cache = new(config);
+    foreach string key in ["A", "B", "C", "D", "E", "F", "G", "H", "I", "J"] {
+        checkpanic cache.put(key, key);
+    }
+    foreach int i in 1...3 {
+        any|cache:Error a = cache.get("A");
+        any|cache:Error b = cache.get("B");
+    }
+    // The keys, which are put only once, should not push out the frequently used keys.
+    foreach string key in ["K", "L", "M", "N", "O", "P", "Q", "R", "S", "T"] {
+        checkpanic cache.put(key, key);
+    }
+    return [cache.keys(), cache.size()];
+}
+
+function testCacheEvictionWithCustomPolicy() returns [string[], int] {
+    FifoEvictionPolicy fifoEvictionPolicy = new;
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: fifoEvictionPolicy,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    foreach string key in ["A", "B", "C", "D", "E", "F", "G", "H", "I", "J"] {
+        checkpanic cache.put(key, key);
+    }
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("K", "K");
+    return [cache.keys(), cache.size()];
+}
+
+class FifoEvictionPolicy {
+
+    *cache:AbstractEvictionPolicy;
+
+    public function get(cache:LinkedList list, cache:Node node) {
+    }
+
+    public function put(cache:LinkedList list, cache:Node node) {
+        cache:addFirst(list, node);
+    }
+
+    public function remove(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+    }
+
+    public function replace(cache:LinkedList list, cache:Node newNode, cache:Node oldNode) {
+        cache:remove(list, oldNode);
+        cache:addFirst(list, newNode);
+    }
+
+    public function clear(cache:LinkedList list) {
+        cache:clear(list);
+    }
+
+    public function evict(cache:LinkedList list) returns cache:Node? {
+        return cache:removeLast(list);
+    }
+}
+
 function testCacheEvictionWithTimer1() returns [string[], int] {
     int cleanupIntervalInSeconds = 2;
     cache:CacheConfig config = {
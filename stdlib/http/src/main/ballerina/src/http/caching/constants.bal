@@ -62,6 +62,10 @@ public const string PROXY_REVALIDATE = "proxy-revalidate";
 # In shared caches, `s-maxage` overrides the `max-age` or `expires` header field.
 public const string S_MAX_AGE = "s-maxage";
 
+# Indicates that a cache may serve the response for the specified number of seconds after it has become stale, while
+# validating it with the origin server in the background.
+public const string STALE_WHILE_REVALIDATE = "stale-while-revalidate";
+
 
 // Other constants
 # Setting this as the `max-stale` directives indicates that the `max-stale` directive does not specify a limit.
@@ -75,6 +79,11 @@ final string WARNING_110_RESPONSE_IS_STALE = "110 " + WARNING_AGENT + " \"Respon
 final string WARNING_111_REVALIDATION_FAILED = "111 " + WARNING_AGENT + " \"Revalidation Failed\"";
 
 const string WEAK_VALIDATOR_TAG = "W/";
+
+const string HTTP_CACHE_HITS = "http_cache_hits_total";
+const string HTTP_CACHE_MISSES = "http_cache_misses_total";
+const string HTTP_CACHE_VALIDATIONS = "http_cache_validations_total";
+const int MAX_PARSED_REQUEST_CACHE_CONTROLS = 64;
 const int STALE = 0;
 
 function getWarningAgent() returns string {
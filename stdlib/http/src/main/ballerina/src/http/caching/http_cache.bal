@@ -15,7 +15,9 @@
 // under the License.
 
 import ballerina/cache;
+import ballerina/jballerina.java;
 import ballerina/log;
+import ballerina/observe;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
 # HTTP caching in the HTTP client endpoint.
@@ -30,6 +32,12 @@ public class HttpCache {
     public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
+    observe:Counter? hitCounter = ();
+    observe:Counter? missCounter = ();
+    observe:Counter? validationCounter = ();
+    // The directives of the request `cache-control` header values seen by the cache, so that a request with a header
+    // value seen before does not parse it again.
+    map<RequestCacheControl> parsedRequestCacheControls = {};
 
     # Creates the HTTP cache.
     #
@@ -42,6 +50,14 @@ public class HttpCache {
         self.cache = new cache:Cache(config);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
+        externInitInFlightRequests(self);
+        if (observabilityEnabled) {
+            self.hitCounter = registerCacheCounter(HTTP_CACHE_HITS, "Number of requests served from the HTTP cache");
+            self.missCounter = registerCacheCounter(HTTP_CACHE_MISSES,
+                                                    "Number of requests which were not found in the HTTP cache");
+            self.validationCounter = registerCacheCounter(HTTP_CACHE_VALIDATIONS,
+                                                          "Number of cached responses validated with the origin server");
+        }
     }
 
     function isAllowedToCache(Response response) returns boolean {
@@ -101,6 +117,15 @@ public class HttpCache {
         return cacheEntry[cacheEntry.length() - 1];
     }
 
+    // Looks up the key only once, unlike `hasKey()` followed by `get()`.
+    function getResponse(string key) returns Response? {
+        any|cache:Error cacheEntry = self.cache.get(key);
+        if (cacheEntry is Response[] && cacheEntry.length() > 0) {
+            return cacheEntry[cacheEntry.length() - 1];
+        }
+        return ();
+    }
+
     function getAll(string key) returns Response[]|() {
         var cacheEntry = trap <Response[]> self.cache.get(key);
         if (cacheEntry is Response[]) {
@@ -149,6 +174,73 @@ public class HttpCache {
         return matchingResponses;
     }
 
+    // Returns `true` if the caller should send the request for the key to the origin server. Otherwise, waits until
+    // the request which is already in flight for the key completes and returns `false`, or the error of the request
+    // in flight if it failed.
+    function startOrAwaitRequest(string key) returns boolean|error {
+        return externStartOrAwaitInFlightRequest(self, key);
+    }
+
+    // Returns `true` if the caller should send the request for the key to the origin server, or `false` without
+    // waiting if a request is already in flight for the key.
+    function tryStartRequest(string key) returns boolean {
+        return externTryStartInFlightRequest(self, key);
+    }
+
+    // Completes the request in flight for the key and resumes the requests which were waiting for it. The waiting
+    // requests fail with the given error, if the request in flight failed.
+    function completeRequest(string key, error? err = ()) {
+        externCompleteInFlightRequest(self, key, err);
+    }
+
+    // Sets the `cache-control` directives of the request from its `cache-control` header, if it has one.
+    function parseRequestCacheControl(Request req) {
+        if (!req.hasHeader(CACHE_CONTROL)) {
+            return;
+        }
+        string cacheControlHeader = req.getHeader(CACHE_CONTROL);
+        RequestCacheControl? parsedCacheControl = ();
+        lock {
+            parsedCacheControl = self.parsedRequestCacheControls[cacheControlHeader];
+        }
+        if (parsedCacheControl is RequestCacheControl) {
+            req.cacheControl = copyRequestCacheControl(parsedCacheControl);
+            return;
+        }
+
+        req.parseCacheControlHeader();
+        RequestCacheControl? reqCC = req.cacheControl;
+        if (reqCC is RequestCacheControl) {
+            lock {
+                if (self.parsedRequestCacheControls.length() >= MAX_PARSED_REQUEST_CACHE_CONTROLS) {
+                    self.parsedRequestCacheControls.removeAll();
+                }
+                self.parsedRequestCacheControls[cacheControlHeader] = copyRequestCacheControl(reqCC);
+            }
+        }
+    }
+
+    function recordHit() {
+        observe:Counter? counter = self.hitCounter;
+        if (counter is observe:Counter) {
+            counter.increment();
+        }
+    }
+
+    function recordMiss() {
+        observe:Counter? counter = self.missCounter;
+        if (counter is observe:Counter) {
+            counter.increment();
+        }
+    }
+
+    function recordValidation() {
+        observe:Counter? counter = self.validationCounter;
+        if (counter is observe:Counter) {
+            counter.increment();
+        }
+    }
+
     function remove(string key) {
         cache:Error? result = self.cache.invalidate(key);
         if (result is cache:Error) {
@@ -166,6 +258,19 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
+// The directives are copied, since the `cacheControl` field of a request may be updated by the caller.
+function copyRequestCacheControl(RequestCacheControl reqCC) returns RequestCacheControl {
+    RequestCacheControl copy = new;
+    copy.noCache = reqCC.noCache;
+    copy.noStore = reqCC.noStore;
+    copy.noTransform = reqCC.noTransform;
+    copy.onlyIfCached = reqCC.onlyIfCached;
+    copy.maxAge = reqCC.maxAge;
+    copy.maxStale = reqCC.maxStale;
+    copy.minFresh = reqCC.minFresh;
+    return copy;
+}
+
 function addEntry(cache:Cache cache, string key, Response inboundResponse) {
     if (cache.hasKey(key)) {
         Response[] existingResponses = <Response[]>cache.get(key);
@@ -189,3 +294,33 @@ function weakValidatorEquals(string etag1, string etag2) returns boolean {
 function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod} ${url}`;
 }
+
+function registerCacheCounter(string name, string description) returns observe:Counter? {
+    observe:Counter counter = new(name, description);
+    error? result = counter.register();
+    if (result is error) {
+        log:printDebug(() => "Failed to register the metric: " + name + ". " + result.message());
+        return ();
+    }
+    return counter;
+}
+
+function externInitInFlightRequests(HttpCache httpCache) = @java:Method {
+    'class: "org.ballerinalang.net.http.caching.InFlightRequests",
+    name: "initInFlightRequests"
+} external;
+
+function externStartOrAwaitInFlightRequest(HttpCache httpCache, string key) returns boolean|error = @java:Method {
+    'class: "org.ballerinalang.net.http.caching.InFlightRequests",
+    name: "startOrAwaitInFlightRequest"
+} external;
+
+function externTryStartInFlightRequest(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.net.http.caching.InFlightRequests",
+    name: "tryStartInFlightRequest"
+} external;
+
+function externCompleteInFlightRequest(HttpCache httpCache, string key, error? err) = @java:Method {
+    'class: "org.ballerinalang.net.http.caching.InFlightRequests",
+    name: "completeInFlightRequest"
+} external;
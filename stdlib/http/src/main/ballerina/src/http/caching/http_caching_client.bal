@@ -281,10 +281,40 @@ public function createHttpCachingClient(string url, ClientConfiguration config,
 function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, string httpMethod, string path,
                            boolean isShared, boolean forwardRequest) returns @tainted Response|ClientError {
     time:Time currentT = time:currentTime();
-    req.parseCacheControlHeader();
+    cache.parseRequestCacheControl(req);
+    string key = getCacheKey(httpMethod, path);
+
+    Response? cachedEntry = cache.getResponse(key);
+    if (cachedEntry is ()) {
+        // Only the first of the concurrent misses for the same key goes to the origin server. The rest wait for it
+        // to complete and then look up the cache again, or fail with its error.
+        boolean|error started = cache.startOrAwaitRequest(key);
+        if (started is ClientError) {
+            return started;
+        } else if (started is error) {
+            return GenericClientError("Request in flight for '" + httpMethod + " " + path + "' failed: " +
+                                      started.message(), started);
+        } else if (!started) {
+            cachedEntry = cache.getResponse(key);
+        } else {
+            // The request in flight is completed even if sending it panics, so that the waiting requests resume.
+            Response|error response = trap sendRequestOnCacheMiss(cache, httpClient, req, key, path, httpMethod,
+                                                                  forwardRequest, currentT);
+            if (response is Response) {
+                cache.completeRequest(key);
+                return response;
+            }
+            cache.completeRequest(key, response);
+            if (response is ClientError) {
+                return response;
+            }
+            panic response;
+        }
+    }
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    if (cachedEntry is Response) {
+        Response cachedResponse = cachedEntry;
+        cache.recordHit();
 
         log:printDebug(() => "Cached response found for: '" + httpMethod + " " + path + "'");
 
@@ -305,6 +335,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             }
 
             log:printDebug("Serving a cached fresh response after validating with the origin server");
+            cache.recordValidation();
             return getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path, httpMethod, true);
         }
 
@@ -318,7 +349,22 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             return cachedResponse;
         }
 
+        // Within the stale-while-revalidate window, serve the stale response and let a single request validate it
+        // with the origin server in the background.
+        if (isWithinStaleWhileRevalidate(req.cacheControl, cachedResponse, isShared) && !req.hasHeader(PRAGMA)) {
+            if (cache.tryStartRequest(key)) {
+                log:printDebug(() => "Validating a stale response for '" + path + "' in the background.");
+                cache.recordValidation();
+                _ = start revalidateInBackground(cache, httpClient, copyValidationRequest(req, httpMethod),
+                                                 cachedResponse, key, path, httpMethod);
+            }
+            log:printDebug("Serving cached stale response while validating it with the origin server");
+            cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+            return cachedResponse;
+        }
+
         log:printDebug(() => "Validating a stale response for '" + path + "' with the origin server.");
+        cache.recordValidation();
 
         var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
                                                             httpMethod, false);
@@ -329,6 +375,14 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         return validatedResponse;
     }
 
+    // The request in flight did not leave a response in the cache, so this request goes to the origin server too.
+    return sendRequestOnCacheMiss(cache, httpClient, req, key, path, httpMethod, forwardRequest, currentT);
+}
+
+function sendRequestOnCacheMiss(HttpCache cache, HttpClient httpClient, @tainted Request req, string key, string path,
+                                string httpMethod, boolean forwardRequest, time:Time currentT)
+                                                                            returns @tainted Response|ClientError {
+    cache.recordMiss();
     log:printDebug(() => "Cached response not found for: '" + httpMethod + " " + path + "'");
     log:printDebug(() => "Sending new request to: " + path);
 
@@ -337,12 +391,37 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         if (cache.isAllowedToCache(response)) {
             response.requestTime = currentT.time;
             response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            cache.put(<@untainted> key, <@untainted> req.cacheControl, <@untainted> response);
         }
     }
     return response;
 }
 
+function revalidateInBackground(HttpCache cache, HttpClient httpClient, Request validationRequest,
+                                Response cachedResponse, string key, string path, string httpMethod) {
+    var validatedResponse = trap getValidationResponse(httpClient, validationRequest, cachedResponse, cache,
+                                                       time:currentTime(), path, httpMethod, false);
+    if (validatedResponse is error) {
+        log:printDebug(() => "Failed to validate the stale response for '" + path + "' in the background: " +
+                             validatedResponse.message());
+    }
+    cache.completeRequest(key);
+}
+
+// The original request is handed back to the caller along with the stale response, so the background validation
+// sends a copy of it.
+function copyValidationRequest(Request req, string httpMethod) returns Request {
+    Request validationRequest = new;
+    populateRequestFields(req, validationRequest);
+    validationRequest.method = httpMethod;
+    foreach var headerName in req.getHeaderNames() {
+        foreach var headerValue in req.getHeaders(headerName) {
+            validationRequest.addHeader(headerName, headerValue);
+        }
+    }
+    return validationRequest;
+}
+
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
 function invalidateResponses(HttpCache httpCache, Response inboundResponse, string path) {
     // TODO: Improve this logic in accordance with the spec
@@ -24,6 +24,9 @@
 # + proxyRevalidate - Sets the `proxy-revalidate` directive
 # + maxAge - Sets the `max-age` directive
 # + sMaxAge - Sets the `s-maxage` directive
+# + staleWhileRevalidate - Sets the `stale-while-revalidate` directive. Once the response is stale, a cache may serve
+#                          it for this many seconds while it validates the response with the origin server in the
+#                          background.
 # + noCacheFields - Optional fields for the `no-cache` directive. Before sending a listed field in a response, it
 #                   must be validated with the origin server.
 # + privateFields - Optional fields for the `private` directive. A cache can omit the fields specified and store
@@ -38,6 +41,7 @@ public class ResponseCacheControl {
     public boolean proxyRevalidate = false;
     public int maxAge = -1;
     public int sMaxAge = -1;
+    public int staleWhileRevalidate = -1;
     public string[] noCacheFields = [];
     public string[] privateFields = [];
 
@@ -90,6 +94,11 @@ public class ResponseCacheControl {
             i = i + 1;
         }
 
+        if (self.staleWhileRevalidate >= 0) {
+            directives[i] = STALE_WHILE_REVALIDATE + "=" + self.staleWhileRevalidate.toString();
+            i = i + 1;
+        }
+
         return buildCommaSeparatedString(directives);
     }
 }
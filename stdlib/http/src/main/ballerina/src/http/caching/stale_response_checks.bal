@@ -64,3 +64,23 @@ function isStaleResponseAccepted(RequestCacheControl? requestCacheControl, Respo
     }
     return false;
 }
+
+// Based on https://tools.ietf.org/html/rfc5861#section-3
+function isWithinStaleWhileRevalidate(RequestCacheControl? requestCacheControl, Response cachedResponse,
+                                      boolean isSharedCache) returns boolean {
+    if (isServingStaleProhibitedInRequestCC(requestCacheControl)) {
+        return false;
+    }
+
+    ResponseCacheControl? resCC = cachedResponse.cacheControl;
+    if (resCC is () || resCC.staleWhileRevalidate < 0) {
+        return false;
+    }
+
+    if (resCC.noCache || resCC.mustRevalidate || (isSharedCache && (resCC.proxyRevalidate || resCC.sMaxAge >= 0))) {
+        return false;
+    }
+
+    return getResponseAge(cachedResponse) <
+                            (getFreshnessLifetime(cachedResponse, isSharedCache) + resCC.staleWhileRevalidate);
+}
@@ -170,15 +170,15 @@ public class HTTPServicesRegistry {
 
     public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
                                               List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
+        // Matched in place, as this runs for every request and there can be many base paths.
+        for (String basePath : sortedServiceURIs) {
+            int length = basePath.length();
+            if (requestURIPath.length() == length && requestURIPath.equalsIgnoreCase(basePath)) {
+                return basePath;
             }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
+            if (requestURIPath.length() > length && requestURIPath.charAt(length) == '/' &&
+                    requestURIPath.startsWith(basePath)) {
+                return basePath;
             }
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
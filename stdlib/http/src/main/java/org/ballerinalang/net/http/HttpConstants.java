@@ -281,6 +281,8 @@ public class HttpConstants {
     public static final BString RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD = BStringUtils.fromString("proxyRevalidate");
     public static final BString RES_CACHE_CONTROL_MAX_AGE_FIELD = BStringUtils.fromString("maxAge");
     public static final BString RES_CACHE_CONTROL_S_MAXAGE_FIELD = BStringUtils.fromString("sMaxAge");
+    public static final BString RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD =
+            BStringUtils.fromString("staleWhileRevalidate");
     public static final BString RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD = BStringUtils.fromString("noCacheFields");
     public static final BString RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD = BStringUtils.fromString("privateFields");
 
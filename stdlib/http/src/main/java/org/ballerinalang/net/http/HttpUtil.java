@@ -18,18 +18,18 @@
 
 package org.ballerinalang.net.http;
 
-import io.ballerina.runtime.internal.JSONGenerator;
-import io.ballerina.runtime.api.BErrorCreator;
-import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.runtime.Module;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStreamingJson;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.RefValue;
-import io.ballerina.runtime.api.values.StreamingJsonValue;
 import io.ballerina.runtime.api.values.XMLItem;
 import io.ballerina.runtime.api.values.XMLSequence;
 import io.ballerina.runtime.internal.scheduling.Strand;
@@ -326,15 +326,15 @@ public class HttpUtil {
         HttpHeaders httpHeaders = httpCarbonMessage.getHeaders();
         for (String key : httpHeaders.names()) {
             String[] values = httpHeaders.getAll(key).toArray(new String[0]);
-            headers.put(BStringUtils.fromString(key.toLowerCase()),
-                        BValueCreator.createArrayValue(BStringUtils.fromStringArray(values)));
+            headers.put(StringUtils.fromString(key.toLowerCase()),
+                        BValueCreator.createArrayValue(StringUtils.fromStringArray(values)));
         }
         entity.set(HEADERS_MAP_FIELD, headers);
 
         Set<String> distinctNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         distinctNames.addAll(httpHeaders.names());
         entity.set(HEADER_NAMES_ARRAY_FIELD, BValueCreator.createArrayValue(
-                BStringUtils.fromStringSet(distinctNames)));
+                StringUtils.fromStringSet(distinctNames)));
     }
 
     /**
@@ -555,13 +555,13 @@ public class HttpUtil {
     }
 
     public static BError createHttpError(String message, HttpErrorType errorType) {
-        return BErrorCreator.createDistinctError(errorType.getErrorName(), PROTOCOL_HTTP_PKG_ID,
-                                                 BStringUtils.fromString(message));
+        return ErrorCreator.createDistinctError(errorType.getErrorName(), PROTOCOL_HTTP_PKG_ID,
+                                                 StringUtils.fromString(message));
     }
 
     public static BError createHttpError(String message, HttpErrorType errorType, BError cause) {
-        return BErrorCreator.createDistinctError(errorType.getErrorName(), PROTOCOL_HTTP_PKG_ID,
-                                                 BStringUtils.fromString(message), cause);
+        return ErrorCreator.createDistinctError(errorType.getErrorName(), PROTOCOL_HTTP_PKG_ID,
+                                                 StringUtils.fromString(message), cause);
     }
 
     // TODO: Find a better way to get the error type than String matching.
@@ -608,7 +608,7 @@ public class HttpUtil {
     }
 
     private static BError createErrorCause(String message, String errorTypeId, Module packageName) {
-        return BErrorCreator.createDistinctError(errorTypeId, packageName, BStringUtils.fromString(message));
+        return ErrorCreator.createDistinctError(errorTypeId, packageName, StringUtils.fromString(message));
     }
 
     public static HttpCarbonMessage getCarbonMsg(BObject BObject, HttpCarbonMessage defaultMsg) {
@@ -645,9 +645,9 @@ public class HttpUtil {
     public static void populatePushPromiseStruct(BObject pushPromiseObj,
                                                  Http2PushPromise pushPromise) {
         pushPromiseObj.addNativeData(HttpConstants.TRANSPORT_PUSH_PROMISE, pushPromise);
-        pushPromiseObj.set(HttpConstants.PUSH_PROMISE_PATH_FIELD, BStringUtils
+        pushPromiseObj.set(HttpConstants.PUSH_PROMISE_PATH_FIELD, StringUtils
                 .fromString(pushPromise.getPath()));
-        pushPromiseObj.set(HttpConstants.PUSH_PROMISE_METHOD_FIELD, BStringUtils
+        pushPromiseObj.set(HttpConstants.PUSH_PROMISE_METHOD_FIELD, StringUtils
                 .fromString(pushPromise.getMethod()));
     }
 
@@ -682,9 +682,9 @@ public class HttpUtil {
         BMap<BString, Object> mutualSslRecord = ValueCreatorUtils.createHTTPRecordValue(
                 MUTUAL_SSL_HANDSHAKE_RECORD);
         mutualSslRecord.put(REQUEST_MUTUAL_SSL_HANDSHAKE_STATUS,
-                            BStringUtils.fromString(
+                            StringUtils.fromString(
                                     (String) inboundRequestMsg.getProperty(HttpConstants.MUTUAL_SSL_RESULT)));
-        mutualSslRecord.put(MUTUAL_SSL_CERTIFICATE, BStringUtils
+        mutualSslRecord.put(MUTUAL_SSL_CERTIFICATE, StringUtils
                 .fromString((String) inboundRequestMsg.getProperty(HttpConstants.BASE_64_ENCODED_CERT)));
         inboundRequest.set(REQUEST_MUTUAL_SSL_HANDSHAKE_FIELD, mutualSslRecord);
 
@@ -707,7 +707,7 @@ public class HttpUtil {
     private static void enrichWithInboundRequestHeaders(BObject inboundRequestObj,
                                                         HttpCarbonMessage inboundRequestMsg) {
         if (inboundRequestMsg.getHeader(HttpHeaderNames.USER_AGENT.toString()) != null) {
-            BString agent = BStringUtils.fromString(
+            BString agent = StringUtils.fromString(
                     inboundRequestMsg.getHeader(HttpHeaderNames.USER_AGENT.toString()));
             inboundRequestObj.set(HttpConstants.REQUEST_USER_AGENT_FIELD, agent);
             inboundRequestMsg.removeHeader(HttpHeaderNames.USER_AGENT.toString());
@@ -717,16 +717,16 @@ public class HttpUtil {
     private static void enrichWithInboundRequestInfo(BObject inboundRequestObj,
                                                      HttpCarbonMessage inboundRequestMsg) {
         inboundRequestObj.set(HttpConstants.REQUEST_RAW_PATH_FIELD,
-                              BStringUtils.fromString(inboundRequestMsg.getRequestUrl()));
+                              StringUtils.fromString(inboundRequestMsg.getRequestUrl()));
         inboundRequestObj.set(HttpConstants.REQUEST_METHOD_FIELD,
-                              BStringUtils.fromString(inboundRequestMsg.getHttpMethod()));
+                              StringUtils.fromString(inboundRequestMsg.getHttpMethod()));
         inboundRequestObj.set(HttpConstants.REQUEST_VERSION_FIELD,
-                              BStringUtils.fromString(inboundRequestMsg.getHttpVersion()));
+                              StringUtils.fromString(inboundRequestMsg.getHttpVersion()));
         HttpResourceArguments resourceArgValues = (HttpResourceArguments) inboundRequestMsg.getProperty(
                 HttpConstants.RESOURCE_ARGS);
         if (resourceArgValues != null && resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO) != null) {
             inboundRequestObj.set(
-                    HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, BStringUtils.fromString(
+                    HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, StringUtils.fromString(
                             resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO)));
         }
     }
@@ -759,7 +759,7 @@ public class HttpUtil {
         Object remoteSocketAddress = inboundMsg.getProperty(HttpConstants.REMOTE_ADDRESS);
         if (remoteSocketAddress instanceof InetSocketAddress) {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteSocketAddress;
-            BString remoteHost = BStringUtils.fromString(inetSocketAddress.getHostString());
+            BString remoteHost = StringUtils.fromString(inetSocketAddress.getHostString());
             long remotePort = inetSocketAddress.getPort();
             remote.put(HttpConstants.REMOTE_HOST_FIELD, remoteHost);
             remote.put(HttpConstants.REMOTE_PORT_FIELD, remotePort);
@@ -771,11 +771,11 @@ public class HttpUtil {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) localSocketAddress;
             String localHost = inetSocketAddress.getHostName();
             long localPort = inetSocketAddress.getPort();
-            local.put(HttpConstants.LOCAL_HOST_FIELD, BStringUtils.fromString(localHost));
+            local.put(HttpConstants.LOCAL_HOST_FIELD, StringUtils.fromString(localHost));
             local.put(HttpConstants.LOCAL_PORT_FIELD, localPort);
         }
         httpCaller.set(HttpConstants.LOCAL_STRUCT_INDEX, local);
-        httpCaller.set(HttpConstants.SERVICE_ENDPOINT_PROTOCOL_FIELD, BStringUtils
+        httpCaller.set(HttpConstants.SERVICE_ENDPOINT_PROTOCOL_FIELD, StringUtils
                 .fromString((String) inboundMsg.getProperty(HttpConstants.PROTOCOL)));
         httpCaller.set(HttpConstants.SERVICE_ENDPOINT_CONFIG_FIELD, config);
         httpCaller.addNativeData(HttpConstants.HTTP_SERVICE, httpResource.getParentService());
@@ -793,17 +793,17 @@ public class HttpUtil {
         inboundResponse.addNativeData(TRANSPORT_MESSAGE, inboundResponseMsg);
         int statusCode = inboundResponseMsg.getHttpStatusCode();
         inboundResponse.set(RESPONSE_STATUS_CODE_FIELD, (long) statusCode);
-        inboundResponse.set(RESPONSE_REASON_PHRASE_FIELD, BStringUtils
+        inboundResponse.set(RESPONSE_REASON_PHRASE_FIELD, StringUtils
                 .fromString(HttpResponseStatus.valueOf(statusCode).reasonPhrase()));
 
         if (inboundResponseMsg.getHeader(HttpHeaderNames.SERVER.toString()) != null) {
-            inboundResponse.set(HttpConstants.RESPONSE_SERVER_FIELD, BStringUtils
+            inboundResponse.set(HttpConstants.RESPONSE_SERVER_FIELD, StringUtils
                     .fromString(inboundResponseMsg.getHeader(HttpHeaderNames.SERVER.toString())));
             inboundResponseMsg.removeHeader(HttpHeaderNames.SERVER.toString());
         }
 
         if (inboundResponseMsg.getProperty(RESOLVED_REQUESTED_URI) != null) {
-            inboundResponse.set(RESOLVED_REQUESTED_URI_FIELD, BStringUtils
+            inboundResponse.set(RESOLVED_REQUESTED_URI_FIELD, StringUtils
                     .fromString(inboundResponseMsg.getProperty(RESOLVED_REQUESTED_URI).toString()));
         }
 
@@ -1462,7 +1462,9 @@ public class HttpUtil {
     public static void serializeDataSource(Object outboundMessageSource, BObject entity,
                                            OutputStream messageOutputStream) throws IOException {
         if (MimeUtil.generateAsJSON(outboundMessageSource, entity)) {
-            JSONGenerator gen = new JSONGenerator(messageOutputStream);
+            // The json is generated straight into the outbound message in fixed size chunks, hence the serialized
+            // payload is never held in memory as a whole.
+            JsonGenerator gen = new JsonGenerator(messageOutputStream);
             gen.serialize(outboundMessageSource);
             gen.flush();
         } else {
@@ -1475,8 +1477,8 @@ public class HttpUtil {
         if (value == null) {
             throw createHttpError("error occurred while serializing null data");
         } else if (value instanceof BArray) {
-            if (value instanceof StreamingJsonValue) {
-                ((StreamingJsonValue) value).serialize(outputStream);
+            if (value instanceof BStreamingJson) {
+                ((BStreamingJson) value).serialize(outputStream);
             } else {
                 ((BArray) value).serialize(outputStream);
             }
@@ -36,6 +36,7 @@ public enum CacheControlDirective {
     PROXY_REVALIDATE("proxy-revalidate"),
     MAX_AGE("max-age"),
     S_MAXAGE("s-maxage"),
+    STALE_WHILE_REVALIDATE("stale-while-revalidate"),
     INVALID("invalid"),
     ONLY_IF_CACHED("only-if-cached"),
     MAX_STALE("max-stale"),
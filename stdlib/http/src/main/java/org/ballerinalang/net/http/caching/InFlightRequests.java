@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.caching;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the requests, which an HTTP cache has sent to the origin server for each of its cache keys. Concurrent
+ * misses of the same key wait for the first request to complete and then look up the cache again, instead of sending
+ * a request each to the origin server. If the first request fails, the waiting requests fail with the same error.
+ *
+ * @since 2.0.0
+ */
+public class InFlightRequests {
+
+    private static final String IN_FLIGHT_REQUESTS = "IN_FLIGHT_REQUESTS";
+
+    private final ConcurrentHashMap<String, List<Future>> requests = new ConcurrentHashMap<>();
+
+    public static void initInFlightRequests(BObject httpCache) {
+        httpCache.addNativeData(IN_FLIGHT_REQUESTS, new InFlightRequests());
+    }
+
+    /**
+     * Marks a request for the key as in flight, unless there is one already.
+     *
+     * @param httpCache the HTTP cache
+     * @param key       the cache key
+     * @return true if the caller should send the request and complete it, false if a request is already in flight
+     */
+    public static boolean tryStartInFlightRequest(BObject httpCache, BString key) {
+        return getInFlightRequests(httpCache).requests.putIfAbsent(key.getValue(), new ArrayList<>()) == null;
+    }
+
+    /**
+     * Marks a request for the key as in flight, or waits for the request which is already in flight to complete.
+     *
+     * @param env       the current environment
+     * @param httpCache the HTTP cache
+     * @param key       the cache key
+     * @return true if the caller should send the request and complete it, false once the request in flight completes,
+     * or the error of the request in flight if it failed
+     */
+    public static Object startOrAwaitInFlightRequest(Environment env, BObject httpCache, BString key) {
+        boolean[] started = new boolean[1];
+        getInFlightRequests(httpCache).requests.compute(key.getValue(), (requestKey, waitingFutures) -> {
+            if (waitingFutures == null) {
+                started[0] = true;
+                return new ArrayList<>();
+            }
+            waitingFutures.add(env.markAsync());
+            return waitingFutures;
+        });
+        return started[0];
+    }
+
+    /**
+     * Completes the request in flight for the key and resumes the strands which were waiting for it.
+     *
+     * @param httpCache the HTTP cache
+     * @param key       the cache key
+     * @param error     the error of the request in flight, or null if it succeeded
+     */
+    public static void completeInFlightRequest(BObject httpCache, BString key, Object error) {
+        List<Future> waitingFutures = getInFlightRequests(httpCache).requests.remove(key.getValue());
+        if (waitingFutures != null) {
+            Object result = error == null ? Boolean.FALSE : error;
+            for (Future future : waitingFutures) {
+                future.complete(result);
+            }
+        }
+    }
+
+    private static InFlightRequests getInFlightRequests(BObject httpCache) {
+        return (InFlightRequests) httpCache.getNativeData(IN_FLIGHT_REQUESTS);
+    }
+}
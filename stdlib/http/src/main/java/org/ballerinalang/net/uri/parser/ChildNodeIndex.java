@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index over the child nodes of a node in the uri-template. Literal children are kept in a radix tree keyed by their
+ * tokens, so that walking a path segment down the tree finds every literal child whose token is a prefix of the
+ * segment, without comparing the segment with each of them. The rest of the children are kept in their dispatch order.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ *
+ * @since 2.0.0
+ */
+class ChildNodeIndex<DataType, InboundMsgType> {
+
+    private final Entry<DataType, InboundMsgType> literalRoot = new Entry<>("");
+    private final List<Node<DataType, InboundMsgType>> otherChildNodes = new ArrayList<>();
+
+    ChildNodeIndex(List<Node<DataType, InboundMsgType>> childNodes) {
+        for (Node<DataType, InboundMsgType> childNode : childNodes) {
+            if (childNode instanceof Literal && !childNode.getToken().equals("*")) {
+                addLiteral(childNode);
+            } else {
+                otherChildNodes.add(childNode);
+            }
+        }
+    }
+
+    Entry<DataType, InboundMsgType> getLiteralRoot() {
+        return literalRoot;
+    }
+
+    List<Node<DataType, InboundMsgType>> getOtherChildNodes() {
+        return otherChildNodes;
+    }
+
+    private void addLiteral(Node<DataType, InboundMsgType> literal) {
+        String token = literal.getToken();
+        Entry<DataType, InboundMsgType> entry = literalRoot;
+        int index = 0;
+        while (index < token.length()) {
+            Entry<DataType, InboundMsgType> child = entry.getChild(token.charAt(index));
+            if (child == null) {
+                child = new Entry<>(token.substring(index));
+                entry.children.add(child);
+                entry = child;
+                break;
+            }
+            int commonLength = 1;
+            while (commonLength < child.label.length() && index + commonLength < token.length() &&
+                    child.label.charAt(commonLength) == token.charAt(index + commonLength)) {
+                commonLength++;
+            }
+            if (commonLength < child.label.length()) {
+                // Split the entry so that the common part of the two labels becomes the parent of both.
+                Entry<DataType, InboundMsgType> parent = new Entry<>(child.label.substring(0, commonLength));
+                child.label = child.label.substring(commonLength);
+                parent.children.add(child);
+                entry.children.set(entry.children.indexOf(child), parent);
+                child = parent;
+            }
+            entry = child;
+            index += commonLength;
+        }
+        entry.node = literal;
+    }
+
+    /**
+     * Entry in the radix tree of literal child nodes. The tokens of the literals are the labels along the path from
+     * the root to the entry which holds the literal.
+     *
+     * @param <DataType> Type of data which should be stored in the node.
+     * @param <InboundMsgType> Inbound message type for additional checks.
+     */
+    static class Entry<DataType, InboundMsgType> {
+
+        private String label;
+        private Node<DataType, InboundMsgType> node;
+        private final List<Entry<DataType, InboundMsgType>> children = new ArrayList<>(2);
+
+        private Entry(String label) {
+            this.label = label;
+        }
+
+        String getLabel() {
+            return label;
+        }
+
+        Node<DataType, InboundMsgType> getNode() {
+            return node;
+        }
+
+        Entry<DataType, InboundMsgType> getChild(char firstChar) {
+            for (int i = 0; i < children.size(); i++) {
+                Entry<DataType, InboundMsgType> child = children.get(i);
+                if (child.label.charAt(0) == firstChar) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+}
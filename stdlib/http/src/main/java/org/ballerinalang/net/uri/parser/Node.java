@@ -22,9 +22,11 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Node represents different types of path segments in the uri-template.
@@ -34,9 +36,14 @@ import java.util.Map;
  */
 public abstract class Node<DataType, InboundMsgType> {
 
+    private static final Pattern ANY_SUB_PATH = Pattern.compile(".*");
+
     protected String token;
     DataElement<DataType, InboundMsgType> dataElement;
     List<Node<DataType, InboundMsgType>> childNodesList = new LinkedList<>();
+    // Rebuilt whenever a child is added, which happens while resources are registered, before any dispatching.
+    private volatile ChildNodeIndex<DataType, InboundMsgType> childNodeIndex =
+            new ChildNodeIndex<>(Collections.emptyList());
 
     protected Node(DataElement<DataType, InboundMsgType> dataElement, String token) {
         this.dataElement = dataElement;
@@ -58,6 +65,7 @@ public abstract class Node<DataType, InboundMsgType> {
         }
 
         childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
+        childNodeIndex = new ChildNodeIndex<>(childNodesList);
 
         return node;
     }
@@ -76,17 +84,66 @@ public abstract class Node<DataType, InboundMsgType> {
         }
         String subUriFragment = nextURIFragment(uriFragment, matchLength);
         String subPath = nextSubPath(subUriFragment);
+        if (subPath.indexOf('*') >= 0) {
+            // Literals ending with a wildcard are matched against such paths, hence all children are checked.
+            return matchChildNodes(subUriFragment, subPath, variables, start + matchLength, inboundMsg,
+                                   dataReturnAgent);
+        }
+
+        // The literal children which match are the ones whose tokens are prefixes of the sub path. They are found
+        // through the index, and are tried before the rest of the children, the same order as in childNodesList.
+        ChildNodeIndex<DataType, InboundMsgType> index = childNodeIndex;
+        if (matchLiteralChildNodes(index.getLiteralRoot(), 0, subUriFragment, subPath, variables,
+                                   start + matchLength, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        List<Node<DataType, InboundMsgType>> otherChildNodes = index.getOtherChildNodes();
+        for (int i = 0; i < otherChildNodes.size(); i++) {
+            Node<DataType, InboundMsgType> childNode = otherChildNodes.get(i);
+            boolean wildcard = childNode instanceof Literal;
+            if (wildcard && !ANY_SUB_PATH.matcher(subPath).matches()) {
+                continue;
+            }
+            boolean isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
+                                                 dataReturnAgent);
+            if (isFound) {
+                if (wildcard) {
+                    setUriPostFix(variables, subUriFragment);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchLiteralChildNodes(ChildNodeIndex.Entry<DataType, InboundMsgType> entry, int depth,
+                                           String subUriFragment, String subPath, HttpResourceArguments variables,
+                                           int start, InboundMsgType inboundMsg,
+                                           DataReturnAgent<DataType> dataReturnAgent) {
+        if (depth < subPath.length()) {
+            ChildNodeIndex.Entry<DataType, InboundMsgType> childEntry = entry.getChild(subPath.charAt(depth));
+            if (childEntry != null && subPath.startsWith(childEntry.getLabel(), depth) &&
+                    matchLiteralChildNodes(childEntry, depth + childEntry.getLabel().length(), subUriFragment,
+                                           subPath, variables, start, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+        }
+        // Longer literals are deeper in the tree, hence they have already been tried.
+        Node<DataType, InboundMsgType> literal = entry.getNode();
+        return literal != null && literal.matchAll(subUriFragment, variables, start, inboundMsg, dataReturnAgent);
+    }
 
+    private boolean matchChildNodes(String subUriFragment, String subPath, HttpResourceArguments variables, int start,
+                                    InboundMsgType inboundMsg, DataReturnAgent<DataType> dataReturnAgent) {
         boolean isFound;
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
                 String regex = childNode.getToken();
                 if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
+                    if (!ANY_SUB_PATH.matcher(subPath).matches()) {
                         continue;
                     }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
+                    isFound = childNode.matchAll(subUriFragment, variables, start, inboundMsg,
                                                  dataReturnAgent);
                     if (isFound) {
                         setUriPostFix(variables, subUriFragment);
@@ -97,14 +154,14 @@ public abstract class Node<DataType, InboundMsgType> {
                 if (!subPath.contains(regex)) {
                     continue;
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
+                isFound = childNode.matchAll(subUriFragment, variables, start, inboundMsg,
                                              dataReturnAgent);
                 if (isFound) {
                     return true;
                 }
                 continue;
             }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
+            isFound = childNode.matchAll(subUriFragment, variables, start, inboundMsg,
                                          dataReturnAgent);
             if (isFound) {
                 return true;
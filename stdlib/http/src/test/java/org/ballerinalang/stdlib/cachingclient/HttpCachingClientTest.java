@@ -438,6 +438,41 @@ public class HttpCachingClientTest {
         Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
     }
 
+    @Test(description = "Test for the isWithinStaleWhileRevalidate() function which determines whether a stale " +
+            "response can be served while it is validated in the background", enabled = false)
+    public void testIsWithinStaleWhileRevalidate() {
+        RequestCacheControlObj requestCacheControl = new RequestCacheControlObj(createRequestCacheControlObject());
+        BObject cachedResponse = createResponseObject();
+        ResponseCacheControlObj responseCacheControl = new ResponseCacheControlObj(createResponseCacheControlObject());
+        responseCacheControl.setMaxAge(60).setStaleWhileRevalidate(30);
+
+        HttpCarbonMessage cachedResponseMsg = HttpUtil.createHttpCarbonMessage(false);
+        cachedResponseMsg.setHttpStatusCode(200);
+        cachedResponseMsg.setHeader(AGE, "70");
+        cachedResponseMsg.setHeader(CACHE_CONTROL, responseCacheControl.buildCacheControlDirectives());
+        initInboundResponse(cachedResponse, cachedResponseMsg);
+
+        HttpHeaders responseHeaders = cachedResponseMsg.getHeaders();
+
+        Object[] inputArgs = {requestCacheControl.getObj(), cachedResponse, false};
+        BValue[] returns;
+
+        // Stale, but within the stale-while-revalidate window
+        returns = BRunUtil.invoke(compileResult, "isWithinStaleWhileRevalidate", inputArgs);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+
+        // Past the stale-while-revalidate window
+        responseHeaders.set(AGE, "95");
+        returns = BRunUtil.invoke(compileResult, "isWithinStaleWhileRevalidate", inputArgs);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+
+        // Setting no-cache in request
+        responseHeaders.set(AGE, "70");
+        requestCacheControl.setNoCache(true);
+        returns = BRunUtil.invoke(compileResult, "isWithinStaleWhileRevalidate", inputArgs);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+    }
+
     private void initInboundResponse(BObject inResponse, HttpCarbonMessage inResponseMsg) {
         HttpUtil.addCarbonMsg(inResponse, inResponseMsg);
         BObject entity = createEntityObject();
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URITemplateException;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Test class for matching uri templates with many literal path segments.
+ */
+public class UriTemplateLiteralIndexTest {
+
+    private static final int RESOURCE_COUNT = 320;
+
+    private URITemplate<String, Object> uriTemplate;
+
+    @BeforeClass()
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate = new URITemplate<>(new Literal<>(new TestDataElement(), "/"));
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            addTemplate("/resource" + i + "/{id}/details");
+        }
+        addTemplate("/res/{id}");
+        addTemplate("/resource/items");
+        addTemplate("/item{id}");
+        addTemplate("/abc/d");
+        addTemplate("/files/*");
+        addTemplate("/files/{name}.json");
+    }
+
+    private void addTemplate(String template) throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate.parse(template, template, TestDataElement::new);
+    }
+
+    @Test(description = "Test matching every literal among many siblings")
+    public void testManyLiteralSiblings() {
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            HttpResourceArguments arguments = new HttpResourceArguments();
+            Assert.assertEquals(uriTemplate.matches("/resource" + i + "/" + i + "/details", arguments, null),
+                                "/resource" + i + "/{id}/details");
+            Assert.assertEquals(arguments.getMap().get("id"), String.valueOf(i));
+        }
+        Assert.assertNull(uriTemplate.matches("/resource" + RESOURCE_COUNT + "/1/details",
+                                              new HttpResourceArguments(), null));
+    }
+
+    @Test(description = "Test matching literals which are a prefix of the path segment")
+    public void testLiteralPrefixOfSegment() {
+        Assert.assertEquals(uriTemplate.matches("/resource/items", new HttpResourceArguments(), null),
+                            "/resource/items");
+        Assert.assertEquals(uriTemplate.matches("/res/12", new HttpResourceArguments(), null), "/res/{id}");
+
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/item42", arguments, null), "/item{id}");
+        Assert.assertEquals(arguments.getMap().get("id"), "42");
+
+        // A literal followed by a literal may be matched within a single path segment.
+        Assert.assertEquals(uriTemplate.matches("/abcd", new HttpResourceArguments(), null), "/abc/d");
+    }
+
+    @Test(description = "Test matching expressions and wildcards after the literals")
+    public void testExpressionsAndWildcards() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/files/report.json", arguments, null), "/files/{name}.json");
+        Assert.assertEquals(arguments.getMap().get("name"), "report");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/files/a/b", arguments, null), "/files/*");
+        Assert.assertEquals(arguments.getMap().get(HttpConstants.EXTRA_PATH_INFO), "/a/b");
+    }
+
+    private static class TestDataElement implements DataElement<String, Object> {
+
+        private String data;
+
+        @Override
+        public void setData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return data != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (data == null) {
+                return false;
+            }
+            dataReturnAgent.setData(data);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterates over the records of a CSV file, which are parsed in parallel chunks of the file. This is used as the
+# iterator of the stream returned by `io:openReadableCsvRecordStream`.
+class CsvRecordStream {
+
+    # Reads the next record of the CSV file.
+    #
+    # + return - The next record, `()` once all the records have been read or else an `io:Error`
+    public isolated function next() returns record {| record {} value; |}|Error? {
+        record {}|Error? csvRecord = nextCsvRecord(self);
+        if (csvRecord is record {}) {
+            return {value: csvRecord};
+        }
+        return csvRecord;
+    }
+
+    # Closes the CSV file.
+    #
+    # + return - An `io:Error` if the file could not be closed
+    public isolated function close() returns Error? {
+        return closeCsvRecordStream(self);
+    }
+}
+
+isolated function nextCsvRecord(CsvRecordStream recordStream) returns record {}|Error? = @java:Method {
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
+
+isolated function closeCsvRecordStream(CsvRecordStream recordStream) returns Error? = @java:Method {
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
@@ -28,6 +28,19 @@ public function openReadableFile(@untainted string path) returns ReadableByteCha
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+# Retrieves a `ReadableByteChannel` from a given file path, which reads the file by mapping it into memory instead of
+# reading it through intermediate buffers. The file is mapped read-only and this suits reading large files.
+#```ballerina
+# io:ReadableByteChannel readableFieldResult = check io:openReadableMappedFile("./files/sample.txt");
+#```
+#
+# + path - Relative/absolute path string to locate the file
+# + return - The `ByteChannel` representation of the mapped file or else an `io:Error` if any error occurred
+public function openReadableMappedFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+    name: "openReadableMappedFile",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 # Retrieves a `WritableByteChannel` from a given file path.
 #```ballerina
 # io:WritableByteChannel writableFileResult = check io:openWritableFile("./files/sampleResponse.txt");
@@ -73,6 +86,28 @@ public function openReadableCsvFile(@untainted string path,
     return new ReadableCSVChannel(charChannel, fieldSeparator, skipHeaders);
 }
 
+# Retrieves a stream of the records of a UTF-8 encoded CSV file, which follows RFC 4180. The file is read in chunks,
+# which are parsed in parallel, and this suits reading large files. The fields of each CSV record fill the fields of
+# the given record type in order, and these should be of the types `int`, `float`, `boolean` or `string`.
+# ```ballerina
+# stream<Employee, io:Error> employees = check io:openReadableCsvRecordStream(srcFileName, Employee);
+# ```
+#
+# + path - File path, which describes the location of the CSV
+# + recordType - Type of the records in the stream, which is the constraint type of the returned stream
+# + fieldSeparator - CSV field separator, which should be a single character (i.e., comma or tab)
+# + skipHeaders - Number of headers, which should be skipped
+# + parallelism - Number of chunks, which are read ahead of the stream, or zero to use the number of available
+#                 processors
+# + return - The stream of records, which should be closed once it is no longer needed, or else an `io:Error` if any
+#            error occurred
+public function openReadableCsvRecordStream(@untainted string path, typedesc<record {}> recordType,
+                                            @untainted Separator fieldSeparator = ",",
+                                            @untainted int skipHeaders = 0, int parallelism = 0)
+                                            returns @tainted stream<recordType, Error>|Error = @java:Method {
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
+
 # Retrieves a writable CSV channel from a given file path.
 # ```ballerina
 # io:WritableCSVChannel wCsvChannel = check io:openWritableCsvFile(srcFileName);
@@ -35,6 +35,19 @@ public class ReadableByteChannel {
         return byteReadExtern(self, nBytes);
     }
 
+# Transfers the remaining content of the channel to the given `WritableByteChannel`. The content does not pass through
+# Ballerina `byte[]` values and when both channels are backed by files, the operating system copies the bytes directly.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel` to which the content should be written
+# + return - The number of bytes transferred, an `EofError` if the channel has already reached the end or else an
+#            `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return byteTransferToExtern(self, destination);
+    }
+
 # Encodes a given `ReadableByteChannel` using the Base64 encoding scheme.
 # ```ballerina
 # ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
@@ -71,6 +84,12 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteTransferToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination)
+    returns int|Error = @java:Method {
+    name: "transferTo",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
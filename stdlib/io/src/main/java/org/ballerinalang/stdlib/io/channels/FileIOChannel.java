@@ -55,6 +55,33 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * Transfer the remaining file content to the specified destination. When the destination is a file or a socket,
+     * the operating system copies the bytes without passing them through the Java heap.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+        long transferredBytes = 0;
+        while (position + transferredBytes < size) {
+            long count = channel.transferTo(position + transferredBytes, size - position - transferredBytes,
+                                            dstChannel);
+            if (count == 0) {
+                // The destination does not take the bytes straight from the file, hence the rest of the file is
+                // copied through a buffer.
+                channel.position(position + transferredBytes);
+                return transferredBytes + super.transferTo(dstChannel);
+            }
+            transferredBytes += count;
+        }
+        channel.position(position + transferredBytes);
+        setReachedEnd();
+        return transferredBytes;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Read-only byte channel over a file, which is mapped into memory a region at a time.
+ * </p>
+ * <p>
+ * A single mapping cannot exceed 2GB, so larger files are mapped region by region as the channel is read.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class MappedByteChannel implements ByteChannel {
+
+    private static final long REGION_SIZE = 1L << 30;
+
+    private final FileChannel fileChannel;
+    private final long size;
+    private long regionStart;
+    private MappedByteBuffer region;
+    private boolean open = true;
+
+    MappedByteChannel(FileChannel fileChannel) throws IOException {
+        this.fileChannel = fileChannel;
+        this.size = fileChannel.size();
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ByteBuffer content = nextRegion();
+        if (content == null) {
+            return -1;
+        }
+        int count = Math.min(dst.remaining(), content.remaining());
+        ByteBuffer slice = content.duplicate();
+        slice.limit(slice.position() + count);
+        dst.put(slice);
+        content.position(content.position() + count);
+        return count;
+    }
+
+    /**
+     * Writes the remaining mapped content to the destination channel.
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException errors occur while writing to the destination channel.
+     */
+    long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long transferredBytes = 0;
+        ByteBuffer content;
+        while ((content = nextRegion()) != null) {
+            transferredBytes += IOUtils.writeFull(content, dstChannel);
+        }
+        return transferredBytes;
+    }
+
+    /**
+     * Writes a range of the file to the destination channel, without moving the position of this channel.
+     *
+     * @param position   starting position of the bytes to be transferred.
+     * @param count      number of bytes to be transferred.
+     * @param dstChannel destination channel to transfer.
+     * @throws IOException errors occur while mapping the file or writing to the destination channel.
+     */
+    void transfer(long position, long count, WritableByteChannel dstChannel) throws IOException {
+        ensureOpen();
+        long end = Math.min(position + count, size);
+        while (position < end) {
+            ByteBuffer content = fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+                                                 Math.min(REGION_SIZE, end - position));
+            position += IOUtils.writeFull(content, dstChannel);
+        }
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        region = null;
+        fileChannel.close();
+    }
+
+    /**
+     * Returns the mapped region which holds the next unread byte, mapping the following region once the current one
+     * has been read.
+     *
+     * @return the current region, or null once the whole file has been read
+     * @throws IOException errors occur while mapping the file
+     */
+    private ByteBuffer nextRegion() throws IOException {
+        ensureOpen();
+        if (region != null && region.hasRemaining()) {
+            return region;
+        }
+        long position = region == null ? 0 : regionStart + region.limit();
+        if (position >= size) {
+            return null;
+        }
+        regionStart = position;
+        region = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(REGION_SIZE, size - position));
+        return region;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
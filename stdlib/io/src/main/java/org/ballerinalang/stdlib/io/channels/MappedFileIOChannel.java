@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to perform read-only I/O operations on a file, which is mapped into memory.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends Channel {
+
+    /**
+     * Maintains the memory-mapped channel implementation.
+     */
+    private MappedByteChannel channel;
+
+    public MappedFileIOChannel(FileChannel fileChannel) throws IOException {
+        this(new MappedByteChannel(fileChannel));
+    }
+
+    private MappedFileIOChannel(MappedByteChannel channel) {
+        super(channel);
+        this.channel = channel;
+    }
+
+    /**
+     * Transfer the mapped file content to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+        try {
+            channel.transfer(position, count, dstChannel);
+        } catch (IOException e) {
+            throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Transfer the remaining mapped file content to the specified destination, without copying it into the Java heap.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long transferredBytes = channel.transferTo(dstChannel);
+        setReachedEnd();
+        return transferredBytes;
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +83,39 @@ public abstract class Channel implements IOChannel {
      */
     public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
 
+    /**
+     * <p>
+     * Transfers the remaining bytes of the channel to the destination channel.
+     * </p>
+     * <p>
+     * The bytes are copied through a direct buffer. Channels which can hand over their content without copying it
+     * into the Java heap override this.
+     * </p>
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException errors occur while reading from or writing to the channels.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IOConstants.CHANNEL_BUFFER_SIZE);
+        long transferredBytes = 0;
+        while (!hasReachedToEnd) {
+            read(buffer);
+            buffer.flip();
+            transferredBytes += IOUtils.writeFull(buffer, dstChannel);
+            buffer.clear();
+        }
+        return transferredBytes;
+    }
+
+    /**
+     * Marks that the channel has reached to it's end, when its content was consumed without reading it through
+     * {@link #read(ByteBuffer)}.
+     */
+    protected void setReachedEnd() {
+        hasReachedToEnd = true;
+    }
+
     /**
      * Returns the hashcode of the channel as the id.
      *
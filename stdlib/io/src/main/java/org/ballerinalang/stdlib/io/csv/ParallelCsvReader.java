@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Reads the records of a UTF-8 encoded CSV file, which follows RFC 4180, by parsing chunks of the file in parallel.
+ * </p>
+ * <p>
+ * The file is divided into chunks of a fixed size, which are read in two passes. The first pass counts the quotes in
+ * each chunk and finds its first line break, both for when the chunk starts inside a quoted field and for when it
+ * does not. Going through these results in order tells where the first record of each chunk starts, and the second
+ * pass parses the records between two such starts and maps them. Both passes run on a shared pool of threads, while
+ * the records are handed over in the order of the file.
+ * </p>
+ * <p>
+ * {@link #next()} blocks the calling thread until the chunk, which holds the next record, has been parsed. Since the
+ * chunks are read ahead of the consumer this is usually not needed, but the wait is capped, so that a stuck read fails
+ * the stream instead of holding the calling thread forever.
+ * </p>
+ *
+ * @param <T> type of the mapped records
+ *
+ * @since 2.0.0
+ */
+public class ParallelCsvReader<T> implements Closeable {
+
+    private static final int CHUNK_SIZE = 2 * 1024 * 1024;
+    private static final long MAX_WAIT_SECONDS = 60;
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), new CsvReaderThreadFactory());
+
+    private final FileChannel channel;
+    private final byte separator;
+    private final Function<String[], T> mapper;
+    private final int chunkSize;
+    private final long size;
+    private final int maxTasksInFlight;
+    private final Deque<Future<ChunkScan>> scans = new ArrayDeque<>();
+    private final Deque<Future<List<T>>> parses = new ArrayDeque<>();
+    private final long dataStart;
+    private long nextScanStart;
+    private long nextRecordStart;
+    private boolean inQuotes = false;
+    private Iterator<T> records = Collections.emptyIterator();
+
+    /**
+     * Creates a reader over the file channel.
+     *
+     * @param channel     the file channel to read from
+     * @param separator   the field separator, which should be a single ASCII character
+     * @param skipHeaders the number of records to skip at the start of the file
+     * @param parallelism the number of chunks which are read ahead of the consumer, or less than one to use the
+     *                    number of available processors
+     * @param mapper      maps the fields of a record, and runs on the threads which parse the chunks
+     * @throws IOException errors occur while reading the headers
+     */
+    public ParallelCsvReader(FileChannel channel, char separator, long skipHeaders, int parallelism,
+                             Function<String[], T> mapper) throws IOException {
+        this(channel, separator, skipHeaders, parallelism, mapper, CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a reader over the file channel, which reads the file in chunks of the given size.
+     */
+    ParallelCsvReader(FileChannel channel, char separator, long skipHeaders, int parallelism,
+                      Function<String[], T> mapper, int chunkSize) throws IOException {
+        if (separator > 0x7f || separator == QUOTE || separator == LINE_FEED || separator == CARRIAGE_RETURN) {
+            throw new IllegalArgumentException("invalid field separator: " + separator);
+        }
+        this.channel = channel;
+        this.separator = (byte) separator;
+        this.mapper = mapper;
+        this.chunkSize = chunkSize;
+        this.size = channel.size();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxTasksInFlight = 2 * threads;
+        this.dataStart = skipRecords(skipHeaders);
+        this.nextScanStart = dataStart;
+        this.nextRecordStart = dataStart;
+    }
+
+    /**
+     * Returns the next record of the file, waiting for the chunk which holds it to be parsed if needed.
+     *
+     * @return the next record, or null once all the records have been read
+     * @throws IOException errors occur while reading or mapping the records, or if a chunk is not read in time
+     */
+    public T next() throws IOException {
+        while (!records.hasNext()) {
+            scheduleScans();
+            // Parse the chunks whose scans have completed, without waiting for the rest.
+            while (!scans.isEmpty() && scans.peek().isDone()) {
+                resolve(await(scans.poll()));
+            }
+            if (!parses.isEmpty()) {
+                records = await(parses.poll()).iterator();
+            } else if (!scans.isEmpty()) {
+                resolve(await(scans.poll()));
+            } else if (nextScanStart >= size) {
+                return null;
+            }
+            // Otherwise the chunks scanned so far hold no complete record, so the following chunks are scanned.
+        }
+        return records.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Future<ChunkScan> scan : scans) {
+            scan.cancel(false);
+        }
+        for (Future<List<T>> parse : parses) {
+            parse.cancel(false);
+        }
+        scans.clear();
+        parses.clear();
+        records = Collections.emptyIterator();
+        channel.close();
+    }
+
+    private void scheduleScans() {
+        while (nextScanStart < size && scans.size() + parses.size() < maxTasksInFlight) {
+            long start = nextScanStart;
+            long end = Math.min(start + chunkSize, size);
+            scans.add(EXECUTOR.submit(() -> scan(start, end)));
+            nextScanStart = end;
+        }
+    }
+
+    /**
+     * Finds where the first record of the scanned chunk starts, and schedules parsing the records before it.
+     *
+     * @param scan the result of scanning the next chunk of the file
+     */
+    private void resolve(ChunkScan scan) {
+        if (scan.start != dataStart) {
+            long lineBreak = inQuotes ? scan.lineBreakInQuotes : scan.lineBreak;
+            if (lineBreak >= 0) {
+                scheduleParse(nextRecordStart, lineBreak + 1);
+                nextRecordStart = lineBreak + 1;
+            }
+        }
+        inQuotes ^= scan.oddQuotes;
+        if (scan.end == size) {
+            scheduleParse(nextRecordStart, size);
+            nextRecordStart = size;
+        }
+    }
+
+    private void scheduleParse(long start, long end) {
+        if (start < end) {
+            parses.add(EXECUTOR.submit(() -> parse(start, end)));
+        }
+    }
+
+    private ChunkScan scan(long start, long end) throws IOException {
+        byte[] content = read(start, end);
+        boolean oddQuotes = false;
+        long lineBreak = -1;
+        long lineBreakInQuotes = -1;
+        for (int i = 0; i < content.length; i++) {
+            byte b = content[i];
+            if (b == QUOTE) {
+                oddQuotes = !oddQuotes;
+            } else if (b == LINE_FEED) {
+                // A chunk, which starts outside a quoted field, is outside one wherever it has seen an even number
+                // of quotes so far. It is the other way around for a chunk, which starts inside a quoted field.
+                if (!oddQuotes && lineBreak < 0) {
+                    lineBreak = start + i;
+                } else if (oddQuotes && lineBreakInQuotes < 0) {
+                    lineBreakInQuotes = start + i;
+                }
+            }
+        }
+        return new ChunkScan(start, end, oddQuotes, lineBreak, lineBreakInQuotes);
+    }
+
+    private List<T> parse(long start, long end) throws IOException {
+        byte[] content = read(start, end);
+        List<T> mappedRecords = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (position < content.length || !fields.isEmpty()) {
+            position = parseField(content, position, fields);
+            if (position >= content.length || content[position] == LINE_FEED) {
+                // Blank lines do not hold a record.
+                if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                    mappedRecords.add(mapper.apply(fields.toArray(new String[0])));
+                }
+                fields.clear();
+            }
+            // Move past the separator or the line feed. When the content ends with a separator, the loop parses the
+            // empty field after it before the record is complete.
+            position++;
+        }
+        return mappedRecords;
+    }
+
+    /**
+     * Parses the field, which starts at the given position, and returns the position of the separator or the line
+     * feed, which ends it.
+     */
+    private int parseField(byte[] content, int start, List<String> fields) {
+        int position = start;
+        if (position < content.length && content[position] == QUOTE) {
+            boolean escapedQuotes = false;
+            position++;
+            while (position < content.length) {
+                if (content[position] == QUOTE) {
+                    if (position + 1 < content.length && content[position + 1] == QUOTE) {
+                        escapedQuotes = true;
+                        position += 2;
+                        continue;
+                    }
+                    break;
+                }
+                position++;
+            }
+            String field = new String(content, start + 1, Math.min(position, content.length) - start - 1,
+                                      StandardCharsets.UTF_8);
+            fields.add(escapedQuotes ? field.replace("\"\"", "\"") : field);
+            // Skip anything between the closing quote and the end of the field.
+            while (position < content.length && content[position] != separator && content[position] != LINE_FEED) {
+                position++;
+            }
+            return position;
+        }
+        while (position < content.length && content[position] != separator && content[position] != LINE_FEED) {
+            position++;
+        }
+        int end = position;
+        if (end > start && (end == content.length || content[end] == LINE_FEED) &&
+                content[end - 1] == CARRIAGE_RETURN) {
+            end--;
+        }
+        fields.add(new String(content, start, end - start, StandardCharsets.UTF_8));
+        return position;
+    }
+
+    private long skipRecords(long count) throws IOException {
+        long position = 0;
+        long skipped = 0;
+        boolean quoted = false;
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (skipped < count && position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            byte[] content = buffer.array();
+            for (int i = 0; i < read && skipped < count; i++) {
+                if (content[i] == QUOTE) {
+                    quoted = !quoted;
+                } else if (content[i] == LINE_FEED && !quoted) {
+                    skipped++;
+                    if (skipped == count) {
+                        return position + i + 1;
+                    }
+                }
+            }
+            position += read;
+        }
+        return skipped < count ? size : position;
+    }
+
+    private byte[] read(long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, start + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+
+    private static <V> V await(Future<V> future) throws IOException {
+        try {
+            return future.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while reading the CSV file", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IOException("timed out while reading the CSV file", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Result of scanning a chunk of the file.
+     */
+    private static class ChunkScan {
+        final long start;
+        final long end;
+        final boolean oddQuotes;
+        final long lineBreak;
+        final long lineBreakInQuotes;
+
+        ChunkScan(long start, long end, boolean oddQuotes, long lineBreak, long lineBreakInQuotes) {
+            this.start = start;
+            this.end = end;
+            this.oddQuotes = oddQuotes;
+            this.lineBreak = lineBreak;
+            this.lineBreakInQuotes = lineBreakInQuotes;
+        }
+    }
+
+    /**
+     * Creates the daemon threads, which read the CSV files.
+     */
+    private static class CsvReaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-io-csv-reader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
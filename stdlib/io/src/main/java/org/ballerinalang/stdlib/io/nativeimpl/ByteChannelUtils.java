@@ -27,6 +27,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -124,6 +125,48 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    public static Object transferTo(BObject channel, BObject destination) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel dstChannel = (Channel) destination.getNativeData(BYTE_CHANNEL_NAME);
+        if (byteChannel.hasReachedEnd()) {
+            return IOUtils.createEoFError();
+        }
+        try {
+            return byteChannel.transferTo(dstChannel.getByteChannel());
+        } catch (IOException e) {
+            String msg = "error occurred while transferring bytes between the channels. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object openReadableMappedFile(BString pathUrl) {
+        try {
+            Path path = Paths.get(pathUrl.getValue());
+            FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+            Channel channel = createMappedChannel(fileChannel);
+            channel.setReadable(true);
+            return createChannel(channel);
+        } catch (BallerinaIOException e) {
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private static Channel createMappedChannel(FileChannel fileChannel) throws BallerinaIOException {
+        try {
+            return new MappedFileIOChannel(fileChannel);
+        } catch (IOException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeError) {
+                log.error("Error occurred while closing the file channel.", closeError);
+            }
+            throw new BallerinaIOException("fail to map file: " + e.getMessage(), e);
+        }
+    }
+
     public static Object openReadableFile(BString pathUrl) {
         Object channel;
         try {
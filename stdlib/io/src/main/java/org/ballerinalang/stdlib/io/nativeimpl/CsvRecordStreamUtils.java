@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.stdlib.io.csv.ParallelCsvReader;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.ballerinalang.stdlib.io.utils.IOConstants.IO_PACKAGE_ID;
+
+/**
+ * This class hold Java inter-ops bridging functions for io#CsvRecordStream.
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordStreamUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvRecordStreamUtils.class);
+    private static final String CSV_READER = "csv_reader";
+    private static final String CSV_RECORD_STREAM = "CsvRecordStream";
+    private static final String NEXT_METHOD = "next";
+    private static final String READ_ACCESS_MODE = "r";
+
+    private CsvRecordStreamUtils() {
+    }
+
+    public static Object openReadableCsvRecordStream(BString path, BTypedesc recordType, BString fieldSeparator,
+                                                     long skipHeaders, long parallelism) {
+        String separator = fieldSeparator.getValue();
+        if (separator.length() != 1) {
+            return IOUtils.createError("only single character field separators are supported when streaming CSV " +
+                                               "records: " + separator);
+        }
+        Type describingType = recordType.getDescribingType();
+        FileChannel fileChannel = null;
+        try {
+            RecordMapper mapper = new RecordMapper((StructureType) describingType);
+            fileChannel = IOUtils.openFileChannelExtended(Paths.get(path.getValue()), READ_ACCESS_MODE);
+            BObject recordStream = ValueCreator.createObjectValue(IO_PACKAGE_ID, CSV_RECORD_STREAM);
+            recordStream.addNativeData(CSV_READER, new ParallelCsvReader<>(fileChannel, separator.charAt(0),
+                                                                            skipHeaders, (int) parallelism, mapper));
+            // The stream is constrained by the record type, while the records are typed as record {} in
+            // io:CsvRecordStream.
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(describingType,
+                                                                               getCompletionType(recordStream)),
+                                                  recordStream);
+        } catch (BallerinaIOException e) {
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            closeQuietly(fileChannel);
+            return e;
+        } catch (IOException | IllegalArgumentException e) {
+            closeQuietly(fileChannel);
+            return IOUtils.createError("failed to open the CSV file: " + e.getMessage());
+        }
+    }
+
+    public static Object nextCsvRecord(BObject recordStream) {
+        ParallelCsvReader<?> reader = (ParallelCsvReader<?>) recordStream.getNativeData(CSV_READER);
+        try {
+            return reader.next();
+        } catch (IOException | RuntimeException e) {
+            String msg = "failed to process the CSV record: " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object closeCsvRecordStream(BObject recordStream) {
+        ParallelCsvReader<?> reader = (ParallelCsvReader<?>) recordStream.getNativeData(CSV_READER);
+        try {
+            reader.close();
+        } catch (IOException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the completion type of the stream, which is the return type of the `next` method of the iterator
+     * without the record type of its values.
+     */
+    private static Type getCompletionType(BObject iterator) {
+        List<Type> completionTypes = new ArrayList<>();
+        for (MethodType method : ((ObjectType) iterator.getType()).getMethods()) {
+            if (NEXT_METHOD.equals(method.getName())) {
+                for (Type member : ((UnionType) method.getType().getReturnType()).getMemberTypes()) {
+                    if (member.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                        completionTypes.add(member);
+                    }
+                }
+            }
+        }
+        return TypeCreator.createUnionType(completionTypes);
+    }
+
+    private static void closeQuietly(FileChannel fileChannel) {
+        if (fileChannel != null) {
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                log.error("Error occurred while closing the file channel.", e);
+            }
+        }
+    }
+
+    /**
+     * Maps the fields of a CSV record to a Ballerina record, in the order of the fields of the record type.
+     */
+    private static class RecordMapper implements Function<String[], Object> {
+
+        private final Type recordType;
+        private final BString[] fieldNames;
+        private final int[] fieldTypes;
+        private final boolean[] nillable;
+
+        RecordMapper(StructureType recordType) {
+            this.recordType = recordType;
+            int fieldCount = recordType.getFields().size();
+            this.fieldNames = new BString[fieldCount];
+            this.fieldTypes = new int[fieldCount];
+            this.nillable = new boolean[fieldCount];
+            int i = 0;
+            for (Field field : recordType.getFields().values()) {
+                fieldNames[i] = StringUtils.fromString(field.getFieldName());
+                fieldTypes[i] = getFieldTypeTag(field);
+                nillable[i] = field.getFieldType().getTag() == TypeTags.UNION_TAG;
+                i++;
+            }
+        }
+
+        @Override
+        public Object apply(String[] fields) {
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                                                                          recordType.getName());
+            for (int i = 0; i < fieldNames.length; i++) {
+                // Missing fields, and empty fields of nillable types, are nil.
+                if (i >= fields.length || (nillable[i] && fields[i].isEmpty())) {
+                    record.put(fieldNames[i], null);
+                } else {
+                    record.put(fieldNames[i], convert(fieldTypes[i], fields[i]));
+                }
+            }
+            return record;
+        }
+
+        private static int getFieldTypeTag(Field field) {
+            Type fieldType = field.getFieldType();
+            int tag = fieldType.getTag();
+            if (tag == TypeTags.UNION_TAG) {
+                List<Type> members = ((UnionType) fieldType).getMemberTypes();
+                if (members.size() == 2 && members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    tag = members.get(1).getTag();
+                } else if (members.size() == 2 && members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    tag = members.get(0).getTag();
+                } else {
+                    throw IOUtils.createError("unsupported nillable field: " + field.getFieldName());
+                }
+            }
+            switch (tag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    return tag;
+                default:
+                    throw IOUtils.createError("type casting support only for int, float, boolean and string. "
+                                                      + "Invalid type for the record field: " + field.getFieldName());
+            }
+        }
+
+        private static Object convert(int type, String value) {
+            switch (type) {
+                case TypeTags.INT_TAG:
+                    return value.isEmpty() ? null : Long.parseLong(value);
+                case TypeTags.FLOAT_TAG:
+                    return value.isEmpty() ? null : Double.parseDouble(value);
+                case TypeTags.BOOLEAN_TAG:
+                    return value.isEmpty() ? null : Boolean.parseBoolean(value);
+                default:
+                    return StringUtils.fromString(value);
+            }
+        }
+    }
+}
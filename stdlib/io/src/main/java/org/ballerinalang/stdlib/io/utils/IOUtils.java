@@ -30,6 +30,7 @@ import org.ballerinalang.stdlib.io.csv.Format;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
@@ -112,6 +113,26 @@ public class IOUtils {
         return offset;
     }
 
+    /**
+     * Writes the remaining bytes of the buffer to the destination channel.
+     *
+     * @param buffer     bytes which should be written.
+     * @param dstChannel channel the bytes should be written to.
+     * @return the number of bytes written.
+     * @throws IOException errors while writing, or if the destination channel does not accept any of the bytes.
+     */
+    public static int writeFull(ByteBuffer buffer, WritableByteChannel dstChannel) throws IOException {
+        int writtenBytes = 0;
+        while (buffer.hasRemaining()) {
+            int count = dstChannel.write(buffer);
+            if (count == 0) {
+                throw new IOException("the destination channel did not accept any bytes");
+            }
+            writtenBytes += count;
+        }
+        return writtenBytes;
+    }
+
     /**
      * <p>
      * Writes bytes to a channel.
@@ -101,6 +101,52 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test reading a memory-mapped file in ballerina/io package")
+    public void testReadBytesFromMappedFile() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initReadableMappedChannel", args);
+
+        args = new BValue[] { new BInteger(4) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), "1234".getBytes());
+
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), "56".getBytes());
+
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), new byte[0]);
+
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+    }
+
+    @Test(description = "Test 'transferTo' function in ballerina/io package")
+    public void testTransferBytes() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/text/fileThatExceeds2MB.txt";
+        String sourceToWrite = currentDirectoryPath + "/transferredFile.txt";
+        String[] initFunctions = { "initReadableChannel", "initReadableMappedChannel" };
+
+        for (String initFunction : initFunctions) {
+            BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+            BRunUtil.invoke(bytesInputOutputProgramFile, initFunction, args);
+            args = new BValue[] { new BString(sourceToWrite) };
+            BRunUtil.invoke(bytesInputOutputProgramFile, "initWritableChannel", args);
+
+            BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferBytes");
+            byte[] expectedContent = Files.readAllBytes(Paths.get(getAbsoluteFilePath(resourceToRead)));
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedContent.length);
+
+            // The whole content has been transferred, so the channel has reached its end.
+            returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferBytes");
+            Assert.assertEquals(((BError) returns[0]).getMessage(), "EoF when reading from the channel");
+
+            BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+            BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
+            Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expectedContent);
+        }
+    }
+
     @Test(description = "Test 'readCharacters' function in ballerina/io package")
     public void testReadCharacters() throws URISyntaxException {
         String resourceToRead = "datafiles/io/text/utf8file.txt";
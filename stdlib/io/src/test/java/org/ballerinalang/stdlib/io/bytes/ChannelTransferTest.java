@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.bytes;
+
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tests transferring the content of file channels to destinations which do not accept bytes on every write.
+ */
+public class ChannelTransferTest {
+
+    private static final String FILE = "datafiles/io/text/6charfile.txt";
+
+    @Test(description = "Transfer a file to a destination which accepts no bytes on the first write")
+    public void transferToSlowDestination() throws IOException, URISyntaxException {
+        DestinationChannel destination = new DestinationChannel(1);
+        Channel channel = new FileIOChannel(openFile());
+        Assert.assertEquals(channel.transferTo(destination), 6);
+        Assert.assertEquals(destination.content.toString(StandardCharsets.UTF_8.name()), "123456");
+        Assert.assertTrue(channel.hasReachedEnd());
+        channel.close();
+    }
+
+    @Test(description = "Transfer a file to a destination which never accepts bytes",
+            expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "the destination channel did not accept any bytes")
+    public void transferToBlockedDestination() throws IOException, URISyntaxException {
+        Channel channel = new FileIOChannel(openFile());
+        try {
+            channel.transferTo(new DestinationChannel(Integer.MAX_VALUE));
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test(description = "Transfer a mapped file to a destination which never accepts bytes",
+            expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "the destination channel did not accept any bytes")
+    public void transferMappedFileToBlockedDestination() throws IOException, URISyntaxException {
+        Channel channel = new MappedFileIOChannel(openFile());
+        try {
+            channel.transferTo(new DestinationChannel(Integer.MAX_VALUE));
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static FileChannel openFile() throws URISyntaxException, IOException {
+        return FileChannel.open(Paths.get(ChannelTransferTest.class.getClassLoader().getResource(FILE).toURI()),
+                                StandardOpenOption.READ);
+    }
+
+    /**
+     * Destination, which accepts no bytes on the given number of its first writes.
+     */
+    private static class DestinationChannel implements WritableByteChannel {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private int rejectedWrites;
+
+        DestinationChannel(int rejectedWrites) {
+            this.rejectedWrites = rejectedWrites;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            if (rejectedWrites > 0) {
+                rejectedWrites--;
+                return 0;
+            }
+            int count = src.remaining();
+            while (src.hasRemaining()) {
+                content.write(src.get());
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for reading CSV files split into many chunks with {@link ParallelCsvReader}. Each file is read with every
+ * chunk size up to its length, so that every position of the file becomes a chunk boundary.
+ *
+ * @since 2.0.0
+ */
+public class ParallelCsvReaderTest {
+
+    @Test(description = "Test reading simple records split across chunks")
+    public void testSimpleRecords() throws IOException {
+        String content = "1,Alice,10.5\n2,Bob,20\n3,Carol,\n";
+        assertRecordsForAllChunkSizes(content, 0, Arrays.asList(
+                Arrays.asList("1", "Alice", "10.5"),
+                Arrays.asList("2", "Bob", "20"),
+                Arrays.asList("3", "Carol", "")));
+    }
+
+    @Test(description = "Test reading quoted fields with line breaks, which straddle chunks")
+    public void testQuotedLineBreaks() throws IOException {
+        // The chunks which start inside the quoted fields find the first record of the chunk with the line break
+        // after the closing quote.
+        String content = "1,\"multi\nline\nfield\",x\n2,\"a \"\"quoted\"\"\nvalue\",y\n3,plain,z\n";
+        assertRecordsForAllChunkSizes(content, 0, Arrays.asList(
+                Arrays.asList("1", "multi\nline\nfield", "x"),
+                Arrays.asList("2", "a \"quoted\"\nvalue", "y"),
+                Arrays.asList("3", "plain", "z")));
+    }
+
+    @Test(description = "Test reading records with CRLF line breaks, which are split across chunks")
+    public void testCrlfLineBreaks() throws IOException {
+        String content = "1,one\r\n2,\"two\r\nlines\"\r\n3,three";
+        assertRecordsForAllChunkSizes(content, 0, Arrays.asList(
+                Arrays.asList("1", "one"),
+                Arrays.asList("2", "two\r\nlines"),
+                Arrays.asList("3", "three")));
+    }
+
+    @Test(description = "Test skipping headers, which span more than the first chunk")
+    public void testSkipHeadersPastFirstChunk() throws IOException {
+        String content = "id,\"long\nheader\"\nsecond,header\n1,a\n2,b\n";
+        assertRecordsForAllChunkSizes(content, 2, Arrays.asList(
+                Arrays.asList("1", "a"),
+                Arrays.asList("2", "b")));
+    }
+
+    @Test(description = "Test skipping more headers than the file has")
+    public void testSkipAllRecords() throws IOException {
+        assertRecordsForAllChunkSizes("id,name\n1,a\n", 5, new ArrayList<>());
+    }
+
+    private static void assertRecordsForAllChunkSizes(String content, long skipHeaders, List<List<String>> expected)
+            throws IOException {
+        Path file = Files.createTempFile("parallel-csv-reader", ".csv");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            for (int chunkSize = 1; chunkSize <= content.length(); chunkSize++) {
+                Assert.assertEquals(readRecords(file, skipHeaders, chunkSize), expected,
+                                    "records read in chunks of " + chunkSize + " bytes");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<List<String>> readRecords(Path file, long skipHeaders, int chunkSize) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (ParallelCsvReader<List<String>> reader = new ParallelCsvReader<>(
+                FileChannel.open(file, StandardOpenOption.READ), ',', skipHeaders, 2, Arrays::asList, chunkSize)) {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
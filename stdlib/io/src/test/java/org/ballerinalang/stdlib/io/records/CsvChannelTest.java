@@ -435,6 +435,26 @@ public class CsvChannelTest {
         }
     }
 
+    @Test(description = "Test reading records from a stream")
+    public void getRecordStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample5.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getRecordStream", args);
+        final BFloat totalSalary = (BFloat) result[0];
+        Assert.assertEquals(totalSalary.floatValue(), 60001.00d);
+    }
+
+    @Test(description = "Test reading records with nill values from a stream")
+    public void getRecordStreamWithNull() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getRecordStreamWithNill", args);
+        BString names = (BString) result[0];
+        BString departments = (BString) result[1];
+        Assert.assertEquals(names.toString(), "Person1Person2Person3");
+        Assert.assertEquals(departments.toString(), "EngMrk-1");
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
@@ -179,3 +179,34 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function getRecordStream(string filePath) returns @tainted float | error {
+    stream<Employee, io:Error> recordStream = check io:openReadableCsvRecordStream(filePath, Employee, parallelism = 2);
+    float total = 0.0;
+    error? result = recordStream.forEach(function (Employee employee) {
+        total = total + employee.salary;
+    });
+    check recordStream.close();
+    if (result is error) {
+        return result;
+    }
+    return total;
+}
+
+function getRecordStreamWithNill(string filePath) returns @tainted [string, string] | error {
+    string name = "";
+    string dep = "";
+    stream<PerDiem, io:Error> recordStream = check io:openReadableCsvRecordStream(filePath, PerDiem, skipHeaders = 1);
+    record {| PerDiem value; |}|io:Error? next = recordStream.next();
+    while (next is record {| PerDiem value; |}) {
+        PerDiem rec = next.value;
+        name = name + rec.name;
+        dep = dep + (rec.department ?: "-1");
+        next = recordStream.next();
+    }
+    check recordStream.close();
+    if (next is io:Error) {
+        return next;
+    }
+    return [name, dep];
+}
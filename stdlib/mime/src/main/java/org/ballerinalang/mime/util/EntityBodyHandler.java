@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -43,6 +44,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -374,7 +376,13 @@ public class EntityBodyHandler {
             throws IOException {
         Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
         if (byteChannel != null) {
-            MimeUtil.writeInputToOutputStream(byteChannel.getInputStream(), messageOutputStream);
+            if (byteChannel instanceof MappedFileIOChannel) {
+                // The mapped file content is written straight from the mapping, instead of being read into a buffer
+                // first.
+                byteChannel.transferTo(Channels.newChannel(messageOutputStream));
+            } else {
+                MimeUtil.writeInputToOutputStream(byteChannel.getInputStream(), messageOutputStream);
+            }
             byteChannel.close();
             //Set the byte channel to null, once it is consumed
             entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
@@ -45,7 +45,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangRuntimeException;
 import io.ballerina.runtime.internal.values.AbstractObjectValue;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
-import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
 import io.ballerina.runtime.internal.values.FPValue;
@@ -53,7 +52,6 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.HandleValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
-import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.StreamValue;
 import io.ballerina.runtime.internal.values.TypedescValue;
@@ -167,10 +165,9 @@ public class BRunUtil {
                 paramTypes[i] = ObjectValue.class;
             } else if (arg instanceof XmlValue) {
                 paramTypes[i] = XmlValue.class;
-            } else if (arg instanceof BmpStringValue) {
-                paramTypes[i] = BmpStringValue.class;
-            } else if (arg instanceof NonBmpStringValue) {
-                paramTypes[i] = NonBmpStringValue.class;
+            } else if (arg instanceof io.ballerina.runtime.api.values.BString) {
+                // Strings may be flat or rope values, all of which are passed as a BString.
+                paramTypes[i] = io.ballerina.runtime.api.values.BString.class;
             } else if (arg instanceof ArrayValue) {
                 paramTypes[i] = ArrayValue.class;
             } else if (arg instanceof Integer) {
@@ -263,6 +260,22 @@ public class BRunUtil {
      */
     private static Object invoke(CompileResult compileResult, BIRNode.BIRFunction function, String functionName,
                                  Object[] args, Class<?>[] paramTypes) {
+        return invoke(compileResult, function, functionName, args, paramTypes, new Scheduler(false));
+    }
+
+    /**
+     * This method handles the input arguments and runs the function on the given scheduler.
+     *
+     * @param compileResult CompileResult instance
+     * @param function      function model instance from BIR model
+     * @param functionName  name of the function to be invoked
+     * @param args          input arguments to be used with function invocation
+     * @param paramTypes    types of the parameters of the function
+     * @param scheduler     scheduler, which is not started yet
+     * @return return the result from function invocation
+     */
+    private static Object invoke(CompileResult compileResult, BIRNode.BIRFunction function, String functionName,
+                                 Object[] args, Class<?>[] paramTypes, Scheduler scheduler) {
         assert args.length == paramTypes.length;
         Class<?>[] jvmParamTypes = new Class[paramTypes.length + 1];
         jvmParamTypes[0] = Strand.class;
@@ -305,7 +318,6 @@ public class BRunUtil {
                 }
             };
 
-            Scheduler scheduler = new Scheduler(false);
             FutureValue futureValue = scheduler.schedule(jvmArgs, func, null, null, new HashMap<>(),
                     PredefinedTypes.TYPE_ANY, "test",
                     new StrandMetadata(ANON_ORG, DOT, DEFAULT_VERSION.value,
@@ -1310,6 +1322,20 @@ public class BRunUtil {
         return invoke(compileResult, function, functionName, new BValue[0], new Class<?>[0]);
     }
 
+    /**
+     * Invoke a ballerina function, which does not have parameters, on the given scheduler.
+     *
+     * @param compileResult CompileResult instance
+     * @param functionName  Name of the function to invoke
+     * @param scheduler     Scheduler to run the function on, which is not started yet
+     * @return return values of the function
+     */
+    public static BValue[] invoke(CompileResult compileResult, String functionName, Scheduler scheduler) {
+        BIRNode.BIRFunction function = getInvokedFunction(compileResult, functionName);
+        Object jvmResult = invoke(compileResult, function, functionName, new Object[0], new Class<?>[0], scheduler);
+        return spreadToBValueArray(new BValue[]{getBVMValue(jvmResult)});
+    }
+
     public static String runMain(CompileResult compileResult, String[] args) {
         ExitDetails exitDetails = run(compileResult, args);
         if (exitDetails.exitCode != 0) {
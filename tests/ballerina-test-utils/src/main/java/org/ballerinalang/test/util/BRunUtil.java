@@ -41,7 +41,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangRuntimeException;
 import io.ballerina.runtime.internal.values.AbstractObjectValue;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
-import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
 import io.ballerina.runtime.internal.values.FPValue;
@@ -49,7 +48,6 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.HandleValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
-import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.StreamValue;
 import io.ballerina.runtime.internal.values.TypedescValue;
@@ -149,10 +147,9 @@ public class BRunUtil {
                 paramTypes[i] = ObjectValue.class;
             } else if (arg instanceof XmlValue) {
                 paramTypes[i] = XmlValue.class;
-            } else if (arg instanceof BmpStringValue) {
-                paramTypes[i] = BmpStringValue.class;
-            } else if (arg instanceof NonBmpStringValue) {
-                paramTypes[i] = NonBmpStringValue.class;
+            } else if (arg instanceof io.ballerina.runtime.api.values.BString) {
+                // Strings may be flat or rope values, all of which are passed as a BString.
+                paramTypes[i] = io.ballerina.runtime.api.values.BString.class;
             } else if (arg instanceof ArrayValue) {
                 paramTypes[i] = ArrayValue.class;
             } else if (arg instanceof Integer) {
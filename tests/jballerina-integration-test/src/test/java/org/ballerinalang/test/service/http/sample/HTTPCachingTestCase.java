@@ -24,8 +24,14 @@ import org.ballerinalang.test.util.HttpResponse;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -150,6 +156,26 @@ public class HTTPCachingTestCase extends HttpBaseTest {
         assertFalse(response.getHeaders().containsKey(HttpHeaderNames.IF_MODIFIED_SINCE.toString()));
     }
 
+    @Test(description = "Test concurrent cache misses when the request sent to the origin server fails")
+    public void testConcurrentMissesOfFailedRequest() throws Exception {
+        String url = serverInstance.getServiceURLHttp(cachingProxyPort, "failedRequest");
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<HttpResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(executor.submit(() -> HttpClientRequest.doGet(url)));
+        }
+        // The requests which waited for the failed one fail as well, instead of waiting forever.
+        for (Future<HttpResponse> response : responses) {
+            assertEquals(response.get(20, TimeUnit.SECONDS).getResponseCode(), 500);
+        }
+        executor.shutdown();
+
+        // The failed request is no longer in flight, so the next request is sent to the origin server.
+        HttpResponse response = HttpClientRequest.doGet(url);
+        assertEquals(response.getResponseCode(), 500);
+        assertEquals(response.getData(), "request failed");
+    }
+
     @Test(description = "Test preservation of caller request headers in the validation request")
     public void testCallerRequestHeaderPreservation2() throws IOException, InterruptedException {
         Map<String, String> headers = new HashMap<>();
@@ -0,0 +1,41 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+// Nothing listens on this port, so every request sent to the origin server fails.
+http:Client failedRequestCacheEp = new("http://localhost:9297", { cache: { isShared: true } });
+
+@http:ServiceConfig {
+    basePath: "/failedRequest"
+}
+service failedRequestProxyService on cachingProxyListener {
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/"
+    }
+    resource function failedRequestProxyResource(http:Caller caller, http:Request req) {
+        var response = failedRequestCacheEp->forward("/failedRequestBackend", req);
+        if (response is http:Response) {
+            checkpanic caller->respond(response);
+        } else {
+            http:Response res = new;
+            res.statusCode = 500;
+            res.setPayload("request failed");
+            checkpanic caller->respond(res);
+        }
+    }
+}
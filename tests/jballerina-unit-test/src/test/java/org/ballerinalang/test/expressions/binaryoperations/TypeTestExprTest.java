@@ -769,4 +769,9 @@ public class TypeTestExprTest {
     public void testRecordIntersectionWithFunctionFields() {
         BRunUtil.invoke(result, "testRecordIntersectionWithFunctionFields");
     }
+
+    @Test
+    public void testTypeTestsAgainstUnionsOfBasicTypes() {
+        BRunUtil.invoke(result, "testTypeTestsAgainstUnionsOfBasicTypes");
+    }
 }
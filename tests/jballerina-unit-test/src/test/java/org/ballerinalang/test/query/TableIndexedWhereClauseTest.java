@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+/**
+ * This contains methods to test where clauses over table sources which are answered by secondary table indexes.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexedWhereClauseTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/table-indexed-where-clause.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "dataToTestIndexedWhereClause")
+    public void testIndexedWhereClause(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestIndexedWhereClause() {
+        return new Object[]{
+                "testEqualityOnIndexedColumn",
+                "testRangeOnIndexedColumn",
+                "testIndexedColumnAfterTableUpdates",
+                "testWhereOnMutableColumn",
+                "testRemoveIteratedRowsDuringIndexedQuery",
+                "testWhereOnMutableColumnOfImmutableRows"
+        };
+    }
+
+    @Test
+    public void testIndexedColumnsOfTable() {
+        // the where clauses on readonly columns are answered by secondary indexes of the table
+        TableValueImpl<?, ?> customers =
+                (TableValueImpl<?, ?>) BRunUtil.invokeAndGetJVMResult(result, "getCustomersAfterIndexedQueries");
+        Assert.assertEquals(customers.getIndexedColumns(), new LinkedHashSet<>(Arrays.asList("country", "age")));
+
+        // a mutable column is only indexed while all the rows of the table are immutable
+        customers = (TableValueImpl<?, ?>) BRunUtil.invokeAndGetJVMResult(result,
+                                                                           "getImmutableRowsAfterIndexedQuery");
+        Assert.assertEquals(customers.getIndexedColumns(), new LinkedHashSet<>(Arrays.asList("name")));
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}IteratorMutabilityError \\{\"message\":\"Table "
+                    + "was mutated after the iterator was created\"\\}.*")
+    public void testAddToTableDuringIndexedQuery() {
+        BRunUtil.invoke(result, "testAddToTableDuringIndexedQuery");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}IteratorMutabilityError \\{\"message\":\"Table "
+                    + "was mutated after the iterator was created\"\\}.*")
+    public void testRemoveFromTableDuringIndexedQuery() {
+        BRunUtil.invoke(result, "testRemoveFromTableDuringIndexedQuery");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -18,6 +18,7 @@
 package org.ballerinalang.test.record;
 
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValue;
 import org.ballerinalang.test.BCompileUtil;
@@ -170,6 +171,52 @@ public class RecordValueTest {
         person.clear();
     }
 
+    @Test
+    public void testClosedRecordOperations() {
+        Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getDefaultClosedPerson");
+        Assert.assertTrue(result instanceof MapValue);
+        MapValue<BString, Object> person = (MapValue<BString, Object>) result;
+
+        // set optional field
+        Assert.assertNull(person.put(StringUtils.fromString("spouse"), StringUtils.fromString("Jane")));
+        Assert.assertTrue(person.containsKey(StringUtils.fromString("spouse")));
+
+        // set a key that is not a field of the closed record
+        try {
+            person.put(StringUtils.fromString("gender"), StringUtils.fromString("female"));
+            Assert.fail("expected the closed record to reject the key 'gender'");
+        } catch (BError e) {
+            Assert.assertTrue(e.getMessage().startsWith("invalid field access: field 'gender' not found in record type"),
+                              e.getMessage());
+        }
+        Assert.assertFalse(person.containsKey(StringUtils.fromString("gender")));
+        Assert.assertNull(person.get(StringUtils.fromString("gender")));
+
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<BString, Object> entry : person.entrySet()) {
+            sj.add("{" + entry.getKey() + ":" + entry.getValue() + "}");
+        }
+        Assert.assertEquals(sj.toString(), "[{name:John}, {age:30}, {spouse:Jane}]");
+
+        sj = new StringJoiner(", ", "[", "]");
+        for (BString key : person.getKeys()) {
+            sj.add(key.getValue());
+        }
+        Assert.assertEquals(sj.toString(), "[name, age, spouse]");
+        Assert.assertEquals(person.values().size(), 3);
+        Assert.assertEquals(person.size(), 3);
+    }
+
+    @Test
+    public void testClosedRecordViews() {
+        BRunUtil.invoke(compileResult, "testClosedRecordViews");
+    }
+
+    @Test
+    public void testOpenRecordViews() {
+        BRunUtil.invoke(compileResult, "testOpenRecordViews");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -273,6 +273,11 @@ public class BDecimalValueTest {
         BRunUtil.invoke(result, "testDecimalFillerValue");
     }
 
+    @Test(description = "Test decimal arithmetic on values within and beyond the range of a long")
+    public void testDecimalArithmeticWithinAndBeyondLongRange() {
+        BRunUtil.invoke(result, "testDecimalArithmeticWithinAndBeyondLongRange");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.types.readonly;
+
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+/**
+ * Tests the cached results of the assignability checks of {@link Types}, before and after a type is marked as
+ * read-only or isolated.
+ *
+ * @since 2.0.0
+ */
+public class AssignabilityCacheTest {
+
+    private Types types;
+    private SymbolTable symTable;
+    private BLangPackage bLangPackage;
+
+    @BeforeClass
+    public void setup() {
+        Project project = BCompileUtil.loadProject("test-src/types/readonly/test_assignability_cache.bal");
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().errorCount(), 0);
+
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        types = Types.getInstance(compilerContext);
+        symTable = SymbolTable.getInstance(compilerContext);
+        bLangPackage = compilation.defaultModuleBLangPackage();
+    }
+
+    @Test(description = "Test a record type, which the compiler marked as read-only as all its fields are read-only")
+    public void testRecordMarkedAsReadOnlyByCompiler() {
+        BType configType = lookupType("Config");
+        Assert.assertTrue(Symbols.isFlagOn(configType.flags, Flags.READONLY));
+        Assert.assertTrue(types.isAssignable(configType, symTable.readonlyType));
+        Assert.assertTrue(types.isAssignable(configType, symTable.readonlyType));
+    }
+
+    @Test(description = "Test a record type, which is marked as read-only after it was checked")
+    public void testRecordMarkedAsReadOnly() {
+        BType mutableConfigType = lookupType("MutableConfig");
+        Assert.assertFalse(types.isAssignable(mutableConfigType, symTable.readonlyType));
+
+        // The result is cached until the cache is invalidated, as the compiler does when it marks a type as read-only
+        mutableConfigType.flags |= Flags.READONLY;
+        mutableConfigType.tsymbol.flags |= Flags.READONLY;
+        Assert.assertFalse(types.isAssignable(mutableConfigType, symTable.readonlyType));
+        types.invalidateAssignabilityCache();
+        Assert.assertTrue(types.isAssignable(mutableConfigType, symTable.readonlyType));
+    }
+
+    @Test(description = "Test a function type, which is marked as isolated after it was checked")
+    public void testFunctionMarkedAsIsolated() {
+        BType functionType = lookupType("increment");
+        BType isolatedFunctionType = lookupType("IsolatedCounter");
+        Assert.assertFalse(Symbols.isFlagOn(functionType.flags, Flags.ISOLATED));
+        Assert.assertTrue(types.isAssignable(isolatedFunctionType, functionType));
+        Assert.assertFalse(types.isAssignable(functionType, isolatedFunctionType));
+
+        // The result is cached until the cache is invalidated, as the compiler does when it infers that a function is
+        // isolated
+        functionType.flags |= Flags.ISOLATED;
+        Assert.assertFalse(types.isAssignable(functionType, isolatedFunctionType));
+        types.invalidateAssignabilityCache();
+        Assert.assertTrue(types.isAssignable(functionType, isolatedFunctionType));
+    }
+
+    private BType lookupType(String name) {
+        return bLangPackage.symbol.scope.lookup(new Name(name)).symbol.type;
+    }
+}
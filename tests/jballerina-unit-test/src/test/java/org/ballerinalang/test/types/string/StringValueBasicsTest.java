@@ -17,6 +17,9 @@
  */
 package org.ballerinalang.test.types.string;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.RopeStringValue;
+import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
@@ -44,6 +47,21 @@ public class StringValueBasicsTest extends BStringTestCommons {
         Assert.assertEquals(returns[0].stringValue(), "red apple");
     }
 
+    @Test
+    public void testConcatLongStrings() {
+        testAndAssert("concatLongStrings", 2500);
+    }
+
+    @Test
+    public void testRopeStringArgument() {
+        io.ballerina.runtime.api.values.BString rope = StringUtils.fromString("h😀llo".repeat(60))
+                .concat(StringUtils.fromString("h😀llo".repeat(40)));
+        Assert.assertTrue(rope instanceof RopeStringValue);
+        BValue[] returns = BRunUtil.invoke(result, "stringLength", new Object[]{rope});
+        Assert.assertEquals(returns[0].getClass(), BInteger.class);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 500);
+    }
+
     @Test
     public void testNonBMPStringLength() {
         testAndAssert("nonBMPLength", 5);
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.ballerinalang.test.worker;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMode;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests the worker actions, when the strands are run by the work stealing scheduler.
+ *
+ * @since 2.0.0
+ */
+public class WorkStealingSchedulerTest {
+
+    private static final int NUM_THREADS = 4;
+
+    private CompileResult basicWorkerResult;
+    private CompileResult syncSendResult;
+    private CompileResult flushResult;
+
+    @BeforeClass
+    public void setup() {
+        basicWorkerResult = BCompileUtil.compile("test-src/workers/basic-worker-actions.bal");
+        Assert.assertEquals(basicWorkerResult.getErrorCount(), 0,
+                Arrays.asList(basicWorkerResult.getDiagnostics()).toString());
+        syncSendResult = BCompileUtil.compile("test-src/workers/sync-send.bal");
+        Assert.assertEquals(syncSendResult.getErrorCount(), 0,
+                Arrays.asList(syncSendResult.getDiagnostics()).toString());
+        flushResult = BCompileUtil.compile("test-src/workers/flush-workers.bal");
+        Assert.assertEquals(flushResult.getErrorCount(), 0, flushResult.toString());
+    }
+
+    @Test
+    public void testSchedulerMode() {
+        Assert.assertEquals(newScheduler().getMode(), SchedulerMode.WORK_STEALING);
+    }
+
+    @Test
+    public void basicForkTest() {
+        BValue[] vals = BRunUtil.invoke(basicWorkerResult, "basicForkTest", newScheduler());
+        Assert.assertEquals(vals.length, 1);
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 10);
+    }
+
+    @Test
+    public void forkWithMessageParsingTest() {
+        BValue[] vals = BRunUtil.invoke(basicWorkerResult, "forkWithMessageParsingTest", newScheduler());
+        Assert.assertEquals(vals.length, 1);
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 5);
+    }
+
+    @Test
+    public void workerReturnTest() {
+        BValue[] vals = BRunUtil.invoke(basicWorkerResult, "workerReturnTest", newScheduler());
+        Assert.assertEquals(vals.length, 1);
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 51);
+    }
+
+    @Test
+    public void simpleSyncSendTest() {
+        BValue[] returns = BRunUtil.invoke(syncSendResult, "simpleSyncSend", newScheduler());
+        Assert.assertTrue(returns[0].stringValue().startsWith("w2w2w2w2w2"),
+                "Returned wrong value:" + returns[0].stringValue());
+    }
+
+    @Test
+    public void multiWorkerSyncSendTest() {
+        BValue[] returns = BRunUtil.invoke(syncSendResult, "multiWorkerSend", newScheduler());
+        Assert.assertFalse(returns[0].stringValue().startsWith("w1"),
+                "Returned wrong value:" + returns[0].stringValue());
+    }
+
+    @Test
+    public void simpleFlushTest() {
+        BValue[] returns = BRunUtil.invoke(flushResult, "singleFlush", newScheduler());
+        Assert.assertEquals(returns[0].stringValue(), "w2w2w2w2w2w1w1w1w1w1");
+    }
+
+    @Test
+    public void flushInDefaultTest() {
+        BValue[] returns = BRunUtil.invoke(flushResult, "flushInDefault", newScheduler());
+        Assert.assertEquals(returns[0].stringValue(), "25");
+    }
+
+    @Test
+    public void panicBeforeFlushTest() {
+        Exception expectedException = null;
+        try {
+            BRunUtil.invoke(flushResult, "panicTest", newScheduler());
+        } catch (Exception e) {
+            expectedException = e;
+        }
+        Assert.assertNotNull(expectedException);
+        Assert.assertTrue(expectedException.getMessage().startsWith("error: error3 {\"message\":\"msg3\"}"),
+                expectedException.getMessage());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        basicWorkerResult = null;
+        syncSendResult = null;
+        flushResult = null;
+    }
+
+    private static Scheduler newScheduler() {
+        return new Scheduler(NUM_THREADS, false, SchedulerMode.WORK_STEALING);
+    }
+}
@@ -1212,6 +1212,44 @@ function testRecordIntersectionWithFunctionFields() {
     assertFalse(recordIntersectionWithFunctionFields());
 }
 
+function testTypeTestsAgainstUnionsOfBasicTypes() {
+    any a = 5;
+    assertTrue(a is int);
+    assertTrue(a is int|string);
+    assertTrue(a is string|int|Foo2);
+    assertFalse(a is float|boolean|());
+
+    byte b = 12;
+    a = b;
+    assertTrue(a is int);
+    assertTrue(a is int|string);
+
+    a = 2.5;
+    assertTrue(a is float|decimal);
+    assertFalse(a is int|decimal|());
+
+    a = 2.5d;
+    assertTrue(a is float|decimal);
+    assertFalse(a is float|string);
+
+    a = "hello";
+    assertTrue(a is string|boolean);
+    assertFalse(a is int|float|());
+
+    a = true;
+    assertTrue(a is boolean|Foo2);
+    assertFalse(a is int|string|Foo2);
+
+    a = ();
+    assertTrue(a is int|());
+    assertFalse(a is int|string);
+
+    Foo2 foo = {y: true};
+    a = foo;
+    assertTrue(a is int|string|Foo2);
+    assertFalse(a is int|string|());
+}
+
 function assertTrue(anydata actual) {
     assertEquality(true, actual);
 }
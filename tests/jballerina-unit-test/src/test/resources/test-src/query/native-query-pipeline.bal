@@ -0,0 +1,197 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+
+type Person record {|
+    int id;
+    string name;
+    int? age;
+|};
+
+type Visit record {|
+    int personId;
+    string city;
+|};
+
+type PersonVisit record {|
+    string name;
+    string? city;
+|};
+
+function getPersons() returns Person[] {
+    return [
+        {id: 1, name: "Amal", age: 30},
+        {id: 2, name: "Kamal", age: ()},
+        {id: 3, name: "Nimal", age: 25},
+        {id: 4, name: "Sunil", age: 30}
+    ];
+}
+
+function getVisits() returns Visit[] {
+    return [
+        {personId: 1, city: "Colombo"},
+        {personId: 3, city: "Kandy"},
+        {personId: 1, city: "Galle"}
+    ];
+}
+
+function testSelectedValuesAreNotShared() {
+    Person[] persons = getPersons();
+    record {| string name; int id; |}[] selected = from var p in persons
+                                                  let int nextId = p.id + 1
+                                                  where nextId > 2
+                                                  select {name: p.name, id: nextId};
+    assertEquality(<record {| string name; int id; |}[]> [{name: "Kamal", id: 3}, {name: "Nimal", id: 4},
+        {name: "Sunil", id: 5}], selected);
+}
+
+function testInnerJoinWithMultipleMatches() {
+    PersonVisit[] visits = from var p in getPersons()
+                           join var v in getVisits() on p.id equals v.personId
+                           select {name: p.name, city: v.city};
+    assertEquality(<PersonVisit[]> [{name: "Amal", city: "Colombo"}, {name: "Amal", city: "Galle"},
+        {name: "Nimal", city: "Kandy"}], visits);
+}
+
+function testOuterJoin() {
+    PersonVisit[] visits = from var p in getPersons()
+                           outer join Visit v in getVisits() on p.id equals v.personId
+                           select {name: p.name, city: v.city};
+    assertEquality(<PersonVisit[]> [{name: "Amal", city: "Colombo"}, {name: "Amal", city: "Galle"},
+        {name: "Kamal", city: ()}, {name: "Nimal", city: "Kandy"}, {name: "Sunil", city: ()}], visits);
+}
+
+function testJoinWithStreamSource() {
+    stream<Visit> visitStream = getVisits().toStream();
+    PersonVisit[] visits = from var p in getPersons()
+                           join var v in visitStream on p.id equals v.personId
+                           where v.city != "Galle"
+                           select {name: p.name, city: v.city};
+    assertEquality(<PersonVisit[]> [{name: "Amal", city: "Colombo"}, {name: "Nimal", city: "Kandy"}], visits);
+}
+
+function testOrderByIsStable() {
+    string[] ascending = from var p in getPersons()
+                         order by p.age ascending
+                         select p.name;
+    assertEquality(<string[]> ["Nimal", "Amal", "Sunil", "Kamal"], ascending);
+    string[] descending = from var p in getPersons()
+                          order by p.age descending, p.name descending
+                          select p.name;
+    assertEquality(<string[]> ["Sunil", "Amal", "Nimal", "Kamal"], descending);
+}
+
+function testOrderByWithLimit() {
+    string[] topTwo = from var p in getPersons()
+                      order by p.age descending
+                      limit 2
+                      select p.name;
+    assertEquality(<string[]> ["Amal", "Sunil"], topTwo);
+    int lmt = 3;
+    string[] lowestIds = from var p in getPersons()
+                         where p.id != 3
+                         order by p.id
+                         limit lmt
+                         select p.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Sunil"], lowestIds);
+    string[] all = from var p in getPersons()
+                   order by p.name descending
+                   limit 10
+                   select p.name;
+    assertEquality(<string[]> ["Sunil", "Nimal", "Kamal", "Amal"], all);
+}
+
+function testLimitAfterWhere() {
+    int count = 0;
+    int[] ids = from var p in getPersons()
+                where p.id > 1
+                limit 2
+                select p.id;
+    assertEquality(<int[]> [2, 3], ids);
+    error? result = from var p in getPersons()
+                    limit 3
+                    do {
+                        count += 1;
+                    };
+    assertEquality(3, count);
+}
+
+function testStreamResultOverMapSource() {
+    map<int> scores = {a: 1, b: 2, c: 3};
+    stream<int> doubled = stream from var s in scores
+                          where s > 1
+                          select s * 2;
+    int[] result = [];
+    record {| int value; |}? next = doubled.next();
+    while (next is record {| int value; |}) {
+        result.push(next.value);
+        next = doubled.next();
+    }
+    assertEquality(<int[]> [4, 6], result);
+}
+
+function square(int i) returns int {
+    runtime:sleep(0.001);
+    return i * i;
+}
+
+function isEvenAfterSleep(int i) returns boolean {
+    runtime:sleep(0.001);
+    return i % 2 == 0;
+}
+
+function testWaitInSelect() {
+    future<int>[] futures = [start square(1), start square(2), start square(3)];
+    int[] squares = from var f in futures
+                    select wait f;
+    assertEquality(<int[]> [1, 4, 9], squares);
+}
+
+function testYieldingFunctionInWhere() {
+    int[] evens = from var i in [1, 2, 3, 4, 5, 6]
+                  where isEvenAfterSleep(i)
+                  select i;
+    assertEquality(<int[]> [2, 4, 6], evens);
+}
+
+function testYieldingFunctionInDo() {
+    int sum = 0;
+    error? result = from var p in getPersons()
+                    join var v in getVisits() on p.id equals v.personId
+                    do {
+                        sum += square(p.id);
+                    };
+    assertEquality((), result);
+    assertEquality(11, sum);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                            message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -0,0 +1,180 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Customer record {|
+    readonly int id;
+    readonly string country;
+    readonly int age;
+    string name;
+|};
+
+type CustomerTable table<Customer> key(id);
+
+const LK = "LK";
+
+function getCustomers() returns CustomerTable {
+    CustomerTable customers = table [
+        {id: 1, country: "LK", age: 25, name: "Amal"},
+        {id: 2, country: "US", age: 41, name: "John"},
+        {id: 3, country: "LK", age: 33, name: "Kamal"},
+        {id: 4, country: "UK", age: 30, name: "Jane"},
+        {id: 5, country: "LK", age: 52, name: "Nimal"}
+    ];
+    return customers;
+}
+
+function testEqualityOnIndexedColumn() {
+    CustomerTable customers = getCustomers();
+    string[] names = from var c in customers where c.country == "LK" select c.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Nimal"], names);
+
+    names = from var c in customers where LK == c.country select c.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Nimal"], names);
+
+    final string country = "UK";
+    names = from var c in customers where c.country == country select c.name;
+    assertEquality(<string[]> ["Jane"], names);
+
+    names = from var c in customers where c.country == "IN" select c.name;
+    assertEquality(<string[]> [], names);
+}
+
+function testRangeOnIndexedColumn() {
+    CustomerTable customers = getCustomers();
+    string[] names = from var c in customers where c.age >= 30 select c.name;
+    assertEquality(<string[]> ["John", "Kamal", "Jane", "Nimal"], names);
+
+    names = from var c in customers where c.age > 30 && c.country == "LK" select c.name;
+    assertEquality(<string[]> ["Kamal", "Nimal"], names);
+
+    names = from var c in customers where 33 >= c.age select c.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Jane"], names);
+
+    names = from var c in customers where (c.age < 30) select c.name;
+    assertEquality(<string[]> ["Amal"], names);
+}
+
+function testIndexedColumnAfterTableUpdates() {
+    CustomerTable customers = getCustomers();
+    string[] names = from var c in customers where c.country == "LK" select c.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Nimal"], names);
+    names = from var c in customers where c.age <= 30 select c.name;
+    assertEquality(<string[]> ["Amal", "Jane"], names);
+
+    customers.add({id: 6, country: "LK", age: 19, name: "Sunil"});
+    customers.put({id: 3, country: "US", age: 34, name: "Kamal"});
+    _ = customers.remove(1);
+
+    names = from var c in customers where c.country == "LK" select c.name;
+    assertEquality(<string[]> ["Nimal", "Sunil"], names);
+    names = from var c in customers where c.age <= 30 select c.name;
+    assertEquality(<string[]> ["Jane", "Sunil"], names);
+
+    customers.removeAll();
+    names = from var c in customers where c.country == "LK" select c.name;
+    assertEquality(<string[]> [], names);
+}
+
+function testWhereOnMutableColumn() {
+    CustomerTable customers = getCustomers();
+    string[] countries = from var c in customers where c.name == "Jane" select c.country;
+    assertEquality(<string[]> ["UK"], countries);
+
+    Customer jane = customers.get(4);
+    jane.name = "Janet";
+    countries = from var c in customers where c.name == "Jane" select c.country;
+    assertEquality(<string[]> [], countries);
+    countries = from var c in customers where c.name == "Janet" select c.country;
+    assertEquality(<string[]> ["UK"], countries);
+}
+
+function getCustomersAfterIndexedQueries() returns CustomerTable {
+    CustomerTable customers = getCustomers();
+    string[] names = from var c in customers where c.country == "LK" select c.name;
+    assertEquality(<string[]> ["Amal", "Kamal", "Nimal"], names);
+    names = from var c in customers where c.age > 40 select c.name;
+    assertEquality(<string[]> ["John", "Nimal"], names);
+    names = from var c in customers where c.name == "Jane" select c.name;
+    assertEquality(<string[]> ["Jane"], names);
+    return customers;
+}
+
+function testAddToTableDuringIndexedQuery() {
+    CustomerTable customers = getCustomers();
+    error? result = from var c in customers where c.country == "LK"
+        do {
+            customers.add({id: c.id + 10, country: c.country, age: c.age, name: c.name});
+        };
+}
+
+function testRemoveFromTableDuringIndexedQuery() {
+    CustomerTable customers = getCustomers();
+    error? result = from var c in customers where c.country == "LK"
+        do {
+            _ = customers.remove(5);
+        };
+}
+
+function testRemoveIteratedRowsDuringIndexedQuery() {
+    CustomerTable customers = getCustomers();
+    string[] names = [];
+    error? result = from var c in customers where c.country == "LK"
+        do {
+            names.push(c.name);
+            _ = customers.remove(c.id);
+        };
+    assertEquality(<string[]> ["Amal", "Kamal", "Nimal"], names);
+    assertEquality(2, customers.length());
+}
+
+function getImmutableRowsAfterIndexedQuery() returns CustomerTable {
+    CustomerTable customers = table [];
+    foreach Customer c in getCustomers() {
+        customers.add(c.cloneReadOnly());
+    }
+    string[] countries = from var c in customers where c.name == "Jane" select c.country;
+    assertEquality(<string[]> ["UK"], countries);
+    return customers;
+}
+
+function testWhereOnMutableColumnOfImmutableRows() {
+    CustomerTable customers = getImmutableRowsAfterIndexedQuery();
+    Customer janet = {id: 6, country: "NZ", age: 28, name: "Jane"};
+    customers.add(janet);
+    string[] countries = from var c in customers where c.name == "Jane" select c.country;
+    assertEquality(<string[]> ["UK", "NZ"], countries);
+
+    janet.name = "Janet";
+    countries = from var c in customers where c.name == "Jane" select c.country;
+    assertEquality(<string[]> ["UK"], countries);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                            message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
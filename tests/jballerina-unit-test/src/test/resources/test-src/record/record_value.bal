@@ -28,3 +28,80 @@ function getNewPerson() returns Person {
 	Person p = {name: "Jane", age: 25, spouse: "John", "gender": "female"};
 	return p;
 }
+
+type ClosedPerson record {|
+    string name = "John";
+    int age = 30;
+    string spouse?;
+|};
+
+function getDefaultClosedPerson() returns ClosedPerson {
+    return {};
+}
+
+function testClosedRecordViews() {
+    ClosedPerson p = {};
+    assertEquality(2, p.length());
+    assertEquality(<string[]> ["name", "age"], p.keys());
+    assertEquality(<string[]> ["name:John", "age:30"], getEntries(p));
+    assertEquality(false, p.hasKey("spouse"));
+
+    p.spouse = "Jane";
+    assertEquality(3, p.length());
+    assertEquality(true, p.hasKey("spouse"));
+    assertEquality(<string[]> ["name", "age", "spouse"], p.keys());
+    assertEquality(<string[]> ["name:John", "age:30", "spouse:Jane"], getEntries(p));
+
+    assertEquality("Jane", p.remove("spouse"));
+    assertEquality(2, p.length());
+    assertEquality(false, p.hasKey("spouse"));
+    assertEquality(<string[]> ["name", "age"], p.keys());
+
+    map<string|int> m = p;
+    error? err = trap insertGender(m);
+    assertEquality(true, err is error);
+    assertEquality(2, p.length());
+    assertEquality(false, p.hasKey("gender"));
+    assertEquality(<string[]> ["name", "age"], p.keys());
+}
+
+function testOpenRecordViews() {
+    Person p = {};
+    assertEquality(2, p.length());
+    assertEquality(<string[]> ["name", "age"], p.keys());
+
+    p.spouse = "Jane";
+    p["gender"] = "female";
+    assertEquality(4, p.length());
+    assertEquality(true, p.hasKey("spouse"));
+    assertEquality(true, p.hasKey("gender"));
+    assertEquality(<string[]> ["name", "age", "spouse", "gender"], p.keys());
+    assertEquality(<string[]> ["name:John", "age:30", "spouse:Jane", "gender:female"], getEntries(p));
+
+    assertEquality("female", p.remove("gender"));
+    assertEquality("Jane", p.remove("spouse"));
+    assertEquality(2, p.length());
+    assertEquality(false, p.hasKey("gender"));
+    assertEquality(<string[]> ["name", "age"], p.keys());
+    assertEquality(<string[]> ["name:John", "age:30"], getEntries(p));
+}
+
+function insertGender(map<string|int> m) {
+    m["gender"] = "female";
+}
+
+function getEntries(map<anydata> m) returns string[] {
+    string[] entries = [];
+    foreach var [key, value] in m.entries() {
+        entries.push(key + ":" + value.toString());
+    }
+    return entries;
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -164,6 +164,34 @@ function testDecimalFillerValue() {
     assertEquality(true, a == b);
 }
 
+function testDecimalArithmeticWithinAndBeyondLongRange() {
+    decimal a = 1.10;
+    decimal b = 2.5;
+    assertEquality("3.60", (a + b).toString());
+    assertEquality("-1.40", (a - b).toString());
+    assertEquality("2.750", (a * b).toString());
+    assertEquality("-2.5", (-b).toString());
+    assertEquality("0.00", (a - 1.10).toString());
+    assertEquality(true, a - 1.10 == 0d);
+    assertEquality(true, 0.1 + 0.2 == 0.3);
+    assertEquality(true, a == 1.1);
+    assertEquality(true, b > 2.49 && b < 2.51);
+    assertEquality(true, 1e3d == 1000d);
+
+    decimal c = 999999999999999999;
+    assertEquality("1000000000000000000", (c + 1).toString());
+    decimal d = 9223372036854775807;
+    assertEquality("9223372036854775808", (d + 1).toString());
+    assertEquality("-9223372036854775808", (-d - 1).toString());
+    decimal e = 123456789012.345678;
+    assertEquality("123456789027530863048.518518394", (e * 1000000000.123).toString());
+    assertEquality(true, e * 1000000000.123 > d);
+
+    assertEquality("6.6", decimal:sum(1.1, 2.2, 3.3).toString());
+    assertEquality("1.1", decimal:max(1.10, 1.1).toString());
+    assertEquality("-1.10", decimal:min(1, -1.10, -1.1).toString());
+}
+
 type AssertionError distinct error;
 
 const ASSERTION_ERROR_REASON = "AssertionError";
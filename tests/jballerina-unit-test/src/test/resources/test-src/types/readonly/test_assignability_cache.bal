@@ -0,0 +1,46 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Config record {|
+    readonly int id;
+    readonly string name;
+|};
+
+type MutableConfig record {|
+    int id;
+    string name;
+|};
+
+type IsolatedCounter isolated function () returns int;
+
+int count = 0;
+
+function increment() returns int {
+    count += 1;
+    return count;
+}
+
+function testReadOnlyRecord() returns boolean {
+    Config config = {id: 1, name: "config"};
+    readonly value = config;
+    return value is Config;
+}
+
+function testMutableRecord() returns boolean {
+    MutableConfig config = {id: 1, name: "config"};
+    any value = config;
+    return value is readonly;
+}
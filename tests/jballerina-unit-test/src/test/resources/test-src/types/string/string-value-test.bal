@@ -70,3 +70,23 @@ function anydataToStringCast() returns int {
     string k = <string> a;
     return k.length();
 }
+
+function concatLongStrings() returns int {
+    string s = "";
+    foreach int i in 0 ..< 500 {
+        s = s + "h😀llo";
+    }
+    string last = s.substring(2495, 2500);
+    if (last != "h😀llo" || s[2496] != "😀" || s.indexOf("llo", 3) != 7) {
+        panic error("invalid string value: " + last);
+    }
+    string t = s + s;
+    if (t.length() != 5000 || !t.startsWith(s) || t.lastIndexOf("h😀") != 4995) {
+        panic error("invalid string value");
+    }
+    return s.length();
+}
+
+function stringLength(string s) returns int {
+    return s.length();
+}